@@ -1,12 +1,19 @@
 package api.store.diglog.common.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -15,15 +22,35 @@ public class AsyncConfig {
 	private static final int MAX_POOL_SIZE = 8;
 	private static final int QUEUE_CAPACITY = 500;
 	private static final String THREAD_NAME_PREFIX = "diglog-sync-";
+	private static final String SYNC_EXECUTOR = "syncExecutor";
 
-	@Bean(name = "syncExecutor")
-	public Executor syncExecutor() {
+	@Bean(name = SYNC_EXECUTOR)
+	public Executor syncExecutor(MeterRegistry meterRegistry) {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(CORE_POOL_SIZE);
 		executor.setMaxPoolSize(MAX_POOL_SIZE);
 		executor.setQueueCapacity(QUEUE_CAPACITY);
 		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		executor.setRejectedExecutionHandler(countingCallerRunsPolicy(meterRegistry));
 		executor.initialize();
+
+		// 활성 스레드 수, 큐 길이, 완료 작업 수 등을 executor.* 메트릭으로 노출
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), SYNC_EXECUTOR, Tags.empty())
+			.bindTo(meterRegistry);
 		return executor;
 	}
+
+	// 큐가 가득 차면 작업을 버리지 않고 호출 스레드에서 실행해 제출 속도를 늦춘다.
+	private RejectedExecutionHandler countingCallerRunsPolicy(MeterRegistry meterRegistry) {
+		Counter rejectedCounter = Counter.builder("executor.rejected.caller.runs")
+			.description("큐가 가득 차 호출 스레드에서 실행된 작업 수")
+			.tag("name", SYNC_EXECUTOR)
+			.register(meterRegistry);
+		RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
+		return (runnable, threadPoolExecutor) -> {
+			rejectedCounter.increment();
+			callerRunsPolicy.rejectedExecution(runnable, threadPoolExecutor);
+		};
+	}
 }
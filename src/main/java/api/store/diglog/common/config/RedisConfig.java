@@ -3,6 +3,7 @@ package api.store.diglog.common.config;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +14,15 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import api.store.diglog.service.comment.cache.CommentCacheInvalidationSubscriber;
+import api.store.diglog.service.comment.cache.CommentPageCache;
 import api.store.diglog.service.notification.NotificationSubscriber;
+import api.store.diglog.service.post.cache.PostCacheInvalidationSubscriber;
+import api.store.diglog.service.post.cache.PostResponseCache;
+import api.store.diglog.service.post.search.PostIndexSubscriber;
+import api.store.diglog.service.post.search.PostIndexingPipeline;
+import api.store.diglog.service.tag.TagDictionary;
+import api.store.diglog.service.tag.TagDictionarySubscriber;
 
 @Configuration
 public class RedisConfig {
@@ -39,11 +48,23 @@ public class RedisConfig {
 	public RedisMessageListenerContainer container(
 		RedisConnectionFactory connectionFactory,
 		NotificationSubscriber notificationSubscriber,
-		ChannelTopic notificationTopic
+		ChannelTopic notificationTopic,
+		PostCacheInvalidationSubscriber postCacheInvalidationSubscriber,
+		TagDictionarySubscriber tagDictionarySubscriber,
+		CommentCacheInvalidationSubscriber commentCacheInvalidationSubscriber,
+		ObjectProvider<PostIndexSubscriber> postIndexSubscriber
 	) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
 		container.addMessageListener(notificationSubscriber, notificationTopic);
+		container.addMessageListener(postCacheInvalidationSubscriber,
+			new ChannelTopic(PostResponseCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(tagDictionarySubscriber, new ChannelTopic(TagDictionary.CHANNEL));
+		container.addMessageListener(commentCacheInvalidationSubscriber,
+			new ChannelTopic(CommentPageCache.INVALIDATION_CHANNEL));
+		// Lucene 검색 엔진을 사용할 때만 등록
+		postIndexSubscriber.ifAvailable(subscriber ->
+			container.addMessageListener(subscriber, new ChannelTopic(PostIndexingPipeline.CHANNEL)));
 		return container;
 	}
 
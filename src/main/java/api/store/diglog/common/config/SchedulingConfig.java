@@ -1,11 +1,25 @@
 package api.store.diglog.common.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 @Profile("!test")
 public class SchedulingConfig {
+
+	private static final int POOL_SIZE = 4;
+	private static final String THREAD_NAME_PREFIX = "diglog-scheduler-";
+
+	// 기본 스케줄러는 스레드가 하나라 오래 걸리는 작업(재색인, 피드 재구성 등)이 색인 갱신과 조회수 반영을 밀어낸다
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(POOL_SIZE);
+		scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		return scheduler;
+	}
 }
@@ -47,9 +47,11 @@ public class SecurityConfig {
 		String[] swaggerApi = {"/swagger-ui/**", "/bus/v3/api-docs/**", "/v3/api-docs/**"};
 		String[] memberApi = {"/api/member/login", "/api/member/logout", "/api/member/refresh", "/api/member/profile/*",
 			"/api/member/profile/search/*", "/api/verify/**"};
-		String[] postApi = {"/api/post/view/increment"};
-		String[] postGetApi = {"/api/post", "/api/post/*", "/api/post/member/tag", "/api/post/view/*"};
-		String[] commentGetApi = {"/api/comment"};
+		String[] postApi = {"/api/post/view/increment", "/api/post/view/batch"};
+		String[] postGetApi = {"/api/post", "/api/post/*", "/api/post/member/tag", "/api/post/view/*",
+			"/api/post/member/cursor", "/api/post/member/tag/cursor", "/api/post/search/cursor",
+			"/api/post/member/summary"};
+		String[] commentGetApi = {"/api/comment", "/api/comment/tree"};
 		String[] folderGetApi = {"/api/folders/**"};
 		String[] tagGetApi = {"/api/tag/**"};
 		String[] subscribeGetApi = {"/api/subscriptions/users/**", "/api/subscriptions/authors/**"};
@@ -35,6 +35,10 @@ public enum ErrorCode {
 	POST_DELETE_FAILED(FORBIDDEN, "게시글 삭제가 완료되지 않았습니다."),
 	POST_NO_PERMISSION(FORBIDDEN, "게시글 수정 권한이 없습니다."),
 	POST_INVALID_SEARCH_OPTION(BAD_REQUEST, "올바르지 않은 검색 옵션입니다."),
+	POST_VIEW_IDS_EMPTY(BAD_REQUEST, "조회수를 조회할 게시글 ID가 비어 있습니다."),
+	POST_VIEW_BATCH_SIZE_EXCEEDED(BAD_REQUEST, "한 번에 조회할 수 있는 게시글 수(%d개)를 초과했습니다."),
+	POST_INVALID_CURSOR(BAD_REQUEST, "올바르지 않은 커서입니다."),
+	POST_SEARCH_INDEX_FAILED(INTERNAL_SERVER_ERROR, "검색 색인 처리에 실패했습니다."),
 
 	// Folder
 	FOLDER_OVER_FLOW_DEPTH(BAD_REQUEST, "하위 폴더의 깊이는 %d까지 허용됩니다."),
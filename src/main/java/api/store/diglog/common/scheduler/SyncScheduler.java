@@ -1,9 +1,16 @@
 package api.store.diglog.common.scheduler;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import api.store.diglog.service.comment.CommentReplyCountReconciler;
 import api.store.diglog.service.post.PostService;
+import api.store.diglog.service.post.PostViewBuffer;
+import api.store.diglog.service.post.RedisPostViewLoader;
+import api.store.diglog.service.post.feed.PostHomeFeed;
+import api.store.diglog.service.post.search.PostIndexingPipeline;
+import api.store.diglog.service.tag.TagDictionary;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -11,9 +18,61 @@ import lombok.RequiredArgsConstructor;
 public class SyncScheduler {
 
 	private final PostService postService;
+	private final PostViewBuffer postViewBuffer;
+	private final RedisPostViewLoader redisPostViewLoader;
+	private final ObjectProvider<PostIndexingPipeline> postIndexingPipeline;
+	private final PostHomeFeed postHomeFeed;
+	private final TagDictionary tagDictionary;
+	private final CommentReplyCountReconciler commentReplyCountReconciler;
 
 	@Scheduled(fixedDelay = 300_000)
 	public void syncPostViewCount() {
 		postService.syncPostViewCountToDb();
 	}
+
+	@Scheduled(fixedDelayString = "${diglog.post.view.buffer.flush-interval-ms:1000}")
+	public void flushPostViewBuffer() {
+		postViewBuffer.flush();
+	}
+
+	// 기동 직후 한 번, 이후 주기적으로 조회수 상위 게시글을 예열
+	@Scheduled(initialDelay = 0, fixedDelayString = "${diglog.post.view.cache.warm-up.interval-ms:3600000}")
+	public void warmUpPostViewCache() {
+		redisPostViewLoader.warmUp();
+	}
+
+	// 기동 직후 한 번, 이후 주기적으로 홈 피드를 DB 기준으로 다시 만들어 증분 반영의 누락을 바로잡는다
+	@Scheduled(initialDelay = 0, fixedDelayString = "${diglog.post.feed.rebuild-interval-ms:600000}")
+	public void rebuildHomeFeed() {
+		postHomeFeed.rebuild();
+	}
+
+	// 기동 직후 한 번, 이후 주기적으로 Redis 해시에서 태그 사전을 다시 읽어 유실된 pub/sub 메시지를 바로잡는다
+	@Scheduled(initialDelay = 0, fixedDelayString = "${diglog.tag.dictionary.sync-interval-ms:300000}")
+	public void syncTagDictionary() {
+		tagDictionary.sync();
+	}
+
+	// 기동 직후 한 번 (컬럼 추가 직후의 기존 댓글 포함), 이후 주기적으로 댓글 답글 수의 어긋남을 바로잡는다
+	@Scheduled(initialDelay = 0, fixedDelayString = "${diglog.comment.reply-count.reconcile-interval-ms:3600000}")
+	public void reconcileCommentReplyCounts() {
+		commentReplyCountReconciler.reconcile();
+	}
+
+	// Lucene 검색 엔진을 사용할 때만 동작
+	@Scheduled(fixedDelayString = "${diglog.post.search.lucene.refresh-interval-ms:300}")
+	public void indexPosts() {
+		postIndexingPipeline.ifAvailable(PostIndexingPipeline::flush);
+	}
+
+	@Scheduled(fixedDelayString = "${diglog.post.search.lucene.commit-interval-ms:30000}")
+	public void commitPostIndex() {
+		postIndexingPipeline.ifAvailable(PostIndexingPipeline::commit);
+	}
+
+	// 다른 노드의 알림이 유실되었거나 재시작 전에 반영하지 못한 게시글 변경을 DB 기준으로 따라잡는다
+	@Scheduled(fixedDelayString = "${diglog.post.search.lucene.catch-up-interval-ms:600000}")
+	public void catchUpPostIndex() {
+		postIndexingPipeline.ifAvailable(PostIndexingPipeline::catchUp);
+	}
 }
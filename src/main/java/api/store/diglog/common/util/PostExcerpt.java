@@ -0,0 +1,40 @@
+package api.store.diglog.common.util;
+
+import java.util.regex.Pattern;
+
+// 목록 카드에 보여줄 본문 요약, 마크다운과 HTML을 걷어낸 평문 앞부분
+public class PostExcerpt {
+
+	public static final int MAX_LENGTH = 200;
+
+	private static final String ELLIPSIS = "...";
+	private static final Pattern CODE_BLOCK = Pattern.compile("```[\\s\\S]*?(```|$)");
+	private static final Pattern IMAGE = Pattern.compile("!\\[[^\\]]*\\]\\([^)]*\\)");
+	private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)\\]\\([^)]*\\)");
+	private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+	private static final Pattern MARKDOWN_SYMBOL = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+|[*~`]");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private PostExcerpt() {
+	}
+
+	public static String from(String content) {
+		if (content == null || content.isBlank()) {
+			return "";
+		}
+
+		String text = CODE_BLOCK.matcher(content).replaceAll(" ");
+		text = IMAGE.matcher(text).replaceAll(" ");
+		text = LINK.matcher(text).replaceAll("$1");
+		text = HTML_TAG.matcher(text).replaceAll(" ");
+		text = MARKDOWN_SYMBOL.matcher(text).replaceAll("");
+		text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+
+		if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+			return text;
+		}
+		// 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준으로 자른다
+		int end = text.offsetByCodePoints(0, MAX_LENGTH - ELLIPSIS.length());
+		return text.substring(0, end).stripTrailing() + ELLIPSIS;
+	}
+}
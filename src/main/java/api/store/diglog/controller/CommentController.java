@@ -4,7 +4,10 @@ import api.store.diglog.model.dto.comment.CommentCreateResponse;
 import api.store.diglog.model.dto.comment.CommentListRequest;
 import api.store.diglog.model.dto.comment.CommentRequest;
 import api.store.diglog.model.dto.comment.CommentResponse;
+import api.store.diglog.model.dto.comment.CommentTreeRequest;
+import api.store.diglog.model.dto.comment.CommentTreeResponse;
 import api.store.diglog.model.dto.comment.CommentUpdateRequest;
+import api.store.diglog.model.vo.comment.CommentTreeVO;
 import api.store.diglog.service.CommentService;
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +42,15 @@ public class CommentController {
 		return ResponseEntity.ok().body(comments);
 	}
 
+	// 같은 ETag로 다시 요청하면 본문 없이 304를 응답한다
+	@GetMapping("/tree")
+	public ResponseEntity<Page<CommentTreeResponse>> getCommentTree(
+		@ParameterObject @ModelAttribute CommentTreeRequest commentTreeRequest) {
+		CommentTreeVO commentTree = commentService.getCommentTree(commentTreeRequest);
+
+		return ResponseEntity.ok().eTag(commentTree.getVersion()).body(commentTree.getComments());
+	}
+
 	@PatchMapping
 	public ResponseEntity<Void> update(@RequestBody CommentUpdateRequest commentUpdateRequest) {
 		commentService.update(commentUpdateRequest);
@@ -1,5 +1,6 @@
 package api.store.diglog.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springdoc.core.annotations.ParameterObject;
@@ -21,7 +22,10 @@ import api.store.diglog.model.dto.post.PostListMemberTagRequest;
 import api.store.diglog.model.dto.post.PostListSearchRequest;
 import api.store.diglog.model.dto.post.PostRequest;
 import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.dto.post.PostSliceResponse;
+import api.store.diglog.model.dto.post.PostSummaryResponse;
 import api.store.diglog.model.dto.post.PostUpdateRequest;
+import api.store.diglog.model.dto.post.PostViewBatchRequest;
 import api.store.diglog.model.dto.post.PostViewIncrementRequest;
 import api.store.diglog.model.dto.post.PostViewResponse;
 import api.store.diglog.service.post.PostService;
@@ -72,6 +76,22 @@ public class PostController {
 		return ResponseEntity.ok().body(postResponses);
 	}
 
+	@GetMapping("/summary")
+	public ResponseEntity<Page<PostSummaryResponse>> getPostSummaries(
+		@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
+		Page<PostSummaryResponse> postSummaryResponses = postService.getPostSummaries(postListSearchRequest);
+
+		return ResponseEntity.ok().body(postSummaryResponses);
+	}
+
+	@GetMapping("/member/summary")
+	public ResponseEntity<Page<PostSummaryResponse>> getMemberPostSummaries(
+		@ParameterObject @ModelAttribute PostListMemberRequest postListMemberRequest) {
+		Page<PostSummaryResponse> postSummaryResponses = postService.getMemberPostSummaries(postListMemberRequest);
+
+		return ResponseEntity.ok().body(postSummaryResponses);
+	}
+
 	@GetMapping("/member")
 	public ResponseEntity<Page<PostResponse>> getMemberPosts(
 		@ParameterObject @ModelAttribute PostListMemberRequest postListMemberRequest) {
@@ -96,6 +116,38 @@ public class PostController {
 		return ResponseEntity.ok().body(postResponses);
 	}
 
+	@GetMapping("/cursor")
+	public ResponseEntity<PostSliceResponse> getPostsByCursor(
+		@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
+		PostSliceResponse postSliceResponse = postService.getPostsByCursor(postListSearchRequest);
+
+		return ResponseEntity.ok().body(postSliceResponse);
+	}
+
+	@GetMapping("/member/cursor")
+	public ResponseEntity<PostSliceResponse> getMemberPostsByCursor(
+		@ParameterObject @ModelAttribute PostListMemberRequest postListMemberRequest) {
+		PostSliceResponse postSliceResponse = postService.getMemberPostsByCursor(postListMemberRequest);
+
+		return ResponseEntity.ok().body(postSliceResponse);
+	}
+
+	@GetMapping("/member/tag/cursor")
+	public ResponseEntity<PostSliceResponse> getMemberTagPostsByCursor(
+		@ParameterObject @ModelAttribute PostListMemberTagRequest postListMemberTagRequest) {
+		PostSliceResponse postSliceResponse = postService.getMemberTagPostsByCursor(postListMemberTagRequest);
+
+		return ResponseEntity.ok().body(postSliceResponse);
+	}
+
+	@GetMapping("/search/cursor")
+	public ResponseEntity<PostSliceResponse> searchPostsByCursor(
+		@ParameterObject @ModelAttribute PostListSearchRequest postListSearchRequest) {
+		PostSliceResponse postSliceResponse = postService.searchPostsByCursor(postListSearchRequest);
+
+		return ResponseEntity.ok().body(postSliceResponse);
+	}
+
 	@PatchMapping("/delete/{id}")
 	public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
 		postService.delete(id);
@@ -122,4 +174,10 @@ public class PostController {
 		PostViewResponse postViewResponse = postService.getViewCount(id);
 		return ResponseEntity.ok().body(postViewResponse);
 	}
+
+	@PostMapping("/view/batch")
+	public ResponseEntity<List<PostViewResponse>> getPostViews(@RequestBody PostViewBatchRequest postViewBatchRequest) {
+		List<PostViewResponse> postViewResponses = postService.getViewCounts(postViewBatchRequest);
+		return ResponseEntity.ok().body(postViewResponses);
+	}
 }
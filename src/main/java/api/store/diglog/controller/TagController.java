@@ -1,6 +1,6 @@
 package api.store.diglog.controller;
 
-import api.store.diglog.model.dto.tag.TagResponse;
+import api.store.diglog.model.dto.tag.MemberTagResponse;
 import api.store.diglog.service.TagService;
 import lombok.RequiredArgsConstructor;
 
@@ -20,9 +20,9 @@ public class TagController {
 	private final TagService tagService;
 
 	@GetMapping("/{username}")
-	public ResponseEntity<List<TagResponse>> getMemberTags(@PathVariable("username") String username) {
-		List<TagResponse> tagResponses = tagService.getMemberTags(username);
+	public ResponseEntity<List<MemberTagResponse>> getMemberTags(@PathVariable("username") String username) {
+		List<MemberTagResponse> memberTagResponses = tagService.getMemberTags(username);
 
-		return ResponseEntity.ok().body(tagResponses);
+		return ResponseEntity.ok().body(memberTagResponses);
 	}
 }
@@ -0,0 +1,17 @@
+package api.store.diglog.model.dto.comment;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentTreeRequest {
+
+	private UUID postId;
+	private int page;
+	private int size;
+}
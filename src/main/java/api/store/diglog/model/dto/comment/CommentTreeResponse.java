@@ -0,0 +1,24 @@
+package api.store.diglog.model.dto.comment;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentTreeResponse {
+
+	private UUID id;
+	private CommentMember member;
+	private String content;
+	private String taggedUsername;
+	private LocalDateTime createdAt;
+	private int replyCount;
+	@Builder.Default
+	private List<CommentTreeResponse> replies = new ArrayList<>();
+}
@@ -16,4 +16,6 @@ public class PostListMemberRequest {
 	private List<UUID> folderIds;
 	private int page;
 	private int size;
+	private String cursor;
+	private Boolean withTotalCount;
 }
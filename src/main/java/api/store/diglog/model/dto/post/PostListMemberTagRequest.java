@@ -15,4 +15,6 @@ public class PostListMemberTagRequest {
 	private UUID tagId;
 	private int page;
 	private int size;
+	private String cursor;
+	private Boolean withTotalCount;
 }
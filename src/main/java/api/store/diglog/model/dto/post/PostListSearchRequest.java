@@ -18,4 +18,6 @@ public class PostListSearchRequest {
 	private int page;
 	private int size;
 	private Boolean isDescending;
+	private String cursor;
+	private Boolean withTotalCount;
 }
@@ -3,6 +3,7 @@ package api.store.diglog.model.dto.post;
 import api.store.diglog.model.dto.folder.FolderPostResponse;
 import api.store.diglog.model.dto.tag.TagResponse;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostDetailVO;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -40,4 +41,28 @@ public class PostResponse {
 				.build();
 		}
 	}
+
+	// 이미 읽은 게시글에 작성자, 폴더, 태그 행을 붙인다, details는 같은 게시글의 행으로 비어 있지 않다
+	public PostResponse(Post post, List<PostDetailVO> details) {
+		PostDetailVO detail = details.getFirst();
+		this.id = post.getId();
+		this.title = post.getTitle();
+		this.content = post.getContent();
+		this.username = detail.getUsername();
+		this.tags = details.stream()
+			.filter(tagDetail -> tagDetail.getTagId() != null)
+			.map(tagDetail -> TagResponse.builder()
+				.id(tagDetail.getTagId())
+				.name(tagDetail.getTagName())
+				.build())
+			.toList();
+		this.createdAt = post.getCreatedAt();
+
+		if (detail.getFolderId() != null) {
+			this.folder = FolderPostResponse.builder()
+				.id(detail.getFolderId())
+				.title(detail.getFolderTitle())
+				.build();
+		}
+	}
 }
@@ -0,0 +1,21 @@
+package api.store.diglog.model.dto.post;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSliceResponse {
+
+	private List<PostResponse> content;
+	private String nextCursor;
+	private boolean hasNext;
+	private Long totalCount;
+}
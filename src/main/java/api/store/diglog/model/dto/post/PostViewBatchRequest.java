@@ -0,0 +1,20 @@
+package api.store.diglog.model.dto.post;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PostViewBatchRequest {
+
+	private List<UUID> postIds;
+
+}
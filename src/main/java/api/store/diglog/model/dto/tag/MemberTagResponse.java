@@ -0,0 +1,23 @@
+package api.store.diglog.model.dto.tag;
+
+import api.store.diglog.model.vo.tag.TagCountVO;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberTagResponse {
+
+	private UUID id;
+	private String name;
+	private long postCount;
+
+	public MemberTagResponse(TagCountVO tagCountVO) {
+		this.id = tagCountVO.getTagId();
+		this.name = tagCountVO.getTagName();
+		this.postCount = tagCountVO.getPostCount();
+	}
+}
@@ -3,6 +3,7 @@ package api.store.diglog.model.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,6 +15,12 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+	@Index(name = "idx_comment_post_root_created_at", columnList = "post_id, root_id, created_at"),
+	// 회원 정보가 바뀔 때 댓글 캐시를 지울 게시글 조회
+	@Index(name = "idx_comment_member_post", columnList = "member_id, post_id"),
+	@Index(name = "idx_comment_tagged_member_post", columnList = "tagged_member_id, post_id")
+})
 public class Comment {
 
 	@Id
@@ -37,10 +44,24 @@ public class Comment {
 	@Column(nullable = false, columnDefinition = "boolean default false")
 	private boolean isDeleted;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "parent_id")
 	private Comment parentComment;
 
+	// 최상위 댓글은 0, 작성 시점에 부모 depth + 1로 정한다
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private int depth;
+
+	// 스레드의 최상위 댓글 id, 최상위 댓글은 null
+	@Column
+	private UUID rootId;
+
+	// 삭제되지 않은 답글 수, 답글 작성/삭제 시 UPDATE로 증감하고 주기적으로 실제 개수와 맞춘다
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private int replyCount;
+
 	@CreatedDate
 	private LocalDateTime createdAt;
 
@@ -49,18 +70,24 @@ public class Comment {
 
 	@Builder
 	public Comment(UUID id, Post post, Member member, String content, boolean isDeleted, Comment parentComment,
-		Member taggedMember, LocalDateTime createdAt, LocalDateTime updatedAt) {
+		int depth, UUID rootId, Member taggedMember, LocalDateTime createdAt, LocalDateTime updatedAt) {
 		this.id = id;
 		this.post = post;
 		this.member = member;
 		this.content = content;
 		this.isDeleted = isDeleted;
 		this.parentComment = parentComment;
+		this.depth = depth;
+		this.rootId = rootId;
 		this.taggedMember = taggedMember;
 		this.createdAt = createdAt;
 		this.updatedAt = updatedAt;
 	}
 
+	public UUID getThreadRootId() {
+		return rootId != null ? rootId : id;
+	}
+
 	public void updateContent(String content) {
 		this.content = content;
 	}
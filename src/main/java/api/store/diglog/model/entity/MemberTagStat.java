@@ -0,0 +1,29 @@
+package api.store.diglog.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원이 삭제되지 않은 게시글에 붙인 태그별 게시글 수, 게시글 저장/수정/삭제 트랜잭션에서 함께 갱신한다
+@Entity
+@Table(name = "member_tag_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberTagStat {
+
+	@EmbeddedId
+	private MemberTagStatId id;
+
+	@Column(nullable = false)
+	private long postCount;
+
+	public void addPostCount(long delta) {
+		this.postCount += delta;
+	}
+}
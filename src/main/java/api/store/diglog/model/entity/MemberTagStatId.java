@@ -0,0 +1,27 @@
+package api.store.diglog.model.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// (member_id, tag_id) 순서의 기본 키로 회원별 태그 통계를 범위 조회한다
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberTagStatId implements Serializable {
+
+	@Column(name = "member_id")
+	private UUID memberId;
+
+	@Column(name = "tag_id")
+	private UUID tagId;
+}
@@ -9,6 +9,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import api.store.diglog.common.util.PostExcerpt;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -16,10 +18,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,6 +31,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+	indexes = {
+		@Index(name = "idx_post_member_deleted_created_at_id", columnList = "member_id, is_deleted, created_at, id"),
+		@Index(name = "idx_post_member_folder_deleted_created_at_id",
+			columnList = "member_id, folder_id, is_deleted, created_at, id"),
+		// 조회수 캐시 예열의 조회수 상위 게시글 조회
+		@Index(name = "idx_post_deleted_view_count", columnList = "is_deleted, view_count"),
+		// 검색 색인 따라잡기의 수정 시각 범위 조회
+		@Index(name = "idx_post_updated_at", columnList = "updated_at")
+	}
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -58,6 +73,10 @@ public class Post {
 	@Column(nullable = false, columnDefinition = "TEXT")
 	private String content;
 
+	// 목록 조회가 본문을 읽지 않도록 저장 시점에 만든 평문 요약
+	@Column(length = PostExcerpt.MAX_LENGTH)
+	private String excerpt;
+
 	@Column(nullable = false)
 	@ColumnDefault("1")
 	@Builder.Default
@@ -72,6 +91,15 @@ public class Post {
 	@LastModifiedDate
 	private LocalDateTime updatedAt;
 
+	// 조회수와 삭제 여부는 그대로 두고 작성자가 수정하는 필드만 바꾼다
+	public void update(String title, String content, Folder folder, List<Tag> tags) {
+		this.title = title;
+		this.content = content;
+		this.excerpt = PostExcerpt.from(content);
+		this.folder = folder;
+		this.tags = tags;
+	}
+
 	public void updateFolder(Folder folder) {
 		this.folder = folder;
 	}
@@ -0,0 +1,23 @@
+package api.store.diglog.model.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// STAGING_UPSERT 엔진이 조회수 증가분을 적재했다가 post에 반영하는 테이블 (트랜잭션 종료 시 비어있다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewDeltaStaging {
+
+	@Id
+	private UUID postId;
+
+	@Column(nullable = false)
+	private long viewCountDelta;
+}
@@ -0,0 +1,19 @@
+package api.store.diglog.model.vo.comment;
+
+import java.util.List;
+
+import api.store.diglog.model.dto.comment.CommentResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 캐시에 담는 댓글 목록 한 페이지
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentPageVO {
+
+	private List<CommentResponse> content;
+	private long totalElements;
+}
@@ -0,0 +1,14 @@
+package api.store.diglog.model.vo.comment;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentReplyCountVO {
+
+	private UUID parentCommentId;
+	private long replyCount;
+}
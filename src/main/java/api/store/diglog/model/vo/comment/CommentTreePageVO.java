@@ -0,0 +1,20 @@
+package api.store.diglog.model.vo.comment;
+
+import java.util.List;
+
+import api.store.diglog.model.dto.comment.CommentTreeResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 캐시에 담는 댓글 트리 한 페이지
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentTreePageVO {
+
+	private List<CommentTreeResponse> content;
+	private long totalElements;
+	private String version;
+}
@@ -0,0 +1,16 @@
+package api.store.diglog.model.vo.comment;
+
+import org.springframework.data.domain.Page;
+
+import api.store.diglog.model.dto.comment.CommentTreeResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentTreeVO {
+
+	private Page<CommentTreeResponse> comments;
+	// 응답에 담긴 댓글과 작성자 정보로 만든 ETag 값
+	private String version;
+}
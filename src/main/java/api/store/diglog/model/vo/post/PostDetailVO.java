@@ -0,0 +1,19 @@
+package api.store.diglog.model.vo.post;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 응답에 붙일 작성자, 폴더, 태그, 게시글마다 태그 수만큼 (태그가 없으면 한) 행이 나온다
+@Getter
+@AllArgsConstructor
+public class PostDetailVO {
+
+	private UUID postId;
+	private String username;
+	private UUID folderId;
+	private String folderTitle;
+	private UUID tagId;
+	private String tagName;
+}
@@ -0,0 +1,20 @@
+package api.store.diglog.model.vo.post;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostSummaryVO {
+
+	private UUID id;
+	private String title;
+	private String excerpt;
+	private String username;
+	private UUID folderId;
+	private String folderTitle;
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package api.store.diglog.model.vo.post;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostTagVO {
+
+	private UUID postId;
+	private UUID tagId;
+	private String tagName;
+}
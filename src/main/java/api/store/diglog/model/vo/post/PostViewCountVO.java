@@ -0,0 +1,14 @@
+package api.store.diglog.model.vo.post;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostViewCountVO {
+
+	private UUID postId;
+	private long viewCount;
+}
@@ -0,0 +1,15 @@
+package api.store.diglog.model.vo.tag;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagCountVO {
+
+	private UUID tagId;
+	private String tagName;
+	private long postCount;
+}
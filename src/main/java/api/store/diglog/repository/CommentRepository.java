@@ -2,13 +2,20 @@ package api.store.diglog.repository;
 
 import api.store.diglog.model.entity.Comment;
 import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.vo.comment.CommentReplyCountVO;
+import api.store.diglog.model.vo.comment.CommentStoredReplyCountVO;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,20 +25,71 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
 	Optional<Comment> findByIdAndIsDeletedFalse(UUID id);
 
-	int countByParentCommentIdAndIsDeletedFalse(UUID parentCommentId);
-
-	// parentId의 depth를 재귀로 계산, maxDepth 이상인 경우 탐색을 종료하고 maxDepth를 리턴
-	@Query(value = """
-		WITH RECURSIVE CommentTree AS (
-		SELECT id, parent_id, 0 AS depth FROM comment
-		WHERE id = :parentCommentId
-		UNION ALL
-		SELECT c.id, c.parent_id, ct.depth + 1 FROM comment c
-		INNER JOIN CommentTree ct ON c.id = ct.parent_id
-		WHERE ct.depth < :maxDepth)
-		SELECT MAX(depth) FROM CommentTree
-		""", nativeQuery = true)
-	int getDepthByParentCommentId(@Param("parentCommentId") UUID parentCommentId, @Param("maxDepth") int maxDepth);
+	// 댓글 페이지의 답글 수를 GROUP BY 한 번으로 센다, 답글이 없는 댓글은 결과에 없다
+	@Query("""
+		SELECT new api.store.diglog.model.vo.comment.CommentReplyCountVO(c.parentComment.id, COUNT(c))
+		FROM Comment c
+		WHERE c.parentComment.id IN :parentCommentIds AND c.isDeleted = false
+		GROUP BY c.parentComment.id
+		""")
+	List<CommentReplyCountVO> countRepliesByParentCommentIdIn(
+		@Param("parentCommentIds") Collection<UUID> parentCommentIds);
 
 	Page<Comment> findByPostIdAndParentCommentIdAndIsDeletedFalse(UUID postId, UUID parentId, Pageable pageable);
+
+	// 회원이 작성한 댓글이 있는 게시글, (member_id, post_id) 인덱스만 읽는다
+	@Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.member.id = :memberId")
+	List<UUID> findPostIdsByMemberId(@Param("memberId") UUID memberId);
+
+	// 회원이 태그된 댓글이 있는 게시글, (tagged_member_id, post_id) 인덱스만 읽는다
+	@Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.taggedMember.id = :memberId")
+	List<UUID> findPostIdsByTaggedMemberId(@Param("memberId") UUID memberId);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :id")
+	int addReplyCount(@Param("id") UUID id, @Param("delta") int delta);
+
+	// id 순서로 저장된 답글 수를 읽는다, 첫 구간은 기준 id 없이 조회한다
+	@Query("""
+		SELECT new api.store.diglog.model.vo.comment.CommentStoredReplyCountVO(c.id, c.replyCount)
+		FROM Comment c
+		ORDER BY c.id
+		""")
+	List<CommentStoredReplyCountVO> findReplyCounts(Limit limit);
+
+	@Query("""
+		SELECT new api.store.diglog.model.vo.comment.CommentStoredReplyCountVO(c.id, c.replyCount)
+		FROM Comment c
+		WHERE c.id > :id
+		ORDER BY c.id
+		""")
+	List<CommentStoredReplyCountVO> findReplyCountsAfter(@Param("id") UUID id, Limit limit);
+
+	// 읽은 뒤 답글이 작성/삭제되어 값이 바뀌었으면 덮어쓰지 않는다
+	@Modifying
+	@Transactional
+	@Query("UPDATE Comment c SET c.replyCount = :replyCount WHERE c.id = :id AND c.replyCount = :expected")
+	int updateReplyCount(@Param("id") UUID id, @Param("expected") int expected, @Param("replyCount") int replyCount);
+
+	// 여러 스레드의 답글을 (post_id, root_id) 인덱스 범위로 한 번에 읽는다, 부모가 항상 자식보다 앞에 온다
+	@Query("""
+		SELECT c FROM Comment c
+		WHERE c.post.id = :postId AND c.rootId IN :rootIds AND c.isDeleted = false
+		ORDER BY c.depth, c.createdAt
+		""")
+	List<Comment> findRepliesByPostIdAndRootIdIn(@Param("postId") UUID postId,
+		@Param("rootIds") Collection<UUID> rootIds);
+
+	// 부모의 depth와 rootId가 이미 채워진 답글만 고른다, 위 단계부터 차례로 채워진다
+	@Query("""
+		SELECT c FROM Comment c JOIN FETCH c.parentComment p
+		WHERE c.rootId IS NULL AND (p.parentComment IS NULL OR p.rootId IS NOT NULL)
+		""")
+	List<Comment> findAllByThreadNotFilled(Limit limit);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Comment c SET c.depth = :depth, c.rootId = :rootId WHERE c.id = :id")
+	int updateThread(@Param("id") UUID id, @Param("depth") int depth, @Param("rootId") UUID rootId);
 }
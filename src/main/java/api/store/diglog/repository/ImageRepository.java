@@ -5,6 +5,7 @@ import api.store.diglog.model.entity.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,6 +13,8 @@ public interface ImageRepository extends JpaRepository<Image, UUID> {
 
 	List<Image> findByRefId(UUID refId);
 
+	List<Image> findAllByRefIdIn(Collection<UUID> refIds);
+
 	void deleteAllByRefIdAndUrlIn(@Param("refId") UUID refId, @Param("urls") List<String> urls);
 
 	List<Image> deleteAllByRefId(UUID refId);
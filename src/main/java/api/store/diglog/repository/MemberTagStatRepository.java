@@ -0,0 +1,64 @@
+package api.store.diglog.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import api.store.diglog.model.entity.MemberTagStat;
+import api.store.diglog.model.entity.MemberTagStatId;
+import api.store.diglog.model.vo.tag.TagCountVO;
+
+public interface MemberTagStatRepository extends JpaRepository<MemberTagStat, MemberTagStatId> {
+
+	// 기본 키 (member_id, tag_id) 범위 조회 후 태그를 기본 키로 붙인다
+	@Query("""
+		SELECT new api.store.diglog.model.vo.tag.TagCountVO(t.id, t.name, s.postCount)
+		FROM MemberTagStat s
+		JOIN Member m ON m.id = s.id.memberId
+		JOIN Tag t ON t.id = s.id.tagId
+		WHERE m.username = :username
+		ORDER BY t.name
+		""")
+	List<TagCountVO> findTagCountsByUsername(@Param("username") String username);
+
+	// 행이 없을 때 동시에 들어와도 기본 키 충돌 없이 한 문장으로 더한다
+	@Modifying
+	@Query(value = """
+		INSERT INTO member_tag_stats (member_id, tag_id, post_count) VALUES (:memberId, :tagId, 1)
+		ON DUPLICATE KEY UPDATE post_count = post_count + 1
+		""", nativeQuery = true)
+	int increment(@Param("memberId") UUID memberId, @Param("tagId") UUID tagId);
+
+	@Modifying
+	@Query("""
+		UPDATE MemberTagStat s SET s.postCount = s.postCount - 1
+		WHERE s.id.memberId = :memberId AND s.id.tagId IN :tagIds
+		""")
+	int decrement(@Param("memberId") UUID memberId, @Param("tagIds") Collection<UUID> tagIds);
+
+	@Modifying
+	@Query("""
+		DELETE FROM MemberTagStat s
+		WHERE s.id.memberId = :memberId AND s.id.tagId IN :tagIds AND s.postCount <= 0
+		""")
+	int deleteEmpty(@Param("memberId") UUID memberId, @Param("tagIds") Collection<UUID> tagIds);
+
+	@Modifying
+	@Transactional
+	@Query(value = """
+		INSERT INTO member_tag_stats (member_id, tag_id, post_count)
+		SELECT p.member_id, pt.tag_id, COUNT(*)
+		FROM post p
+		JOIN post_tag pt ON pt.post_id = p.id
+		WHERE p.is_deleted = false
+		GROUP BY p.member_id, pt.tag_id
+		ON DUPLICATE KEY UPDATE post_count = VALUES(post_count)
+		""", nativeQuery = true)
+	int insertFromPosts();
+}
@@ -1,17 +1,29 @@
 package api.store.diglog.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostDetailVO;
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.model.vo.post.PostTagVO;
+import api.store.diglog.model.vo.post.PostViewCountVO;
 
 public interface PostRepository extends JpaRepository<Post, UUID> {
 
@@ -34,8 +46,250 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 
 	Page<Post> findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(String username, UUID tagId, Pageable pageable);
 
+	// (member_id, is_deleted, created_at, id) 인덱스만으로 정렬과 페이징을 끝내고 ID만 반환한다
+	@Query(value = "SELECT p.id FROM Post p WHERE p.member.id = :memberId AND p.isDeleted = false",
+		countQuery = "SELECT COUNT(p.id) FROM Post p WHERE p.member.id = :memberId AND p.isDeleted = false")
+	Page<UUID> findIdsByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+	// (member_id, folder_id, is_deleted, created_at, id) 인덱스를 사용
+	@Query(value = """
+		SELECT p.id FROM Post p
+		WHERE p.member.id = :memberId AND p.folder.id IN :folderIds AND p.isDeleted = false
+		""", countQuery = """
+		SELECT COUNT(p.id) FROM Post p
+		WHERE p.member.id = :memberId AND p.folder.id IN :folderIds AND p.isDeleted = false
+		""")
+	Page<UUID> findIdsByMemberIdAndFolderIdIn(@Param("memberId") UUID memberId,
+		@Param("folderIds") List<UUID> folderIds, Pageable pageable);
+
+	// 태그 사전에서 찾은 태그 ID로 검색, 여러 태그가 붙은 게시글도 한 번만 반환하도록 세미 조인으로 거른다
+	@Query(value = """
+		SELECT p FROM Post p
+		WHERE p.isDeleted = false AND p.id IN (SELECT tp.id FROM Post tp JOIN tp.tags t WHERE t.id IN :tagIds)
+		""", countQuery = """
+		SELECT COUNT(p) FROM Post p
+		WHERE p.isDeleted = false AND p.id IN (SELECT tp.id FROM Post tp JOIN tp.tags t WHERE t.id IN :tagIds)
+		""")
+	Page<Post> findAllByTagIdIn(@Param("tagIds") Collection<UUID> tagIds, Pageable pageable);
+
+	@Query("""
+		SELECT p FROM Post p
+		WHERE p.isDeleted = false AND p.id IN (SELECT tp.id FROM Post tp JOIN tp.tags t WHERE t.id IN :tagIds)
+			AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+		ORDER BY p.createdAt DESC, p.id DESC
+		""")
+	List<Post> scrollByTagIdIn(@Param("tagIds") Collection<UUID> tagIds, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id, Limit limit);
+
+	// 예열은 조회수만 필요하므로 본문 없이 (id, view_count)만 읽는다, (is_deleted, view_count) 인덱스 순서
+	@Query("""
+		SELECT new api.store.diglog.model.vo.post.PostViewCountVO(p.id, p.viewCount)
+		FROM Post p
+		WHERE p.isDeleted = false
+		ORDER BY p.viewCount DESC
+		""")
+	List<PostViewCountVO> findTopViewCounts(Limit limit);
+
+	// keyset(cursor) 페이지네이션, 정렬 조건의 마지막 키 다음부터 조회
+	Window<Post> findAllByIsDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+	Window<Post> findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(String title, ScrollPosition position, Sort sort,
+		Limit limit);
+
+	Window<Post> findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(String tagName, ScrollPosition position,
+		Sort sort, Limit limit);
+
+	Window<Post> findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(String title,
+		String tagName, ScrollPosition position, Sort sort, Limit limit);
+
+	Window<Post> findAllByMemberIdAndIsDeletedFalse(UUID memberId, ScrollPosition position, Sort sort, Limit limit);
+
+	Window<Post> findAllByMemberIdAndFolderIdInAndIsDeletedFalse(UUID memberId, List<UUID> folderIds,
+		ScrollPosition position, Sort sort, Limit limit);
+
+	Window<Post> findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(String username, UUID tagId,
+		ScrollPosition position, Sort sort, Limit limit);
+
+	long countByIsDeletedFalse();
+
+	long countByMemberIdAndIsDeletedFalse(UUID memberId);
+
+	long countByMemberIdAndFolderIdInAndIsDeletedFalse(UUID memberId, List<UUID> folderIds);
+
+	long countByMemberUsernameAndTagsIdAndIsDeletedFalse(String username, UUID tagId);
+
 	List<Post> findAllByIdInAndMemberId(List<UUID> ids, UUID memberId);
 
+	@Query(value = """
+		SELECT p.* FROM post p
+		LEFT JOIN (
+			SELECT pt.post_id, MAX(MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)) AS tag_score
+			FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+			WHERE MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)
+			GROUP BY pt.post_id
+		) ts ON ts.post_id = p.id
+		WHERE p.is_deleted = false
+			AND (MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE) OR ts.post_id IS NOT NULL)
+		ORDER BY MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE) * 2
+			+ MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)
+			+ COALESCE(ts.tag_score, 0) * 3 DESC, p.created_at DESC, p.id DESC
+		""", countQuery = """
+		SELECT COUNT(*) FROM post p
+		WHERE p.is_deleted = false
+			AND (MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)
+				OR EXISTS (SELECT 1 FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+					WHERE pt.post_id = p.id AND MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)))
+		""", nativeQuery = true)
+	Page<Post> searchAllByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = """
+		SELECT p.* FROM post p
+		WHERE p.is_deleted = false AND MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE)
+		ORDER BY MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE) DESC, p.created_at DESC, p.id DESC
+		""", countQuery = """
+		SELECT COUNT(*) FROM post p
+		WHERE p.is_deleted = false AND MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE)
+		""", nativeQuery = true)
+	Page<Post> searchTitleByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = """
+		SELECT p.* FROM post p
+		JOIN (
+			SELECT pt.post_id, MAX(MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)) AS tag_score
+			FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+			WHERE MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)
+			GROUP BY pt.post_id
+		) ts ON ts.post_id = p.id
+		WHERE p.is_deleted = false
+		ORDER BY ts.tag_score DESC, p.created_at DESC, p.id DESC
+		""", countQuery = """
+		SELECT COUNT(DISTINCT p.id) FROM post p
+		JOIN post_tag pt ON pt.post_id = p.id JOIN tag t ON t.id = pt.tag_id
+		WHERE p.is_deleted = false AND MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)
+		""", nativeQuery = true)
+	Page<Post> searchTagByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+	@Query(value = """
+		SELECT p.* FROM post p
+		WHERE p.is_deleted = false
+			AND (MATCH(p.title, p.content) AGAINST(:keyword IN BOOLEAN MODE)
+				OR EXISTS (SELECT 1 FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+					WHERE pt.post_id = p.id AND MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE)))
+			AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id))
+		ORDER BY p.created_at DESC, p.id DESC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Post> scrollAllByFullText(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id, @Param("limit") int limit);
+
+	@Query(value = """
+		SELECT p.* FROM post p
+		WHERE p.is_deleted = false AND MATCH(p.title) AGAINST(:keyword IN BOOLEAN MODE)
+			AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id))
+		ORDER BY p.created_at DESC, p.id DESC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Post> scrollTitleByFullText(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id, @Param("limit") int limit);
+
+	@Query(value = """
+		SELECT p.* FROM post p
+		WHERE p.is_deleted = false
+			AND EXISTS (SELECT 1 FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+				WHERE pt.post_id = p.id AND MATCH(t.name) AGAINST(:keyword IN BOOLEAN MODE))
+			AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id))
+		ORDER BY p.created_at DESC, p.id DESC
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Post> scrollTagByFullText(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id, @Param("limit") int limit);
+
+	@Query("SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+	List<UUID> findIdsAfter(@Param("lastId") UUID lastId, Limit limit);
+
+	@Query("""
+		SELECT new api.store.diglog.model.vo.post.PostViewCountVO(p.id, p.viewCount)
+		FROM Post p
+		WHERE p.id IN :ids
+		""")
+	List<PostViewCountVO> findViewCountsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	// 검색 색인 따라잡기, updated_at 인덱스 범위만 읽는다
+	@Query("SELECT p.id FROM Post p WHERE p.updatedAt >= :since")
+	List<UUID> findIdsByUpdatedAtSince(@Param("since") LocalDateTime since);
+
+	@Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.tags WHERE p.id IN :ids")
+	List<Post> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	// 목록 응답에 필요한 작성자, 폴더, 태그를 한 번에 불러오는 2단계 조회의 두 번째 쿼리
+	@Query("SELECT DISTINCT p FROM Post p JOIN FETCH p.member LEFT JOIN FETCH p.folder LEFT JOIN FETCH p.tags "
+		+ "WHERE p.id IN :ids")
+	List<Post> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
 	@Query("SELECT p FROM Post p JOIN FETCH p.folder WHERE p.folder.id IN :folderIds")
 	List<Post> findAllByFolderIdIn(@Param("folderIds") List<UUID> folderIds);
+
+	// 목록 카드용 요약 조회, 본문(TEXT) 컬럼을 읽지 않는다
+	@Query(value = """
+		SELECT new api.store.diglog.model.vo.post.PostSummaryVO(
+			p.id, p.title, p.excerpt, m.username, f.id, f.title, p.createdAt
+		)
+		FROM Post p
+		JOIN p.member m
+		LEFT JOIN p.folder f
+		WHERE p.isDeleted = false
+		""", countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+	Page<PostSummaryVO> findSummariesByIsDeletedFalse(Pageable pageable);
+
+	@Query(value = """
+		SELECT new api.store.diglog.model.vo.post.PostSummaryVO(
+			p.id, p.title, p.excerpt, m.username, f.id, f.title, p.createdAt
+		)
+		FROM Post p
+		JOIN p.member m
+		LEFT JOIN p.folder f
+		WHERE m.id = :memberId AND p.isDeleted = false
+		""", countQuery = "SELECT COUNT(p) FROM Post p WHERE p.member.id = :memberId AND p.isDeleted = false")
+	Page<PostSummaryVO> findSummariesByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+	@Query(value = """
+		SELECT new api.store.diglog.model.vo.post.PostSummaryVO(
+			p.id, p.title, p.excerpt, m.username, f.id, f.title, p.createdAt
+		)
+		FROM Post p
+		JOIN p.member m
+		JOIN p.folder f
+		WHERE m.id = :memberId AND f.id IN :folderIds AND p.isDeleted = false
+		""", countQuery = """
+		SELECT COUNT(p) FROM Post p
+		WHERE p.member.id = :memberId AND p.folder.id IN :folderIds AND p.isDeleted = false
+		""")
+	Page<PostSummaryVO> findSummariesByMemberIdAndFolderIdIn(@Param("memberId") UUID memberId,
+		@Param("folderIds") List<UUID> folderIds, Pageable pageable);
+
+	// 이미 읽은 게시글 페이지에 붙일 작성자, 폴더, 태그만 읽는다, 게시글 본문은 다시 읽지 않는다
+	@Query("""
+		SELECT new api.store.diglog.model.vo.post.PostDetailVO(p.id, m.username, f.id, f.title, t.id, t.name)
+		FROM Post p
+		JOIN p.member m
+		LEFT JOIN p.folder f
+		LEFT JOIN p.tags t
+		WHERE p.id IN :postIds
+		""")
+	List<PostDetailVO> findDetailsByPostIdIn(@Param("postIds") Collection<UUID> postIds);
+
+	@Query("""
+		SELECT new api.store.diglog.model.vo.post.PostTagVO(p.id, t.id, t.name)
+		FROM Post p
+		JOIN p.tags t
+		WHERE p.id IN :postIds
+		""")
+	List<PostTagVO> findPostTagsByPostIdIn(@Param("postIds") Collection<UUID> postIds);
+
+	List<Post> findAllByExcerptIsNull(Limit limit);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Post p SET p.excerpt = :excerpt WHERE p.id = :id")
+	int updateExcerpt(@Param("id") UUID id, @Param("excerpt") String excerpt);
 }
@@ -5,6 +5,6 @@ import java.util.UUID;
 
 public interface PostViewBatchRepository {
 
-	void bulkUpdateViewCounts(Map<UUID, Long> viewCounts);
+	void bulkIncreaseViewCounts(Map<UUID, Long> viewCountDeltas);
 
 }
@@ -9,7 +9,5 @@ import java.util.UUID;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
-	List<Tag> findAllByPostsMemberUsernameOrderByName(String username);
-
 	List<Tag> findByNameIn(List<String> names);
 }
@@ -0,0 +1,94 @@
+package api.store.diglog.repository.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+// CASE 문을 고정된 크기의 버킷으로 패딩해 배치 크기가 달라도 같은 SQL(캐시된 statement)을 재사용
+@Component
+public class CaseBucketPostViewBatchWriter implements PostViewBatchWriter {
+
+	private static final int[] BUCKET_SIZES = {16, 64, 256, 1024};
+	private static final Map<Integer, String> SQL_BY_BUCKET_SIZE = buildSqlByBucketSize();
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public PostViewWriteEngine getEngine() {
+		return PostViewWriteEngine.CASE_BUCKET;
+	}
+
+	@Override
+	public void increaseViewCounts(Map<UUID, Long> viewCountDeltas) {
+		List<Map.Entry<UUID, Long>> entries = new ArrayList<>(viewCountDeltas.entrySet());
+		int maxBucketSize = BUCKET_SIZES[BUCKET_SIZES.length - 1];
+
+		for (int from = 0; from < entries.size(); from += maxBucketSize) {
+			execute(entries.subList(from, Math.min(from + maxBucketSize, entries.size())));
+		}
+	}
+
+	private void execute(List<Map.Entry<UUID, Long>> entries) {
+		int bucketSize = bucketSizeOf(entries.size());
+		Query query = entityManager.createNativeQuery(SQL_BY_BUCKET_SIZE.get(bucketSize));
+
+		// 남는 자리는 마지막 항목으로 채운다. CASE는 처음 일치한 WHEN만 사용하므로 중복 반영되지 않는다.
+		int paramIndex = 1;
+		for (int i = 0; i < bucketSize; i++) {
+			Map.Entry<UUID, Long> entry = entries.get(Math.min(i, entries.size() - 1));
+			query.setParameter(paramIndex++, entry.getKey());
+			query.setParameter(paramIndex++, entry.getValue());
+		}
+
+		// IN 절의 파라미터들
+		for (int i = 0; i < bucketSize; i++) {
+			query.setParameter(paramIndex++, entries.get(Math.min(i, entries.size() - 1)).getKey());
+		}
+
+		query.executeUpdate();
+	}
+
+	private int bucketSizeOf(int size) {
+		for (int bucketSize : BUCKET_SIZES) {
+			if (size <= bucketSize) {
+				return bucketSize;
+			}
+		}
+		return BUCKET_SIZES[BUCKET_SIZES.length - 1];
+	}
+
+	private static Map<Integer, String> buildSqlByBucketSize() {
+		Map<Integer, String> sqlByBucketSize = new TreeMap<>();
+		for (int bucketSize : BUCKET_SIZES) {
+			sqlByBucketSize.put(bucketSize, buildUpdateSql(bucketSize));
+		}
+		return Collections.unmodifiableMap(sqlByBucketSize);
+	}
+
+	private static String buildUpdateSql(int size) {
+		StringBuilder sql = new StringBuilder("UPDATE post SET view_count = view_count + CASE id ");
+
+		for (int i = 0; i < size; i++) {
+			sql.append("WHEN ? THEN ? ");
+		}
+
+		sql.append("END WHERE id IN (");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) sql.append(",");
+			sql.append("?");
+		}
+		sql.append(")");
+
+		return sql.toString();
+	}
+}
@@ -0,0 +1,38 @@
+package api.store.diglog.repository.batch;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 단일 UPDATE 문을 JDBC 배치로 전송 (MySQL은 rewriteBatchedStatements=true일 때 한 번에 전송된다)
+@Component
+@RequiredArgsConstructor
+public class JdbcBatchPostViewBatchWriter implements PostViewBatchWriter {
+
+	private static final String UPDATE_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${diglog.post.view.sync.jdbc-batch-size:1000}")
+	private int jdbcBatchSize;
+
+	@Override
+	public PostViewWriteEngine getEngine() {
+		return PostViewWriteEngine.JDBC_BATCH;
+	}
+
+	@Override
+	public void increaseViewCounts(Map<UUID, Long> viewCountDeltas) {
+		jdbcTemplate.batchUpdate(UPDATE_SQL, new ArrayList<>(viewCountDeltas.entrySet()), jdbcBatchSize,
+			(ps, entry) -> {
+				ps.setLong(1, entry.getValue());
+				ps.setBytes(2, UuidBytes.toBytes(entry.getKey()));
+			});
+	}
+}
@@ -0,0 +1,13 @@
+package api.store.diglog.repository.batch;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface PostViewBatchWriter {
+
+	PostViewWriteEngine getEngine();
+
+	// 호출자의 트랜잭션 안에서 게시글별 조회수 증가분을 반영
+	void increaseViewCounts(Map<UUID, Long> viewCountDeltas);
+
+}
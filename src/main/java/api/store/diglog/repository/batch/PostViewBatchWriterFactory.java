@@ -0,0 +1,27 @@
+package api.store.diglog.repository.batch;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PostViewBatchWriterFactory {
+
+	private final Map<PostViewWriteEngine, PostViewBatchWriter> batchWriters;
+
+	@Autowired
+	public PostViewBatchWriterFactory(List<PostViewBatchWriter> batchWriters) {
+		Map<PostViewWriteEngine, PostViewBatchWriter> map = new EnumMap<>(PostViewWriteEngine.class);
+		batchWriters.forEach(writer -> map.put(writer.getEngine(), writer));
+		this.batchWriters = Collections.unmodifiableMap(map);
+	}
+
+	public PostViewBatchWriter getWriter(PostViewWriteEngine writeEngine) {
+		return batchWriters.get(writeEngine);
+	}
+
+}
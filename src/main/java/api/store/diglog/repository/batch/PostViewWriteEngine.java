@@ -0,0 +1,8 @@
+package api.store.diglog.repository.batch;
+
+public enum PostViewWriteEngine {
+
+	CASE_BUCKET,
+	JDBC_BATCH,
+	STAGING_UPSERT
+}
@@ -0,0 +1,50 @@
+package api.store.diglog.repository.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 증가분을 스테이징 테이블에 multi-row upsert로 적재한 뒤 UPDATE 한 번으로 post에 반영하고 스테이징을 비운다.
+@Component
+@RequiredArgsConstructor
+public class StagingUpsertPostViewBatchWriter implements PostViewBatchWriter {
+
+	private static final String UPSERT_SQL = """
+		INSERT INTO post_view_delta_staging (post_id, view_count_delta) VALUES (?, ?)
+		ON DUPLICATE KEY UPDATE view_count_delta = view_count_delta + VALUES(view_count_delta)""";
+	private static final String APPLY_SQL = """
+		UPDATE post SET view_count = view_count + (
+			SELECT s.view_count_delta FROM post_view_delta_staging s WHERE s.post_id = post.id)
+		WHERE id IN (SELECT post_id FROM post_view_delta_staging)""";
+	private static final String CLEAR_SQL = "DELETE FROM post_view_delta_staging WHERE post_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${diglog.post.view.sync.jdbc-batch-size:1000}")
+	private int jdbcBatchSize;
+
+	@Override
+	public PostViewWriteEngine getEngine() {
+		return PostViewWriteEngine.STAGING_UPSERT;
+	}
+
+	@Override
+	public void increaseViewCounts(Map<UUID, Long> viewCountDeltas) {
+		List<Map.Entry<UUID, Long>> entries = new ArrayList<>(viewCountDeltas.entrySet());
+
+		jdbcTemplate.batchUpdate(UPSERT_SQL, entries, jdbcBatchSize, (ps, entry) -> {
+			ps.setBytes(1, UuidBytes.toBytes(entry.getKey()));
+			ps.setLong(2, entry.getValue());
+		});
+		jdbcTemplate.update(APPLY_SQL);
+		jdbcTemplate.batchUpdate(CLEAR_SQL, entries, jdbcBatchSize,
+			(ps, entry) -> ps.setBytes(1, UuidBytes.toBytes(entry.getKey())));
+	}
+}
@@ -0,0 +1,20 @@
+package api.store.diglog.repository.batch;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// JdbcTemplate으로 직접 바인딩할 때 Hibernate의 UUID 컬럼 매핑(BINARY(16))과 같은 형식으로 변환
+final class UuidBytes {
+
+	private static final int UUID_BYTES = 16;
+
+	private UuidBytes() {
+	}
+
+	static byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(UUID_BYTES)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -3,22 +3,40 @@ package api.store.diglog.service;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.dto.comment.CommentCreateResponse;
 import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentMember;
 import api.store.diglog.model.dto.comment.CommentRequest;
 import api.store.diglog.model.dto.comment.CommentResponse;
+import api.store.diglog.model.dto.comment.CommentTreeRequest;
+import api.store.diglog.model.dto.comment.CommentTreeResponse;
 import api.store.diglog.model.dto.comment.CommentUpdateRequest;
 import api.store.diglog.model.entity.Comment;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.comment.CommentPageVO;
+import api.store.diglog.model.vo.comment.CommentTreePageVO;
+import api.store.diglog.model.vo.comment.CommentTreeVO;
 import api.store.diglog.repository.CommentRepository;
+import api.store.diglog.service.comment.cache.CommentCacheEvictEvent;
+import api.store.diglog.service.comment.cache.CommentPageCache;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static api.store.diglog.common.exception.ErrorCode.*;
@@ -31,6 +49,8 @@ public class CommentService {
 	private static final int MAX_DEPTH = 2;
 	private final CommentRepository commentRepository;
 	private final MemberService memberService;
+	private final CommentPageCache commentPageCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public CommentCreateResponse save(CommentRequest commentRequest) {
@@ -44,9 +64,15 @@ public class CommentService {
 			.member(member)
 			.content(commentRequest.getContent())
 			.parentComment(parentComment)
+			.depth(parentComment != null ? depthOf(parentComment) + 1 : 0)
+			.rootId(parentComment != null ? threadRootIdOf(parentComment) : null)
 			.taggedMember(taggedMember)
 			.build();
 		commentRepository.save(comment);
+		if (parentComment != null) {
+			commentRepository.addReplyCount(parentComment.getId(), 1);
+		}
+		eventPublisher.publishEvent(CommentCacheEvictEvent.of(commentRequest.getPostId()));
 
 		return CommentCreateResponse.builder()
 			.id(comment.getId())
@@ -61,14 +87,36 @@ public class CommentService {
 		Comment parentComment = commentRepository.findByIdAndIsDeletedFalse(parentCommentId)
 			.orElseThrow(() -> new CustomException(COMMENT_PARENT_ID_NOT_FOUND));
 
-		int parentDepth = commentRepository.getDepthByParentCommentId(parentCommentId, MAX_DEPTH);
-		if (parentDepth + 1 >= MAX_DEPTH) {
+		if (depthOf(parentComment) + 1 >= MAX_DEPTH) {
 			throw new CustomException(COMMENT_MAX_DEPTH_EXCEEDED);
 		}
 
 		return parentComment;
 	}
 
+	// 백필 전 답글은 depth 0, rootId null이므로 채워진 조상까지 부모를 따라 올라가 센다
+	private int depthOf(Comment comment) {
+		int depth = 0;
+		Comment current = comment;
+		while (isNotBackfilled(current)) {
+			depth++;
+			current = current.getParentComment();
+		}
+		return depth + current.getDepth();
+	}
+
+	private UUID threadRootIdOf(Comment comment) {
+		Comment current = comment;
+		while (isNotBackfilled(current)) {
+			current = current.getParentComment();
+		}
+		return current.getThreadRootId();
+	}
+
+	private boolean isNotBackfilled(Comment comment) {
+		return comment.getParentComment() != null && comment.getRootId() == null;
+	}
+
 	private Member getTaggedMember(String username) {
 		return (username != null) ? memberService.findActiveMemberByUsername(username) : null;
 	}
@@ -76,30 +124,126 @@ public class CommentService {
 	public Page<CommentResponse> getComments(CommentListRequest commentListRequest) {
 		Pageable pageable = PageRequest.of(commentListRequest.getPage(), commentListRequest.getSize(),
 			Sort.by("createdAt"));
-		Page<Comment> comments = commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(
-			commentListRequest.getPostId(), commentListRequest.getParentCommentId(), pageable);
+		CommentPageVO commentPage = commentPageCache.get(CommentPageCache.Endpoint.LIST,
+			commentListRequest.getPostId(), commentListRequest.getParentCommentId(), pageable, CommentPageVO.class,
+			() -> {
+				Page<Comment> comments = commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(
+					commentListRequest.getPostId(), commentListRequest.getParentCommentId(), pageable);
+				return new CommentPageVO(getCommentResponses(comments.getContent()), comments.getTotalElements());
+			});
+
+		return new PageImpl<>(commentPage.getContent(), pageable, commentPage.getTotalElements());
+	}
+
+	// 작성자, 태그된 회원, 프로필 이미지를 댓글 수와 무관하게 고정된 쿼리 수로 불러와 조립한다, 답글 수는 댓글 행에서 읽는다
+	private List<CommentResponse> getCommentResponses(List<Comment> comments) {
+		if (comments.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, CommentMember> commentMembers = getCommentMembers(comments);
+		return comments.stream()
+			.map(comment -> CommentResponse.builder()
+				.id(comment.getId())
+				.content(comment.getContent())
+				.member(getCommentMember(commentMembers, comment.getMember().getId()))
+				.isDeleted(false)
+				.taggedUsername(getTaggedUsername(commentMembers, comment))
+				.createdAt(comment.getCreatedAt())
+				.replyCount(comment.getReplyCount())
+				.build())
+			.toList();
+	}
+
+	public CommentTreeVO getCommentTree(CommentTreeRequest commentTreeRequest) {
+		Pageable pageable = PageRequest.of(commentTreeRequest.getPage(), commentTreeRequest.getSize(),
+			Sort.by("createdAt"));
+		CommentTreePageVO commentTreePage = commentPageCache.get(CommentPageCache.Endpoint.TREE,
+			commentTreeRequest.getPostId(), null, pageable, CommentTreePageVO.class,
+			() -> assembleCommentTree(commentTreeRequest.getPostId(), pageable));
+
+		return new CommentTreeVO(
+			new PageImpl<>(commentTreePage.getContent(), pageable, commentTreePage.getTotalElements()),
+			commentTreePage.getVersion());
+	}
+
+	// 최상위 댓글 한 페이지와 그 스레드들의 답글을 한 번씩 읽고, id -> 노드 맵으로 한 번 훑으며 트리를 만든다
+	private CommentTreePageVO assembleCommentTree(UUID postId, Pageable pageable) {
+		Page<Comment> roots = commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(
+			postId, null, pageable);
+
+		List<Comment> comments = new ArrayList<>(roots.getContent());
+		if (!roots.isEmpty()) {
+			comments.addAll(commentRepository.findRepliesByPostIdAndRootIdIn(postId,
+				roots.getContent().stream().map(Comment::getId).toList()));
+		}
+		Map<UUID, CommentMember> commentMembers = comments.isEmpty() ? Map.of() : getCommentMembers(comments);
+
+		// 답글은 depth 순서로 오므로 부모 노드가 항상 먼저 만들어진다
+		Map<UUID, CommentTreeResponse> nodes = HashMap.newHashMap(comments.size());
+		List<CommentTreeResponse> rootNodes = new ArrayList<>(roots.getNumberOfElements());
+		StringBuilder version = new StringBuilder().append(roots.getTotalElements());
+		for (Comment comment : comments) {
+			CommentTreeResponse node = getCommentTreeResponse(commentMembers, comment);
+			if (comment.getParentComment() == null) {
+				rootNodes.add(node);
+			} else {
+				// 삭제된 답글 아래의 답글은 목록 조회와 같이 보이지 않는다
+				CommentTreeResponse parentNode = nodes.get(comment.getParentComment().getId());
+				if (parentNode == null) {
+					continue;
+				}
+				parentNode.getReplies().add(node);
+			}
+			nodes.put(comment.getId(), node);
+			version.append('|').append(comment.getId())
+				.append(',').append(comment.getUpdatedAt())
+				.append(',').append(comment.getReplyCount())
+				.append(',').append(node.getMember().getUsername())
+				.append(',').append(node.getMember().getProfileUrl())
+				.append(',').append(node.getTaggedUsername());
+		}
 
-		return comments.map(this::getCommentResponse);
+		return new CommentTreePageVO(rootNodes, roots.getTotalElements(),
+			DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)));
 	}
 
-	private CommentResponse getCommentResponse(Comment comment) {
-		return CommentResponse.builder()
+	private CommentTreeResponse getCommentTreeResponse(Map<UUID, CommentMember> commentMembers, Comment comment) {
+		return CommentTreeResponse.builder()
 			.id(comment.getId())
 			.content(comment.getContent())
-			.member(memberService.getCommentMember(comment.getMember().getId()))
-			.isDeleted(false)
-			.taggedUsername(getTaggedUsername(comment))
+			.member(getCommentMember(commentMembers, comment.getMember().getId()))
+			.taggedUsername(getTaggedUsername(commentMembers, comment))
 			.createdAt(comment.getCreatedAt())
-			.replyCount(commentRepository.countByParentCommentIdAndIsDeletedFalse(comment.getId()))
+			.replyCount(comment.getReplyCount())
 			.build();
 	}
 
-	private String getTaggedUsername(Comment comment) {
+	private Map<UUID, CommentMember> getCommentMembers(List<Comment> comments) {
+		Set<UUID> memberIds = new HashSet<>();
+		comments.forEach(comment -> {
+			memberIds.add(comment.getMember().getId());
+			if (comment.getTaggedMember() != null) {
+				memberIds.add(comment.getTaggedMember().getId());
+			}
+		});
+		return memberService.getCommentMembers(memberIds);
+	}
+
+	private String getTaggedUsername(Map<UUID, CommentMember> commentMembers, Comment comment) {
 		return comment.getTaggedMember() != null
-			? memberService.findMemberById(comment.getTaggedMember().getId()).getUsername()
+			? getCommentMember(commentMembers, comment.getTaggedMember().getId()).getUsername()
 			: null;
 	}
 
+	private CommentMember getCommentMember(Map<UUID, CommentMember> commentMembers, UUID memberId) {
+		CommentMember commentMember = commentMembers.get(memberId);
+		if (commentMember == null) {
+			throw new CustomException(MEMBER_ID_NOT_FOUND);
+		}
+		return commentMember;
+	}
+
 	@Transactional
 	public void update(CommentUpdateRequest commentUpdateRequest) {
 		Member member = memberService.getCurrentMember();
@@ -115,6 +259,7 @@ public class CommentService {
 		comment.updateTaggedMember(getTaggedMember(commentUpdateRequest.getTaggedUsername()));
 
 		commentRepository.save(comment);
+		eventPublisher.publishEvent(CommentCacheEvictEvent.of(comment.getPost().getId()));
 	}
 
 	@Transactional
@@ -123,6 +268,14 @@ public class CommentService {
 		Comment comment = commentRepository.findByIdAndMember(commentId, member)
 			.orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
 
+		if (comment.isDeleted()) {
+			return;
+		}
+
 		comment.softDelete();
+		if (comment.getParentComment() != null) {
+			commentRepository.addReplyCount(comment.getParentComment().getId(), -1);
+		}
+		eventPublisher.publishEvent(CommentCacheEvictEvent.of(comment.getPost().getId()));
 	}
 }
@@ -167,10 +167,6 @@ public class FolderService {
 			.orElseThrow(() -> new CustomException(FOLDER_OWNER_MISMATCH));
 	}
 
-	public List<Folder> getFoldersByIdList(List<UUID> folderIds) {
-		return folderRepository.findAllByIdIn(folderIds);
-	}
-
 	@Transactional
 	public void deleteAllBy(List<FolderDeleteRequest> folderDeleteRequests) {
 
@@ -13,7 +13,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -106,4 +109,15 @@ public class ImageService {
 
 		return ImageUrlVO.builder().url(images.getFirst().getUrl()).build();
 	}
+
+	// refId별 첫 이미지 URL, 이미지가 없는 refId는 결과에 없다
+	public Map<UUID, String> getUrlsByRefIds(Collection<UUID> refIds) {
+		if (refIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<UUID, String> urls = new HashMap<>();
+		imageRepository.findAllByRefIdIn(refIds).forEach(image -> urls.putIfAbsent(image.getRefId(), image.getUrl()));
+		return urls;
+	}
 }
@@ -14,10 +14,13 @@ import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.vo.image.ImageSaveVO;
 import api.store.diglog.model.vo.login.LoginTokenVO;
 import api.store.diglog.model.vo.login.LogoutTokenVO;
+import api.store.diglog.repository.CommentRepository;
 import api.store.diglog.repository.MemberRepository;
+import api.store.diglog.service.comment.cache.CommentCacheEvictEvent;
 import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -41,6 +49,8 @@ public class MemberService {
 	private final ImageService imageService;
 	private final PasswordEncoder passwordEncoder;
 	private final JWTUtil jwtUtil;
+	private final CommentRepository commentRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 현재 api 요청을 보낸 Member
 	public Member getCurrentMember() {
@@ -95,6 +105,7 @@ public class MemberService {
 				.orElseThrow();
 
 		member.updateUsername(memberUsernameRequest.getUsername());
+		evictCommentCache(member.getId());
 	}
 
 	public MemberProfileResponse getProfile() {
@@ -125,7 +136,17 @@ public class MemberService {
 			.file(imageRequest.getFile())
 			.build();
 
-		return imageService.uploadAndSaveImage(imageSaveVO);
+		ImageUrlResponse imageUrlResponse = imageService.uploadAndSaveImage(imageSaveVO);
+		evictCommentCache(refId);
+		return imageUrlResponse;
+	}
+
+	// 캐시된 댓글 페이지에 담긴 작성자 이름과 프로필 이미지를 새 값으로 다시 조립하게 한다
+	// 작성자와 태그된 회원은 OR 한 쿼리 대신 각자의 인덱스로 따로 찾아 합친다
+	private void evictCommentCache(UUID memberId) {
+		Set<UUID> postIds = new LinkedHashSet<>(commentRepository.findPostIdsByMemberId(memberId));
+		postIds.addAll(commentRepository.findPostIdsByTaggedMemberId(memberId));
+		eventPublisher.publishEvent(CommentCacheEvictEvent.of(List.copyOf(postIds)));
 	}
 
 	public CommentMember getCommentMember(UUID memberId) {
@@ -138,6 +159,20 @@ public class MemberService {
 			.build();
 	}
 
+	// 댓글 페이지의 작성자와 태그된 회원을 회원 IN 조회, 이미지 IN 조회 두 번으로 불러온다
+	public Map<UUID, CommentMember> getCommentMembers(Collection<UUID> memberIds) {
+		if (memberIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Member> members = memberRepository.findAllById(memberIds);
+		Map<UUID, String> profileUrls = imageService.getUrlsByRefIds(memberIds);
+		return members.stream().collect(Collectors.toMap(Member::getId, member -> CommentMember.builder()
+			.username(member.getUsername())
+			.profileUrl(profileUrls.get(member.getId()))
+			.build()));
+	}
+
 	public Member findActiveMemberByUsername(String username) {
 		return memberRepository.findByUsernameAndIsDeletedFalse(username)
 			.orElseThrow(() -> new CustomException(MEMBER_USERNAME_NOT_FOUND));
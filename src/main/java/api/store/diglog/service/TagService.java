@@ -1,16 +1,25 @@
 package api.store.diglog.service;
 
-import api.store.diglog.model.dto.tag.TagResponse;
+import api.store.diglog.model.dto.tag.MemberTagResponse;
 import api.store.diglog.model.entity.Tag;
 import api.store.diglog.model.vo.tag.TagPostVO;
+import api.store.diglog.repository.MemberTagStatRepository;
 import api.store.diglog.repository.TagRepository;
+import api.store.diglog.service.tag.TagDictionary;
+import api.store.diglog.service.tag.TagSavedEvent;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -18,31 +27,53 @@ import java.util.List;
 public class TagService {
 
 	private final TagRepository tagRepository;
+	private final MemberTagStatRepository memberTagStatRepository;
+	private final TagDictionary tagDictionary;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
-	public List<TagResponse> getMemberTags(String username) {
-		return tagRepository.findAllByPostsMemberUsernameOrderByName(username)
-			.stream().map(TagResponse::new).toList();
+	// member_tag_stats 집계에서 회원의 태그와 게시글 수를 읽는다
+	public List<MemberTagResponse> getMemberTags(String username) {
+		return memberTagStatRepository.findTagCountsByUsername(username)
+			.stream().map(MemberTagResponse::new).toList();
 	}
 
+	// 태그 사전에 있는 태그는 조회 없이 참조만 쓰고, 사전에 없는 이름만 DB에서 찾거나 새로 저장한다
 	@Transactional
 	public List<Tag> saveAll(TagPostVO tagPostVO) {
-		List<Tag> existTags = tagRepository.findByNameIn(tagPostVO.getTagNames());
-		List<String> existTagNames = existTags.stream().map(Tag::getName).toList();
-		List<String> notExistTagNames = tagPostVO.getTagNames().stream()
-			.filter(tagName -> !existTagNames.contains(tagName))
-			.toList();
-
-		List<Tag> tags = notExistTagNames.stream()
-			.map(tagName -> Tag.builder()
-				.name(tagName)
-				.build())
-			.toList();
-
-		List<Tag> savedTags = tagRepository.saveAll(tags);
-
-		List<Tag> resultTags = new ArrayList<>();
-		resultTags.addAll(existTags);
-		resultTags.addAll(savedTags);
-		return resultTags;
+		// 정규화한 이름 -> 요청한 이름, 대소문자만 다른 중복 이름은 처음 것만 남긴다
+		Map<String, String> tagNames = new LinkedHashMap<>();
+		tagPostVO.getTagNames().forEach(tagName -> tagNames.putIfAbsent(TagDictionary.normalize(tagName), tagName));
+
+		Map<String, Tag> tags = new HashMap<>();
+		List<String> missingTagNames = new ArrayList<>();
+		tagNames.forEach((normalizedName, tagName) -> {
+			Optional<UUID> tagId = tagDictionary.findId(normalizedName);
+			if (tagId.isPresent()) {
+				tags.put(normalizedName, tagRepository.getReferenceById(tagId.get()));
+			} else {
+				missingTagNames.add(tagName);
+			}
+		});
+
+		if (!missingTagNames.isEmpty()) {
+			List<Tag> existTags = tagRepository.findByNameIn(missingTagNames);
+			existTags.forEach(tag -> tags.putIfAbsent(TagDictionary.normalize(tag.getName()), tag));
+
+			List<Tag> newTags = missingTagNames.stream()
+				.filter(tagName -> !tags.containsKey(TagDictionary.normalize(tagName)))
+				.map(tagName -> Tag.builder()
+					.name(tagName)
+					.build())
+				.toList();
+			List<Tag> savedTags = tagRepository.saveAll(newTags);
+			savedTags.forEach(tag -> tags.put(TagDictionary.normalize(tag.getName()), tag));
+
+			// 다른 노드에서 저장되어 아직 사전에 없던 태그도 함께 알린다
+			List<Tag> learnedTags = new ArrayList<>(existTags);
+			learnedTags.addAll(savedTags);
+			applicationEventPublisher.publishEvent(TagSavedEvent.of(learnedTags));
+		}
+
+		return tagNames.keySet().stream().map(tags::get).toList();
 	}
 }
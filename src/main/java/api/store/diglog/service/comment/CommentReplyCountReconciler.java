@@ -0,0 +1,63 @@
+package api.store.diglog.service.comment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.vo.comment.CommentReplyCountVO;
+import api.store.diglog.model.vo.comment.CommentStoredReplyCountVO;
+import api.store.diglog.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 댓글의 replyCount를 id 순서의 구간 단위로 실제 답글 수와 비교해 어긋난 행만 고친다
+// 저장된 값을 먼저 읽고 개수를 세므로, 그 사이 답글이 작성/삭제된 행은 조건부 UPDATE가 건너뛰고 다음 실행에서 다시 맞춘다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentReplyCountReconciler {
+
+	private static final String LOG_RECONCILED = "[댓글 답글 수 보정] comments={}, repaired={}";
+
+	private final CommentRepository commentRepository;
+
+	@Value("${diglog.comment.reply-count.reconcile-chunk-size:1000}")
+	private int chunkSize;
+
+	public int reconcile() {
+		int scanned = 0;
+		int repaired = 0;
+		List<CommentStoredReplyCountVO> storedCounts = commentRepository.findReplyCounts(Limit.of(chunkSize));
+		while (!storedCounts.isEmpty()) {
+			repaired += repair(storedCounts);
+			scanned += storedCounts.size();
+
+			UUID lastId = storedCounts.getLast().getCommentId();
+			storedCounts = commentRepository.findReplyCountsAfter(lastId, Limit.of(chunkSize));
+		}
+
+		log.info(LOG_RECONCILED, scanned, repaired);
+		return repaired;
+	}
+
+	private int repair(List<CommentStoredReplyCountVO> storedCounts) {
+		List<UUID> commentIds = storedCounts.stream().map(CommentStoredReplyCountVO::getCommentId).toList();
+		Map<UUID, Long> replyCounts = commentRepository.countRepliesByParentCommentIdIn(commentIds).stream()
+			.collect(Collectors.toMap(CommentReplyCountVO::getParentCommentId, CommentReplyCountVO::getReplyCount));
+
+		int repaired = 0;
+		for (CommentStoredReplyCountVO storedCount : storedCounts) {
+			long replyCount = replyCounts.getOrDefault(storedCount.getCommentId(), 0L);
+			if (replyCount != storedCount.getReplyCount()) {
+				repaired += commentRepository.updateReplyCount(storedCount.getCommentId(), storedCount.getReplyCount(),
+					(int)replyCount);
+			}
+		}
+		return repaired;
+	}
+}
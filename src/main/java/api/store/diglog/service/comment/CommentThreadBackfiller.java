@@ -0,0 +1,51 @@
+package api.store.diglog.service.comment;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// depth, rootId 컬럼 추가 이전에 저장된 답글을 부모 기준으로 채운다, 최상위 댓글은 기본값(depth 0, rootId null) 그대로다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentThreadBackfiller {
+
+	private static final String LOG_BACKFILLED = "[댓글 스레드 채우기] comments={}";
+
+	private final CommentRepository commentRepository;
+
+	@Value("${diglog.comment.thread.backfill-page-size:500}")
+	private int pageSize;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		backfill();
+	}
+
+	public int backfill() {
+		int backfilled = 0;
+		List<Comment> comments;
+		while (!(comments = commentRepository.findAllByThreadNotFilled(Limit.of(pageSize))).isEmpty()) {
+			comments.forEach(comment -> {
+				Comment parentComment = comment.getParentComment();
+				commentRepository.updateThread(comment.getId(), parentComment.getDepth() + 1,
+					parentComment.getThreadRootId());
+			});
+			backfilled += comments.size();
+		}
+
+		if (backfilled > 0) {
+			log.info(LOG_BACKFILLED, backfilled);
+		}
+		return backfilled;
+	}
+}
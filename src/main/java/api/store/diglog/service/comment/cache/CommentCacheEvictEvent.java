@@ -0,0 +1,23 @@
+package api.store.diglog.service.comment.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCacheEvictEvent {
+
+	private final List<UUID> postIds;
+
+	public static CommentCacheEvictEvent of(UUID postId) {
+		return new CommentCacheEvictEvent(List.of(postId));
+	}
+
+	public static CommentCacheEvictEvent of(List<UUID> postIds) {
+		return new CommentCacheEvictEvent(List.copyOf(postIds));
+	}
+}
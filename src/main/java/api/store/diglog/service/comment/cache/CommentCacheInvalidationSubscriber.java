@@ -0,0 +1,34 @@
+package api.store.diglog.service.comment.cache;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 다른 노드에서 댓글이 바뀐 게시글을 이 노드의 로컬 캐시에서 제거
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCacheInvalidationSubscriber implements MessageListener {
+
+	private static final String LOG_INVALID_MESSAGE = "[댓글 캐시 무효화 메시지 오류] message={}";
+
+	private final CommentPageCache commentPageCache;
+
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+		String body = new String(message.getBody());
+		for (String postId : body.split(CommentPageCache.INVALIDATION_DELIMITER)) {
+			try {
+				commentPageCache.evictLocal(UUID.fromString(postId));
+			} catch (IllegalArgumentException e) {
+				log.warn(LOG_INVALID_MESSAGE, body);
+			}
+		}
+	}
+}
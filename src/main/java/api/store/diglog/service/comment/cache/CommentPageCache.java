@@ -0,0 +1,267 @@
+package api.store.diglog.service.comment.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글별 댓글 앞쪽 페이지의 2단 캐시, 로컬(L1)에 없으면 Redis(L2), 둘 다 없으면 조립해서 채운다
+// 게시글 하나의 페이지들을 L1은 한 항목, L2는 한 해시에 모아 두어 댓글이 바뀌면 게시글 단위로 한 번에 지운다
+// 변경은 커밋 후 L2를 지우고 pub/sub으로 모든 노드의 L1을 비운다, 메시지가 유실되어도 L1 TTL이 지나면 맞춰진다
+// 게시글마다 무효화 세대를 두어, 무효화 전에 조립한 페이지가 무효화 뒤에 다시 채워지지 않게 한다
+// Redis 장애 시에는 L1과 조립만으로 응답한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentPageCache {
+
+	public static final String INVALIDATION_CHANNEL = "comment-cache-invalidation";
+	public static final String INVALIDATION_DELIMITER = ",";
+
+	private static final String KEY_PREFIX = "comment:page:";
+	private static final String GENERATION_KEY_PREFIX = KEY_PREFIX + "generation:";
+	private static final String INITIAL_GENERATION = "0";
+	private static final String ROOT_FIELD = "root";
+	private static final String LOG_SERIALIZE_FAILED = "[댓글 캐시 직렬화 실패] postId={}, field={}";
+	private static final String LOG_DESERIALIZE_FAILED = "[댓글 캐시 역직렬화 실패] postId={}, field={}";
+	private static final String LOG_REDIS_FAILED = "[댓글 캐시 Redis 실패] 직접 조립합니다. postId={}, field={}";
+	private static final String LOG_EVICT_FAILED = "[댓글 캐시 Redis 무효화 실패] posts={}";
+
+	// 페이지와 세대를 한 번에 읽는다
+	// KEYS[1]: 페이지 해시, KEYS[2]: 세대, ARGV[1]: 필드
+	private static final String READ_SCRIPT = """
+		return {redis.call('HGET', KEYS[1], ARGV[1]) or '', redis.call('GET', KEYS[2]) or '0'}
+		""";
+
+	// 읽기 시작할 때의 세대가 그대로일 때만 페이지와 TTL을 함께 쓴다, 쓰지 못하면 0
+	// KEYS[1]: 페이지 해시, KEYS[2]: 세대, ARGV[1]: 필드, ARGV[2]: 페이지 JSON, ARGV[3]: 읽기 시작할 때의 세대, ARGV[4]: TTL(초)
+	private static final String FILL_SCRIPT = """
+		local generation = redis.call('GET', KEYS[2]) or '0'
+		if generation ~= ARGV[3] then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+		redis.call('EXPIRE', KEYS[1], ARGV[4])
+		return 1
+		""";
+
+	// KEYS[2i-1]: 페이지 해시, KEYS[2i]: 세대, ARGV[1]: 세대 TTL(초)
+	private static final String EVICT_SCRIPT = """
+		for i = 1, #KEYS / 2 do
+			redis.call('DEL', KEYS[2 * i - 1])
+			redis.call('INCR', KEYS[2 * i])
+			redis.call('EXPIRE', KEYS[2 * i], ARGV[1])
+		end
+		return #KEYS / 2
+		""";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ = new DefaultRedisScript<>(READ_SCRIPT, List.class);
+	private static final RedisScript<Long> FILL = new DefaultRedisScript<>(FILL_SCRIPT, Long.class);
+	private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(EVICT_SCRIPT, Long.class);
+
+	public enum Endpoint {
+		LIST, TREE
+	}
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diglog.comment.cache.max-pages:2}")
+	private int maxPages;
+
+	@Value("${diglog.comment.cache.local.max-size:10000}")
+	private long localMaxSize;
+
+	@Value("${diglog.comment.cache.local.ttl-seconds:30}")
+	private long localTtlSeconds;
+
+	@Value("${diglog.comment.cache.redis.ttl-seconds:300}")
+	private long redisTtlSeconds;
+
+	// postId -> (엔드포인트:부모 댓글:페이지:크기 -> 페이지)
+	private Cache<UUID, Map<String, Object>> localCache;
+	private final Map<Endpoint, Counter> localHitCounters = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Counter> redisHitCounters = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Counter> missCounters = new EnumMap<>(Endpoint.class);
+
+	@PostConstruct
+	void init() {
+		localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.build();
+
+		for (Endpoint endpoint : Endpoint.values()) {
+			localHitCounters.put(endpoint, lookupCounter(endpoint, "local"));
+			redisHitCounters.put(endpoint, lookupCounter(endpoint, "redis"));
+			missCounters.put(endpoint, lookupCounter(endpoint, "miss"));
+		}
+		Gauge.builder("comment.page.cache.local.size", localCache, Cache::estimatedSize)
+			.description("댓글 로컬 캐시에 담긴 게시글 수")
+			.register(meterRegistry);
+	}
+
+	// 앞쪽 maxPages 페이지만 캐시하고, 그 뒤 페이지는 바로 loader로 조립한다
+	public <T> T get(Endpoint endpoint, UUID postId, UUID parentCommentId, Pageable pageable, Class<T> type,
+		Supplier<T> loader) {
+		if (pageable.getPageNumber() >= maxPages) {
+			return loader.get();
+		}
+
+		String field = field(endpoint, parentCommentId, pageable);
+		Map<String, Object> localPages = localCache.getIfPresent(postId);
+		Object localPage = localPages == null ? null : localPages.get(field);
+		if (localPage != null) {
+			localHitCounters.get(endpoint).increment();
+			return type.cast(localPage);
+		}
+
+		// [페이지 JSON, 세대], Redis 장애 시 null
+		List<?> entry = readRedis(postId, field);
+		T page = entry == null ? null : deserialize(postId, field, (String)entry.get(0), type);
+		if (page != null) {
+			redisHitCounters.get(endpoint).increment();
+			putLocal(postId, field, page);
+			return page;
+		}
+
+		missCounters.get(endpoint).increment();
+		page = loader.get();
+		putLocal(postId, field, page);
+		if (entry != null) {
+			writeRedisIfCurrent(postId, field, page, (String)entry.get(1));
+		}
+		return page;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCommentChanged(CommentCacheEvictEvent event) {
+		evict(event.getPostIds());
+	}
+
+	// 세대를 먼저 올린 뒤 L1을 비우므로, 그 사이 L1을 채운 요청도 세대 확인에서 걸러져 스스로 지운다
+	public void evict(List<UUID> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<String> keys = new ArrayList<>();
+			postIds.forEach(postId -> {
+				keys.add(key(postId));
+				keys.add(generationKey(postId));
+			});
+			redisTemplate.execute(EVICT, keys, String.valueOf(redisTtlSeconds));
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(INVALIDATION_DELIMITER,
+				postIds.stream().map(UUID::toString).toList()));
+		} catch (DataAccessException e) {
+			log.error(LOG_EVICT_FAILED, postIds.size(), e);
+		}
+		localCache.invalidateAll(postIds);
+	}
+
+	public void evictLocal(UUID postId) {
+		localCache.invalidate(postId);
+	}
+
+	public void clearLocal() {
+		localCache.invalidateAll();
+	}
+
+	private void putLocal(UUID postId, String field, Object page) {
+		localCache.asMap().computeIfAbsent(postId, key -> new ConcurrentHashMap<>()).put(field, page);
+	}
+
+	private List<?> readRedis(UUID postId, String field) {
+		try {
+			return redisTemplate.execute(READ, List.of(key(postId), generationKey(postId)), field);
+		} catch (DataAccessException e) {
+			log.warn(LOG_REDIS_FAILED, postId, field, e);
+			return null;
+		}
+	}
+
+	private <T> T deserialize(UUID postId, String field, String json, Class<T> type) {
+		if (json == null || json.isEmpty()) {
+			return null;
+		}
+
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) {
+			log.warn(LOG_DESERIALIZE_FAILED, postId, field, e);
+			return null;
+		}
+	}
+
+	// 읽는 동안 무효화된 게시글은 Redis에 쓰지 않고 L1에서도 지운다
+	private void writeRedisIfCurrent(UUID postId, String field, Object page, String generation) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(page);
+		} catch (JsonProcessingException e) {
+			log.warn(LOG_SERIALIZE_FAILED, postId, field, e);
+			return;
+		}
+
+		try {
+			Long filled = redisTemplate.execute(FILL, List.of(key(postId), generationKey(postId)),
+				field, json, generation == null ? INITIAL_GENERATION : generation, String.valueOf(redisTtlSeconds));
+			if (filled != null && filled == 0) {
+				localCache.invalidate(postId);
+			}
+		} catch (DataAccessException e) {
+			log.warn(LOG_REDIS_FAILED, postId, field, e);
+		}
+	}
+
+	private Counter lookupCounter(Endpoint endpoint, String result) {
+		return Counter.builder("comment.page.cache.lookup")
+			.description("댓글 캐시 조회 수")
+			.tag("endpoint", endpoint.name().toLowerCase(Locale.ROOT))
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private String field(Endpoint endpoint, UUID parentCommentId, Pageable pageable) {
+		return endpoint.name() + ":" + (parentCommentId == null ? ROOT_FIELD : parentCommentId) + ":"
+			+ pageable.getPageNumber() + ":" + pageable.getPageSize();
+	}
+
+	private String key(UUID postId) {
+		return KEY_PREFIX + postId;
+	}
+
+	private String generationKey(UUID postId) {
+		return GENERATION_KEY_PREFIX + postId;
+	}
+}
@@ -0,0 +1,90 @@
+package api.store.diglog.service.post;
+
+import static api.store.diglog.service.post.PostViewDedupMode.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 모든 게시글이 함께 쓰는 일 단위 Bloom filter에 (게시글, ip)를 기록해 판별, 오탐(false positive)만큼 조회수가 적게 집계될 수 있다
+// 필터 크기는 게시글 수와 무관하게 하루 전체의 고유 (게시글, ip) 수로 정한다
+// 조회수가 증가한 뒤에 기록하므로 증가에 실패한 조회는 다음 요청에서 다시 센다, 같은 ip의 동시 요청은 함께 셀 수 있다
+@Component
+@RequiredArgsConstructor
+public class BloomFilterPostViewDedupStrategy implements PostViewDedupStrategy {
+
+	private static final Duration TTL = Duration.ofDays(2);
+
+	private final RedissonClient redissonClient;
+
+	@Value("${diglog.post.view.dedup.bloom.expected-insertions:1000000}")
+	private long expectedInsertions;
+
+	@Value("${diglog.post.view.dedup.bloom.false-probability:0.01}")
+	private double falseProbability;
+
+	private volatile String initializedFilterName;
+
+	@Override
+	public PostViewDedupMode getMode() {
+		return BLOOM_FILTER;
+	}
+
+	@Override
+	public Duration getTtl() {
+		return TTL;
+	}
+
+	@Override
+	public List<String> dedupKeys(UUID postId, Collection<String> ipAddresses) {
+		return List.of();
+	}
+
+	@Override
+	public Collection<String> filterFirstViews(UUID postId, Collection<String> ipAddresses) {
+		return withBloomFilter(bloomFilter -> ipAddresses.stream()
+			.distinct()
+			.filter(ipAddress -> !bloomFilter.contains(PostViewKeys.bloomFilterElement(postId, ipAddress)))
+			.toList());
+	}
+
+	@Override
+	public void onCounted(UUID postId, Collection<String> firstViews) {
+		withBloomFilter(bloomFilter -> {
+			firstViews.forEach(ipAddress -> bloomFilter.add(PostViewKeys.bloomFilterElement(postId, ipAddress)));
+			return null;
+		});
+	}
+
+	// 초기화해 둔 필터가 Redis에서 사라졌으면 다시 만든 뒤 한 번 더 시도한다
+	private <T> T withBloomFilter(Function<RBloomFilter<String>, T> action) {
+		try {
+			return action.apply(getBloomFilter());
+		} catch (IllegalStateException e) {
+			initializedFilterName = null;
+			return action.apply(getBloomFilter());
+		}
+	}
+
+	private RBloomFilter<String> getBloomFilter() {
+		String filterName = PostViewKeys.bloomFilterKey(LocalDate.now());
+		RBloomFilter<String> bloomFilter = redissonClient.getBloomFilter(filterName);
+		if (!filterName.equals(initializedFilterName)) {
+			if (bloomFilter.tryInit(expectedInsertions, falseProbability)) {
+				bloomFilter.expire(TTL);
+			}
+			initializedFilterName = filterName;
+		}
+		return bloomFilter;
+	}
+}
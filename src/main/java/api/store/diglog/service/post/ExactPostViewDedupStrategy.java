@@ -0,0 +1,39 @@
+package api.store.diglog.service.post;
+
+import static api.store.diglog.service.post.PostViewDedupMode.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+// (게시글, ip) 마다 24시간 TTL 키를 두어 정확하게 판별
+@Component
+public class ExactPostViewDedupStrategy implements PostViewDedupStrategy {
+
+	private static final Duration TTL = Duration.ofHours(24);
+
+	@Override
+	public PostViewDedupMode getMode() {
+		return EXACT;
+	}
+
+	@Override
+	public Duration getTtl() {
+		return TTL;
+	}
+
+	@Override
+	public List<String> dedupKeys(UUID postId, Collection<String> ipAddresses) {
+		return ipAddresses.stream()
+			.map(ipAddress -> PostViewKeys.dedupKey(postId, ipAddress))
+			.toList();
+	}
+
+	@Override
+	public Collection<String> filterFirstViews(UUID postId, Collection<String> ipAddresses) {
+		return ipAddresses;
+	}
+}
@@ -0,0 +1,38 @@
+package api.store.diglog.service.post;
+
+import static api.store.diglog.service.post.PostViewDedupMode.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+// 게시글별 일 단위 HyperLogLog의 추정 카디널리티 증가분만큼 조회수를 증가 (표준 오차 0.81%)
+@Component
+public class HyperLogLogPostViewDedupStrategy implements PostViewDedupStrategy {
+
+	private static final Duration TTL = Duration.ofDays(2);
+
+	@Override
+	public PostViewDedupMode getMode() {
+		return HYPER_LOG_LOG;
+	}
+
+	@Override
+	public Duration getTtl() {
+		return TTL;
+	}
+
+	@Override
+	public List<String> dedupKeys(UUID postId, Collection<String> ipAddresses) {
+		return List.of(PostViewKeys.hyperLogLogKey(postId, LocalDate.now()));
+	}
+
+	@Override
+	public Collection<String> filterFirstViews(UUID postId, Collection<String> ipAddresses) {
+		return ipAddresses;
+	}
+}
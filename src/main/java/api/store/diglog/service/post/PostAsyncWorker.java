@@ -1,19 +1,25 @@
 package api.store.diglog.service.post;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostViewCountVO;
 import api.store.diglog.repository.PostRepository;
 import api.store.diglog.repository.PostViewBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,78 +28,171 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PostAsyncWorker {
 
-	private static final String REDIS_KEY_PREFIX_POST_VIEW = "post:view:";
-	private static final String REDIS_KEY_PREFIX_VIEW_COUNT = REDIS_KEY_PREFIX_POST_VIEW + "count:";
-	private static final String REDIS_KEY_VIEW_COUNT_DIRTY_SET = REDIS_KEY_PREFIX_POST_VIEW + "dirtySet";
-
-	private static final String LOG_VIEW_COUNT_NULL = "[조회수 부재] postId={}";
-	private static final String LOG_VIEW_COUNT_PARSE_FAIL = "[조회수 파싱 실패] postId={}, RedisViewCountValue={}";
-	private static final String LOG_VIEW_COUNT_REVERSED = "[조회수 역전 감지] postId={}, Redis={}, DB={}";
+	private static final String LOG_VIEW_COUNT_DELTA_PARSE_FAIL = "[조회수 증가분 파싱 실패] postId={}, RedisViewCountDelta={}";
+	private static final String LOG_SYNC_FAILED = "[조회수 동기화 실패] 증가분을 복구합니다. posts={}";
+	private static final String LOG_LEGACY_SEEDED = "[이전 방식 조회수 이관] posts={}";
+
+	// 증가분 방식 이전 노드가 단일 dirtySet에 남긴 게시글은 절대 조회수만 있고 증가분이 없으므로,
+	// 조회수에서 DB 조회수와 이미 쌓인 증가분을 뺀 나머지를 증가분으로 옮겨 선점 시 버려지지 않게 한다.
+	// KEYS[2i-1]: 조회수, KEYS[2i]: DB 미반영 증가분, ARGV[i]: DB 조회수
+	private static final String SEED_SCRIPT = """
+		local seeded = 0
+		for i = 1, #ARGV do
+			local count = tonumber(redis.call('GET', KEYS[2 * i - 1]))
+			local delta = tonumber(redis.call('GET', KEYS[2 * i]) or '0')
+			if count and delta then
+				local pending = count - tonumber(ARGV[i]) - delta
+				if pending > 0 then
+					redis.call('INCRBY', KEYS[2 * i], pending)
+					seeded = seeded + 1
+				end
+			end
+		end
+		return seeded
+		""";
+
+	// 증가분 조회와 삭제, dirtySet 제거를 원자적으로 수행해 그 사이에 들어온 조회가 다음 동기화로 넘어가도록 한다.
+	// KEYS[1]: dirtySet, KEYS[2..]: DB 미반영 증가분, ARGV: postId
+	private static final String CLAIM_SCRIPT = """
+		local deltas = {}
+		for i = 2, #KEYS do
+			deltas[i - 1] = redis.call('GET', KEYS[i]) or false
+			redis.call('DEL', KEYS[i])
+			redis.call('SREM', KEYS[1], ARGV[i - 1])
+		end
+		return deltas
+		""";
+
+	// KEYS[2i-1]: 게시글의 dirtySet 샤드, KEYS[2i]: DB 미반영 증가분, ARGV[1..n]: postId, ARGV[n+1..2n]: 증가분
+	private static final String RESTORE_SCRIPT = """
+		local n = #KEYS / 2
+		for i = 1, n do
+			redis.call('INCRBY', KEYS[2 * i], ARGV[n + i])
+			redis.call('SADD', KEYS[2 * i - 1], ARGV[i])
+		end
+		return n
+		""";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM = new DefaultRedisScript<>(CLAIM_SCRIPT, List.class);
+	private static final RedisScript<Long> RESTORE = new DefaultRedisScript<>(RESTORE_SCRIPT, Long.class);
+	private static final RedisScript<Long> SEED = new DefaultRedisScript<>(SEED_SCRIPT, Long.class);
 
 	private final StringRedisTemplate redisTemplate;
 	private final PostViewBatchRepository postViewBatchRepository;
 	private final PostRepository postRepository;
+	private final PostViewDirtyShards postViewDirtyShards;
+	private final MeterRegistry meterRegistry;
+
+	private Counter syncedPostCounter;
+	private Timer batchTimer;
+
+	@PostConstruct
+	void registerMetrics() {
+		syncedPostCounter = Counter.builder("post.view.sync.posts")
+			.description("DB에 반영된 게시글 조회수 수")
+			.register(meterRegistry);
+		batchTimer = Timer.builder("post.view.sync.batch")
+			.description("배치 하나의 증가분 선점과 DB 반영 소요 시간")
+			.register(meterRegistry);
+	}
 
 	@Async("syncExecutor")
-	public void syncViewCountAllInBatch(List<UUID> postIds) {
-		Map<UUID, Long> validViewCounts = extractValidRedisViewCounts(postIds);
-		Map<UUID, Long> consistentViewCounts = filterConsistentViewCounts(validViewCounts);
-		updateViewCountsAndCleanupDirtySet(consistentViewCounts);
+	public CompletableFuture<Void> syncViewCountAllInBatch(String dirtySetKey, List<UUID> postIds) {
+		batchTimer.record(() -> syncBatch(dirtySetKey, postIds));
+		return CompletableFuture.completedFuture(null);
 	}
 
-	private Map<UUID, Long> extractValidRedisViewCounts(List<UUID> postIds) {
-		return postIds.stream()
-			.map(this::createRedisViewCountEntry)
-			.filter(Objects::nonNull)
-			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-	}
+	private void syncBatch(String dirtySetKey, List<UUID> postIds) {
+		List<UUID> distinctPostIds = postIds.stream().distinct().toList();
+		if (PostViewKeys.DIRTY_SET.equals(dirtySetKey)) {
+			seedLegacyViewCountDeltas(distinctPostIds);
+		}
 
-	private Map.Entry<UUID, Long> createRedisViewCountEntry(UUID id) {
-		String countKey = REDIS_KEY_PREFIX_VIEW_COUNT + id;
-		String redisViewCountValue = redisTemplate.opsForValue().get(countKey);
+		Map<UUID, Long> viewCountDeltas = claimViewCountDeltas(dirtySetKey, distinctPostIds);
+		if (viewCountDeltas.isEmpty()) {
+			return;
+		}
 
 		try {
-			if (redisViewCountValue == null) {
-				log.error(LOG_VIEW_COUNT_NULL, id);
-				return null;
-			}
-
-			return Map.entry(id, Long.parseLong(redisViewCountValue));
-		} catch (NumberFormatException e) {
-			log.error(LOG_VIEW_COUNT_PARSE_FAIL, id, redisViewCountValue);
-			return null;
+			postViewBatchRepository.bulkIncreaseViewCounts(viewCountDeltas);
+			syncedPostCounter.increment(viewCountDeltas.size());
+		} catch (RuntimeException e) {
+			log.error(LOG_SYNC_FAILED, viewCountDeltas.size(), e);
+			restoreViewCountDeltas(viewCountDeltas);
 		}
 	}
 
-	private Map<UUID, Long> filterConsistentViewCounts(Map<UUID, Long> redisViewCounts) {
-		return postRepository.findAllById(redisViewCounts.keySet()).stream()
-			.filter(post -> isConsistentViewCount(post, redisViewCounts.get(post.getId())))
-			.collect(Collectors.toMap(
-				Post::getId,
-				post -> redisViewCounts.get(post.getId())
-			));
+	private void seedLegacyViewCountDeltas(List<UUID> postIds) {
+		List<PostViewCountVO> viewCounts = postRepository.findViewCountsByIdIn(postIds);
+		if (viewCounts.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>();
+		viewCounts.forEach(viewCount -> {
+			keys.add(PostViewKeys.countKey(viewCount.getPostId()));
+			keys.add(PostViewKeys.deltaKey(viewCount.getPostId()));
+		});
+		Object[] args = viewCounts.stream()
+			.map(viewCount -> String.valueOf(viewCount.getViewCount()))
+			.toArray();
+
+		Long seeded = redisTemplate.execute(SEED, keys, args);
+		if (seeded != null && seeded > 0) {
+			log.info(LOG_LEGACY_SEEDED, seeded);
+		}
 	}
 
-	private boolean isConsistentViewCount(Post post, long redisViewCount) {
-		if (post.getViewCount() > redisViewCount) {
-			log.error(LOG_VIEW_COUNT_REVERSED, post.getId(), redisViewCount, post.getViewCount());
-			return false;
+	private Map<UUID, Long> claimViewCountDeltas(String dirtySetKey, List<UUID> postIds) {
+		List<String> keys = new ArrayList<>();
+		keys.add(dirtySetKey);
+		postIds.forEach(postId -> keys.add(PostViewKeys.deltaKey(postId)));
+		Object[] args = postIds.stream()
+			.map(UUID::toString)
+			.toArray();
+
+		List<?> redisViewCountDeltas = redisTemplate.execute(CLAIM, keys, args);
+		if (redisViewCountDeltas == null) {
+			return Map.of();
+		}
+
+		Map<UUID, Long> viewCountDeltas = new HashMap<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			Long viewCountDelta = parseViewCountDelta(postIds.get(i), redisViewCountDeltas.get(i));
+			if (viewCountDelta != null && viewCountDelta > 0) {
+				viewCountDeltas.put(postIds.get(i), viewCountDelta);
+			}
 		}
-		return true;
+		return viewCountDeltas;
 	}
 
-	private void updateViewCountsAndCleanupDirtySet(Map<UUID, Long> viewCounts) {
-		if (viewCounts.isEmpty()) {
-			return;
+	private Long parseViewCountDelta(UUID id, Object redisViewCountDelta) {
+		if (redisViewCountDelta == null) {
+			return null;
 		}
 
-		postViewBatchRepository.bulkUpdateViewCounts(viewCounts);
-		cleanupDirtySet(viewCounts.keySet());
+		try {
+			return Long.parseLong(redisViewCountDelta.toString());
+		} catch (NumberFormatException e) {
+			log.error(LOG_VIEW_COUNT_DELTA_PARSE_FAIL, id, redisViewCountDelta);
+			return null;
+		}
 	}
 
-	private void cleanupDirtySet(Set<UUID> processedPostIds) {
-		processedPostIds.forEach(postId ->
-			redisTemplate.opsForSet().remove(REDIS_KEY_VIEW_COUNT_DIRTY_SET, postId.toString())
-		);
+	// 샤딩 이전 dirtySet에서 가져온 게시글도 자신의 샤드로 복구
+	private void restoreViewCountDeltas(Map<UUID, Long> viewCountDeltas) {
+		List<UUID> postIds = new ArrayList<>(viewCountDeltas.keySet());
+		List<String> keys = new ArrayList<>();
+		postIds.forEach(postId -> {
+			keys.add(postViewDirtyShards.dirtySetKey(postId));
+			keys.add(PostViewKeys.deltaKey(postId));
+		});
+
+		List<String> args = new ArrayList<>();
+		postIds.forEach(postId -> args.add(postId.toString()));
+		postIds.forEach(postId -> args.add(String.valueOf(viewCountDeltas.get(postId))));
+
+		redisTemplate.execute(RESTORE, keys, args.toArray());
 	}
 }
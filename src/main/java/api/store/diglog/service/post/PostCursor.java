@@ -0,0 +1,74 @@
+package api.store.diglog.service.post;
+
+import static api.store.diglog.common.exception.ErrorCode.*;
+import static java.nio.charset.StandardCharsets.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.model.entity.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// (createdAt, id) keyset 위치를 클라이언트에 노출하지 않도록 Base64 토큰으로 감싼다
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+	private static final String DELIMITER = "|";
+	private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_000);
+	private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+	public static final String CREATED_AT = "createdAt";
+	public static final String ID = "id";
+
+	private final LocalDateTime createdAt;
+	private final UUID id;
+
+	public static PostCursor from(Post post) {
+		return new PostCursor(post.getCreatedAt(), post.getId());
+	}
+
+	// 내림차순 첫 페이지를 조회하기 위해 모든 게시글보다 뒤에 있는 위치
+	public static PostCursor last() {
+		return new PostCursor(MAX_CREATED_AT, MAX_ID);
+	}
+
+	public static PostCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+			return new PostCursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				UUID.fromString(decoded.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CustomException(POST_INVALID_CURSOR);
+		}
+	}
+
+	public static Sort sort(boolean isDescending) {
+		Sort sort = Sort.by(CREATED_AT, ID);
+		return isDescending ? sort.descending() : sort.ascending();
+	}
+
+	public static ScrollPosition toScrollPosition(PostCursor cursor) {
+		if (cursor == null) {
+			return ScrollPosition.keyset();
+		}
+		return ScrollPosition.forward(Map.of(CREATED_AT, cursor.createdAt, ID, cursor.id));
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+	}
+}
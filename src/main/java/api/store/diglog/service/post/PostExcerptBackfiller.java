@@ -0,0 +1,48 @@
+package api.store.diglog.service.post;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.common.util.PostExcerpt;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 요약 컬럼 추가 이전에 저장된 게시글의 요약을 채운다, 채워진 게시글은 다시 조회되지 않는다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostExcerptBackfiller {
+
+	private static final String LOG_BACKFILLED = "[게시글 요약 채우기] posts={}";
+
+	private final PostRepository postRepository;
+
+	@Value("${diglog.post.excerpt.backfill-page-size:500}")
+	private int pageSize;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		backfill();
+	}
+
+	public int backfill() {
+		int backfilled = 0;
+		List<Post> posts;
+		while (!(posts = postRepository.findAllByExcerptIsNull(Limit.of(pageSize))).isEmpty()) {
+			posts.forEach(post -> postRepository.updateExcerpt(post.getId(), PostExcerpt.from(post.getContent())));
+			backfilled += posts.size();
+		}
+
+		if (backfilled > 0) {
+			log.info(LOG_BACKFILLED, backfilled);
+		}
+		return backfilled;
+	}
+}
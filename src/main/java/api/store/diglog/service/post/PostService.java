@@ -2,22 +2,32 @@ package api.store.diglog.service.post;
 
 import static api.store.diglog.common.exception.ErrorCode.*;
 
-import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import api.store.diglog.common.exception.CustomException;
-import api.store.diglog.common.util.BatchPartition;
+import api.store.diglog.common.util.PostExcerpt;
 import api.store.diglog.model.constant.SearchOption;
 import api.store.diglog.model.dto.post.PostCreateResponse;
 import api.store.diglog.model.dto.post.PostFolderUpdateRequest;
@@ -26,20 +36,36 @@ import api.store.diglog.model.dto.post.PostListMemberTagRequest;
 import api.store.diglog.model.dto.post.PostListSearchRequest;
 import api.store.diglog.model.dto.post.PostRequest;
 import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.dto.post.PostSliceResponse;
+import api.store.diglog.model.dto.post.PostSummaryResponse;
 import api.store.diglog.model.dto.post.PostUpdateRequest;
+import api.store.diglog.model.dto.post.PostViewBatchRequest;
 import api.store.diglog.model.dto.post.PostViewIncrementRequest;
 import api.store.diglog.model.dto.post.PostViewResponse;
+import api.store.diglog.model.dto.tag.TagResponse;
 import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
 import api.store.diglog.model.entity.Tag;
 import api.store.diglog.model.vo.image.ImagePostVO;
+import api.store.diglog.model.vo.post.PostDetailVO;
+import api.store.diglog.model.vo.post.PostSummaryVO;
 import api.store.diglog.model.vo.tag.TagPostVO;
 import api.store.diglog.repository.PostRepository;
 import api.store.diglog.service.FolderService;
 import api.store.diglog.service.ImageService;
 import api.store.diglog.service.MemberService;
 import api.store.diglog.service.TagService;
+import api.store.diglog.service.post.cache.PostCacheEvictEvent;
+import api.store.diglog.service.post.cache.PostResponseCache;
+import api.store.diglog.service.post.feed.PostFeedEvent;
+import api.store.diglog.service.post.feed.PostFeedPage;
+import api.store.diglog.service.post.feed.PostHomeFeed;
+import api.store.diglog.service.post.search.PostIndexEvent;
+import api.store.diglog.service.post.search.PostSearchEngine;
+import api.store.diglog.service.post.search.PostSearchEngineFactory;
+import api.store.diglog.service.post.search.PostSearchEngineType;
+import api.store.diglog.service.tag.MemberTagStatsService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -47,24 +73,28 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class PostService {
 
-	private static final int BATCH_SIZE = 100;
 	private static final int DEFAULT_VIEW_COUNT = 1;
-	private static final String REDIS_KEY_DELIMITER = ":";
-	private static final String REDIS_KEY_PREFIX_POST_VIEW =
-		"post" + REDIS_KEY_DELIMITER + "view" + REDIS_KEY_DELIMITER;
-	private static final String REDIS_KEY_PREFIX_VIEW_COUNT =
-		REDIS_KEY_PREFIX_POST_VIEW + "count" + REDIS_KEY_DELIMITER;
-	private static final String REDIS_KEY_VIEW_COUNT_DIRTY_SET = REDIS_KEY_PREFIX_POST_VIEW + "dirtySet";
-	private static final int DAILY_TTL_HOURS = 24;
+	private static final int MAX_VIEW_BATCH_SIZE = 100;
+	private static final String HOME_FEED_SORT = "createdAt";
 
 	private final PostRepository postRepository;
 	private final MemberService memberService;
 	private final ImageService imageService;
 	private final TagService tagService;
 	private final FolderService folderService;
-	private final PostAsyncWorker postAsyncWorker;
+	private final PostViewShardSyncer postViewShardSyncer;
 	private final StringRedisTemplate redisTemplate;
 	private final RedisPostViewLoader redisPostViewLoader;
+	private final RedisPostViewIncrementer redisPostViewIncrementer;
+	private final PostSearchEngineFactory postSearchEngineFactory;
+	private final PostViewBuffer postViewBuffer;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final PostResponseCache postResponseCache;
+	private final PostHomeFeed postHomeFeed;
+	private final MemberTagStatsService memberTagStatsService;
+
+	@Value("${diglog.post.search.engine:LIKE}")
+	private PostSearchEngineType searchEngine;
 
 	@Transactional
 	public PostCreateResponse save(PostRequest postRequest) {
@@ -76,16 +106,20 @@ public class PostService {
 			.member(member)
 			.title(postRequest.getTitle())
 			.content(postRequest.getContent())
+			.excerpt(PostExcerpt.from(postRequest.getContent()))
 			.folder(folder)
 			.tags(tags)
 			.build();
 		Post savedPost = postRepository.save(post);
+		memberTagStatsService.update(member.getId(), List.of(), MemberTagStatsService.tagIds(tags));
 
 		ImagePostVO imagePostVO = ImagePostVO.builder()
 			.id(savedPost.getId())
 			.urls(postRequest.getUrls())
 			.build();
 		imageService.savePostImage(imagePostVO);
+		applicationEventPublisher.publishEvent(PostIndexEvent.upsert(savedPost.getId()));
+		applicationEventPublisher.publishEvent(PostFeedEvent.added(savedPost.getId(), savedPost.getCreatedAt()));
 
 		return PostCreateResponse.builder()
 			.id(savedPost.getId())
@@ -106,14 +140,21 @@ public class PostService {
 
 		Folder folder = folderService.getFolderByIdAndMemberId(postUpdateRequest.getFolderId(), member.getId());
 
-		Post updatePost = postUpdateRequest.toPost(post, folder, tags);
-		postRepository.save(updatePost);
+		// 영속 엔티티를 그대로 수정해 조회수와 삭제 여부가 기본값으로 덮어써지지 않게 한다
+		List<UUID> previousTagIds = MemberTagStatsService.tagIds(post.getTags());
+		post.update(postUpdateRequest.getTitle(), postUpdateRequest.getContent(), folder, tags);
+		if (!post.isDeleted()) {
+			memberTagStatsService.update(member.getId(), previousTagIds, MemberTagStatsService.tagIds(tags));
+			applicationEventPublisher.publishEvent(PostFeedEvent.refreshed(post.getId(), post.getCreatedAt()));
+		}
 
 		ImagePostVO imagePostVO = ImagePostVO.builder()
 			.id(post.getId())
 			.urls(postUpdateRequest.getUrls())
 			.build();
 		imageService.saveUpdatedPostImage(imagePostVO);
+		applicationEventPublisher.publishEvent(PostIndexEvent.upsert(post.getId()));
+		applicationEventPublisher.publishEvent(PostCacheEvictEvent.of(post.getId()));
 	}
 
 	private List<Tag> saveNewTags(List<String> tagNames) {
@@ -138,42 +179,63 @@ public class PostService {
 
 		posts.forEach(post -> post.updateFolder(folder));
 		postRepository.saveAll(posts);
+		applicationEventPublisher.publishEvent(PostCacheEvictEvent.of(posts.stream().map(Post::getId).toList()));
 	}
 
 	public PostResponse getPost(UUID id) {
-		Post post = postRepository.findByIdAndIsDeletedFalse(id)
-			.orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+		return postResponseCache.get(id, () -> {
+			Post post = postRepository.findByIdAndIsDeletedFalse(id)
+				.orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
-		return new PostResponse(post);
+			return new PostResponse(post);
+		});
 	}
 
 	public Page<PostResponse> getPosts(PostListSearchRequest postListSearchRequest) {
 		Pageable pageable = getPageable(postListSearchRequest);
 
+		if (isHomeFeedOrder(postListSearchRequest)) {
+			Optional<Page<PostResponse>> feedPage = postHomeFeed.read(pageable.getOffset(), pageable.getPageSize())
+				.flatMap(postFeedPage -> hydrateFeedPage(postFeedPage, pageable));
+			if (feedPage.isPresent()) {
+				return feedPage.get();
+			}
+		}
+
 		try {
-			return postRepository.findAllByIsDeletedFalse(pageable).map(PostResponse::new);
+			return toPostResponsePage(postRepository.findAllByIsDeletedFalse(pageable));
 		} catch (Exception e) {
 			throw new CustomException(POST_INVALID_SORT);
 		}
 	}
 
+	// 홈 화면의 기본 정렬(최신순)만 피드에서 읽는다
+	private boolean isHomeFeedOrder(PostListSearchRequest postListSearchRequest) {
+		return List.of(HOME_FEED_SORT).equals(postListSearchRequest.getSorts())
+			&& Boolean.TRUE.equals(postListSearchRequest.getIsDescending());
+	}
+
+	// 피드의 게시글 ID를 캐시로 채우고, 그 사이 삭제되어 빠진 게시글이 있으면 DB에서 다시 읽는다
+	private Optional<Page<PostResponse>> hydrateFeedPage(PostFeedPage postFeedPage, Pageable pageable) {
+		List<UUID> postIds = postFeedPage.getPostIds();
+		Map<UUID, PostResponse> postResponses = postResponseCache.getAll(postIds,
+			missPostIds -> postRepository.findAllWithDetailsByIdIn(missPostIds).stream()
+				.filter(post -> !post.isDeleted())
+				.map(PostResponse::new)
+				.toList());
+		if (postResponses.size() < postIds.size()) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new PageImpl<>(postIds.stream().map(postResponses::get).toList(), pageable,
+			postFeedPage.getTotalCount()));
+	}
+
 	public Page<PostResponse> searchPosts(PostListSearchRequest postListSearchRequest) {
 		Pageable pageable = getPageable(postListSearchRequest);
-		SearchOption option = postListSearchRequest.getOption();
-
-		String title = postListSearchRequest.getKeyword();
-		String tagName = postListSearchRequest.getKeyword();
 
-		return switch (option) {
-			case ALL ->
-				postRepository.findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(title,
-						tagName, pageable)
-					.map(PostResponse::new);
-			case TITLE -> postRepository.findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(title, pageable)
-				.map(PostResponse::new);
-			case TAG -> postRepository.findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(tagName, pageable)
-				.map(PostResponse::new);
-		};
+		return toPostResponsePage(postSearchEngineFactory.getEngine(searchEngine)
+			.search(postListSearchRequest.getKeyword(), postListSearchRequest.getOption(), pageable));
 	}
 
 	private Pageable getPageable(PostListSearchRequest postListSearchRequest) {
@@ -200,15 +262,12 @@ public class PostService {
 		Member member = memberService.findActiveMemberByUsername(postListMemberRequest.getUsername());
 
 		if (postListMemberRequest.getFolderIds() == null || postListMemberRequest.getFolderIds().isEmpty()) {
-			return postRepository.findAllByMemberIdAndIsDeletedFalse(member.getId(), pageable)
-				.map(PostResponse::new);
+			return toPostResponsePageByIds(postRepository.findIdsByMemberId(member.getId(), pageable));
 		}
 
-		List<UUID> folderIds = folderService.getFoldersByIdList(postListMemberRequest.getFolderIds())
-			.stream().map(Folder::getId)
-			.toList();
-		return postRepository.findAllByMemberIdAndFolderIdInAndIsDeletedFalse(member.getId(), folderIds, pageable)
-			.map(PostResponse::new);
+		List<UUID> folderIds = postListMemberRequest.getFolderIds();
+		return toPostResponsePageByIds(
+			postRepository.findIdsByMemberIdAndFolderIdIn(member.getId(), folderIds, pageable));
 	}
 
 	public Page<PostResponse> getMemberTagPosts(PostListMemberTagRequest postListMemberTagRequest) {
@@ -217,8 +276,161 @@ public class PostService {
 		String username = postListMemberTagRequest.getUsername();
 		UUID tagId = postListMemberTagRequest.getTagId();
 
-		return postRepository.findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(username, tagId, pageable)
-			.map(PostResponse::new);
+		return toPostResponsePage(
+			postRepository.findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(username, tagId, pageable));
+	}
+
+	// 본문 대신 저장된 요약만 읽는 목록 조회
+	public Page<PostSummaryResponse> getPostSummaries(PostListSearchRequest postListSearchRequest) {
+		Pageable pageable = getPageable(postListSearchRequest);
+
+		try {
+			return toPostSummaryPage(postRepository.findSummariesByIsDeletedFalse(pageable));
+		} catch (Exception e) {
+			throw new CustomException(POST_INVALID_SORT);
+		}
+	}
+
+	public Page<PostSummaryResponse> getMemberPostSummaries(PostListMemberRequest postListMemberRequest) {
+		Pageable pageable = PageRequest.of(postListMemberRequest.getPage(), postListMemberRequest.getSize(),
+			Sort.by("createdAt", "id").descending());
+		Member member = memberService.findActiveMemberByUsername(postListMemberRequest.getUsername());
+
+		if (postListMemberRequest.getFolderIds() == null || postListMemberRequest.getFolderIds().isEmpty()) {
+			return toPostSummaryPage(postRepository.findSummariesByMemberId(member.getId(), pageable));
+		}
+
+		List<UUID> folderIds = postListMemberRequest.getFolderIds();
+		return toPostSummaryPage(postRepository.findSummariesByMemberIdAndFolderIdIn(member.getId(), folderIds,
+			pageable));
+	}
+
+	// 페이지의 태그는 게시글 ID IN 쿼리 한 번으로 붙인다
+	private Page<PostSummaryResponse> toPostSummaryPage(Page<PostSummaryVO> postSummaries) {
+		Map<UUID, List<TagResponse>> tagsByPostId = new HashMap<>();
+		if (postSummaries.hasContent()) {
+			postRepository.findPostTagsByPostIdIn(postSummaries.map(PostSummaryVO::getId).getContent())
+				.forEach(postTag -> tagsByPostId.computeIfAbsent(postTag.getPostId(), postId -> new ArrayList<>())
+					.add(TagResponse.builder()
+						.id(postTag.getTagId())
+						.name(postTag.getTagName())
+						.build()));
+		}
+
+		return postSummaries.map(postSummary -> new PostSummaryResponse(postSummary,
+			tagsByPostId.getOrDefault(postSummary.getId(), List.of())));
+	}
+
+	private Page<PostResponse> toPostResponsePage(Page<Post> posts) {
+		return new PageImpl<>(toPostResponses(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+	}
+
+	// ID 페이지의 순서를 유지하며 응답에 필요한 연관 엔티티와 함께 한 번에 불러온다
+	private Page<PostResponse> toPostResponsePageByIds(Page<UUID> postIds) {
+		if (!postIds.hasContent()) {
+			return new PageImpl<>(List.of(), postIds.getPageable(), postIds.getTotalElements());
+		}
+
+		Map<UUID, Post> posts = postRepository.findAllWithDetailsByIdIn(postIds.getContent()).stream()
+			.collect(Collectors.toMap(Post::getId, Function.identity(), (first, second) -> first));
+		return new PageImpl<>(postIds.getContent().stream()
+			.map(posts::get)
+			.filter(Objects::nonNull)
+			.map(PostResponse::new)
+			.toList(), postIds.getPageable(), postIds.getTotalElements());
+	}
+
+	// 이미 읽은 게시글에 작성자, 폴더, 태그만 프로젝션 IN 쿼리 한 번으로 붙여 게시글마다 지연 로딩되지 않도록 한다
+	// 게시글 행(본문 포함)은 다시 읽지 않는다
+	private List<PostResponse> toPostResponses(List<Post> posts) {
+		if (posts.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, List<PostDetailVO>> detailsByPostId = postRepository.findDetailsByPostIdIn(posts.stream()
+				.map(Post::getId)
+				.toList())
+			.stream()
+			.collect(Collectors.groupingBy(PostDetailVO::getPostId));
+
+		return posts.stream()
+			.filter(post -> detailsByPostId.containsKey(post.getId()))
+			.map(post -> new PostResponse(post, detailsByPostId.get(post.getId())))
+			.toList();
+	}
+
+	// cursor 기반 목록 조회, 깊이와 무관하게 (createdAt, id) 인덱스 범위만 읽고 전체 개수는 요청 시에만 센다
+	public PostSliceResponse getPostsByCursor(PostListSearchRequest postListSearchRequest) {
+		int size = postListSearchRequest.getSize();
+		boolean isDescending = !Boolean.FALSE.equals(postListSearchRequest.getIsDescending());
+		List<Post> posts = postRepository.findAllByIsDeletedFalse(toScrollPosition(postListSearchRequest.getCursor()),
+			PostCursor.sort(isDescending), Limit.of(size + 1)).getContent();
+
+		return toSliceResponse(posts, size, postListSearchRequest.getWithTotalCount(),
+			postRepository::countByIsDeletedFalse);
+	}
+
+	public PostSliceResponse getMemberPostsByCursor(PostListMemberRequest postListMemberRequest) {
+		int size = postListMemberRequest.getSize();
+		ScrollPosition position = toScrollPosition(postListMemberRequest.getCursor());
+		Member member = memberService.findActiveMemberByUsername(postListMemberRequest.getUsername());
+
+		if (postListMemberRequest.getFolderIds() == null || postListMemberRequest.getFolderIds().isEmpty()) {
+			List<Post> posts = postRepository.findAllByMemberIdAndIsDeletedFalse(member.getId(), position,
+				PostCursor.sort(true), Limit.of(size + 1)).getContent();
+			return toSliceResponse(posts, size, postListMemberRequest.getWithTotalCount(),
+				() -> postRepository.countByMemberIdAndIsDeletedFalse(member.getId()));
+		}
+
+		List<UUID> folderIds = postListMemberRequest.getFolderIds();
+		List<Post> posts = postRepository.findAllByMemberIdAndFolderIdInAndIsDeletedFalse(member.getId(), folderIds,
+			position, PostCursor.sort(true), Limit.of(size + 1)).getContent();
+		return toSliceResponse(posts, size, postListMemberRequest.getWithTotalCount(),
+			() -> postRepository.countByMemberIdAndFolderIdInAndIsDeletedFalse(member.getId(), folderIds));
+	}
+
+	public PostSliceResponse getMemberTagPostsByCursor(PostListMemberTagRequest postListMemberTagRequest) {
+		int size = postListMemberTagRequest.getSize();
+		String username = postListMemberTagRequest.getUsername();
+		UUID tagId = postListMemberTagRequest.getTagId();
+		List<Post> posts = postRepository.findAllByMemberUsernameAndTagsIdAndIsDeletedFalse(username, tagId,
+			toScrollPosition(postListMemberTagRequest.getCursor()), PostCursor.sort(true), Limit.of(size + 1))
+			.getContent();
+
+		return toSliceResponse(posts, size, postListMemberTagRequest.getWithTotalCount(),
+			() -> postRepository.countByMemberUsernameAndTagsIdAndIsDeletedFalse(username, tagId));
+	}
+
+	public PostSliceResponse searchPostsByCursor(PostListSearchRequest postListSearchRequest) {
+		int size = postListSearchRequest.getSize();
+		String keyword = postListSearchRequest.getKeyword();
+		SearchOption option = postListSearchRequest.getOption();
+		PostSearchEngine postSearchEngine = postSearchEngineFactory.getEngine(searchEngine);
+		PostCursor cursor = postListSearchRequest.getCursor() == null
+			? null
+			: PostCursor.decode(postListSearchRequest.getCursor());
+
+		List<Post> posts = postSearchEngine.scroll(keyword, option, cursor, size + 1);
+		return toSliceResponse(posts, size, postListSearchRequest.getWithTotalCount(),
+			() -> postSearchEngine.search(keyword, option, PageRequest.of(0, 1)).getTotalElements());
+	}
+
+	private ScrollPosition toScrollPosition(String cursor) {
+		return PostCursor.toScrollPosition(cursor == null ? null : PostCursor.decode(cursor));
+	}
+
+	// 한 건 더 조회해 다음 페이지 존재 여부를 판단
+	private PostSliceResponse toSliceResponse(List<Post> posts, int size, Boolean withTotalCount,
+		LongSupplier totalCounter) {
+		boolean hasNext = posts.size() > size;
+		List<Post> content = hasNext ? posts.subList(0, size) : posts;
+
+		return PostSliceResponse.builder()
+			.content(toPostResponses(content))
+			.hasNext(hasNext)
+			.nextCursor(hasNext ? PostCursor.from(content.getLast()).encode() : null)
+			.totalCount(Boolean.TRUE.equals(withTotalCount) ? totalCounter.getAsLong() : null)
+			.build();
 	}
 
 	@Transactional
@@ -227,34 +439,29 @@ public class PostService {
 		Post post = postRepository.findByIdAndMember(id, member)
 			.orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
+		if (!post.isDeleted()) {
+			applicationEventPublisher.publishEvent(PostFeedEvent.removed(post.getId()));
+			memberTagStatsService.update(member.getId(), MemberTagStatsService.tagIds(post.getTags()), List.of());
+		}
 		post.softDelete();
+		applicationEventPublisher.publishEvent(PostIndexEvent.delete(post.getId()));
+		applicationEventPublisher.publishEvent(PostCacheEvictEvent.of(post.getId()));
 	}
 
 	public void increaseView(PostViewIncrementRequest postViewIncrementRequest, String userIpAddress) {
 
 		UUID postId = postViewIncrementRequest.getPostId();
-
-		String countKey = REDIS_KEY_PREFIX_VIEW_COUNT + postId;
-		redisPostViewLoader.load(countKey, postId);
-
-		String redisKey = REDIS_KEY_PREFIX_POST_VIEW + postId.toString() + REDIS_KEY_DELIMITER + userIpAddress;
-		Boolean isFirstView = redisTemplate.opsForValue()
-			.setIfAbsent(redisKey, "true", Duration.ofHours(DAILY_TTL_HOURS));
-
-		if (Boolean.FALSE.equals(isFirstView)) {
+		if (postViewBuffer.offer(postId, userIpAddress)) {
 			return;
 		}
 
-		String redisViewCount = redisTemplate.opsForValue().get(countKey);
-		validateRedisViewCount(redisViewCount);
-		redisTemplate.opsForValue().increment(countKey);
-		redisTemplate.opsForSet().add(REDIS_KEY_VIEW_COUNT_DIRTY_SET, postId.toString());
-
+		PostViewIncrementResult result = redisPostViewIncrementer.increment(postId, userIpAddress);
+		validateIncrementResult(result);
 	}
 
 	public PostViewResponse getViewCount(UUID id) {
 
-		String countKey = REDIS_KEY_PREFIX_VIEW_COUNT + id;
+		String countKey = PostViewKeys.countKey(id);
 		redisPostViewLoader.load(countKey, id);
 
 		String viewCount = redisTemplate.opsForValue().get(countKey);
@@ -265,17 +472,50 @@ public class PostService {
 			.build();
 	}
 
+	// 목록 화면의 조회수를 MGET 한 번으로 읽고, 적재되지 않은 게시글은 DB에서 한 번에 적재
+	public List<PostViewResponse> getViewCounts(PostViewBatchRequest postViewBatchRequest) {
+		validateViewIds(postViewBatchRequest.getPostIds());
+		List<UUID> postIds = postViewBatchRequest.getPostIds().stream()
+			.distinct()
+			.toList();
+		validateViewBatchSize(postIds);
+
+		Map<UUID, Long> viewCounts = redisPostViewLoader.loadAll(postIds);
+		return postIds.stream()
+			.filter(viewCounts::containsKey)
+			.map(postId -> PostViewResponse.builder()
+				.postId(postId)
+				.viewCount(viewCounts.get(postId))
+				.build())
+			.toList();
+	}
+
 	public void syncPostViewCountToDb() {
-		Set<String> dirtySet = redisTemplate.opsForSet().members(REDIS_KEY_VIEW_COUNT_DIRTY_SET);
-		if (dirtySet == null || dirtySet.isEmpty()) {
-			return;
+		postViewShardSyncer.syncAll();
+	}
+
+	private void validateViewIds(List<UUID> postIds) {
+		if (postIds == null || postIds.isEmpty() || postIds.stream().anyMatch(Objects::isNull)) {
+			throw new CustomException(POST_VIEW_IDS_EMPTY);
 		}
+	}
 
-		List<UUID> postIds = dirtySet.stream().map(UUID::fromString).toList();
-		BatchPartition<UUID> batchPartition = BatchPartition.of(postIds, BATCH_SIZE);
-		batchPartition.stream()
-			.forEach(postAsyncWorker::syncViewCountAllInBatch);
+	private void validateViewBatchSize(List<UUID> postIds) {
+		if (postIds.size() > MAX_VIEW_BATCH_SIZE) {
+			throw new CustomException(
+				POST_VIEW_BATCH_SIZE_EXCEEDED,
+				String.format(POST_VIEW_BATCH_SIZE_EXCEEDED.getMessage(), MAX_VIEW_BATCH_SIZE)
+			);
+		}
+	}
 
+	private void validateIncrementResult(PostViewIncrementResult result) {
+		if (result == PostViewIncrementResult.MISSING) {
+			throw new CustomException(REDIS_VIEW_COUNT_VALUE_MISSING);
+		}
+		if (result == PostViewIncrementResult.INVALID) {
+			throw new CustomException(INVALID_REDIS_VIEW_COUNT_VALUE);
+		}
 	}
 
 	private void validateRedisViewCount(String redisViewCount) {
@@ -0,0 +1,155 @@
+package api.store.diglog.service.post;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 조회 요청을 노드 메모리에 모아두었다가 주기적으로 Redis에 파이프라인으로 반영하는 write-behind 버퍼
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewBuffer {
+
+	private static final long NOT_BUFFERED = -1L;
+
+	private static final String LOG_FLUSH_FAILED = "[조회수 버퍼 반영 실패] 버퍼에 다시 적재합니다. posts={}";
+	private static final String LOG_FLUSH_SKIPPED = "[조회수 버퍼 반영 불가] postId={}, views={}, result={}";
+	private static final String LOG_SHUTDOWN_FLUSH_FAILED = "[종료 시 조회수 버퍼 반영 실패] 유실된 조회수={}";
+
+	private final RedisPostViewIncrementer redisPostViewIncrementer;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<UUID, Set<String>> pendingViews = new ConcurrentHashMap<>();
+	private final LongAdder bufferedViewCount = new LongAdder();
+	private final AtomicLong oldestBufferedAt = new AtomicLong(NOT_BUFFERED);
+
+	@Value("${diglog.post.view.buffer.enabled:false}")
+	private boolean enabled;
+
+	@Value("${diglog.post.view.buffer.max-size:100000}")
+	private long maxSize;
+
+	private Counter overflowCounter;
+	private Timer flushTimer;
+	private Timer flushLagTimer;
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("post.view.buffer.size", bufferedViewCount, LongAdder::sum)
+			.description("Redis 반영을 기다리는 조회 수")
+			.register(meterRegistry);
+		overflowCounter = Counter.builder("post.view.buffer.overflow")
+			.description("버퍼가 가득 차 동기 처리된 조회 수")
+			.register(meterRegistry);
+		flushTimer = Timer.builder("post.view.buffer.flush")
+			.description("버퍼 반영 소요 시간")
+			.register(meterRegistry);
+		flushLagTimer = Timer.builder("post.view.buffer.flush.lag")
+			.description("가장 오래된 조회가 버퍼에 머문 시간")
+			.register(meterRegistry);
+	}
+
+	// 버퍼에 적재하지 못한 경우 false를 반환하며, 호출자는 동기 경로로 처리
+	public boolean offer(UUID postId, String ipAddress) {
+		if (!enabled) {
+			return false;
+		}
+		if (bufferedViewCount.sum() >= maxSize) {
+			overflowCounter.increment();
+			return false;
+		}
+
+		pendingViews.compute(postId, (id, ipAddresses) -> {
+			Set<String> bufferedIpAddresses = (ipAddresses == null) ? new HashSet<>() : ipAddresses;
+			if (bufferedIpAddresses.add(ipAddress)) {
+				bufferedViewCount.increment();
+			}
+			return bufferedIpAddresses;
+		});
+		oldestBufferedAt.compareAndSet(NOT_BUFFERED, System.nanoTime());
+		return true;
+	}
+
+	public synchronized void flush() {
+		if (pendingViews.isEmpty()) {
+			return;
+		}
+
+		long bufferedAt = oldestBufferedAt.getAndSet(NOT_BUFFERED);
+		Map<UUID, Set<String>> drainedViews = drain();
+
+		flushTimer.record(() -> {
+			try {
+				Map<UUID, Long> results = redisPostViewIncrementer.incrementPipelined(drainedViews);
+				results.forEach((postId, code) -> logIfNotApplied(postId, drainedViews.get(postId), code));
+			} catch (RuntimeException e) {
+				log.error(LOG_FLUSH_FAILED, drainedViews.size(), e);
+				drainedViews.forEach(this::restore);
+			}
+		});
+
+		if (bufferedAt != NOT_BUFFERED) {
+			flushLagTimer.record(System.nanoTime() - bufferedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.error(LOG_SHUTDOWN_FLUSH_FAILED, bufferedViewCount.sum(), e);
+		}
+	}
+
+	private Map<UUID, Set<String>> drain() {
+		Map<UUID, Set<String>> drainedViews = new HashMap<>();
+		for (UUID postId : pendingViews.keySet()) {
+			Set<String> ipAddresses = pendingViews.remove(postId);
+			if (ipAddresses != null) {
+				drainedViews.put(postId, ipAddresses);
+				bufferedViewCount.add(-ipAddresses.size());
+			}
+		}
+		return drainedViews;
+	}
+
+	private void restore(UUID postId, Set<String> ipAddresses) {
+		// 그 사이 같은 IP가 다시 들어왔을 수 있으므로 offer처럼 새로 더해진 IP만 센다
+		pendingViews.compute(postId, (id, current) -> {
+			Set<String> bufferedIpAddresses = (current == null) ? new HashSet<>() : current;
+			for (String ipAddress : ipAddresses) {
+				if (bufferedIpAddresses.add(ipAddress)) {
+					bufferedViewCount.increment();
+				}
+			}
+			return bufferedIpAddresses;
+		});
+		oldestBufferedAt.compareAndSet(NOT_BUFFERED, System.nanoTime());
+	}
+
+	private void logIfNotApplied(UUID postId, Set<String> ipAddresses, Long code) {
+		PostViewIncrementResult result = PostViewIncrementResult.from(code);
+		if (result == PostViewIncrementResult.INVALID || result == PostViewIncrementResult.MISSING) {
+			log.warn(LOG_FLUSH_SKIPPED, postId, ipAddresses.size(), result);
+		}
+	}
+}
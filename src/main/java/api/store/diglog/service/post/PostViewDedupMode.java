@@ -0,0 +1,16 @@
+package api.store.diglog.service.post;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostViewDedupMode {
+
+	EXACT("SET"),
+	HYPER_LOG_LOG("PFADD"),
+	BLOOM_FILTER("NONE");
+
+	// 조회수 증가 스크립트가 중복 조회를 판별하는 방식
+	private final String scriptCommand;
+}
@@ -0,0 +1,24 @@
+package api.store.diglog.service.post;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PostViewDedupStrategy {
+
+	PostViewDedupMode getMode();
+
+	Duration getTtl();
+
+	// 조회수 증가 스크립트에 전달할 중복 판별 키
+	List<String> dedupKeys(UUID postId, Collection<String> ipAddresses);
+
+	// 스크립트 실행 전에 첫 조회만 남긴다. 스크립트에서 판별하는 방식은 그대로 반환한다.
+	Collection<String> filterFirstViews(UUID postId, Collection<String> ipAddresses);
+
+	// 조회수가 증가한 뒤 첫 조회로 기록한다. 스크립트에서 판별하는 방식은 할 일이 없다.
+	default void onCounted(UUID postId, Collection<String> firstViews) {
+	}
+
+}
@@ -0,0 +1,27 @@
+package api.store.diglog.service.post;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PostViewDedupStrategyFactory {
+
+	private final Map<PostViewDedupMode, PostViewDedupStrategy> dedupStrategies;
+
+	@Autowired
+	public PostViewDedupStrategyFactory(List<PostViewDedupStrategy> dedupStrategies) {
+		Map<PostViewDedupMode, PostViewDedupStrategy> map = new EnumMap<>(PostViewDedupMode.class);
+		dedupStrategies.forEach(strategy -> map.put(strategy.getMode(), strategy));
+		this.dedupStrategies = Collections.unmodifiableMap(map);
+	}
+
+	public PostViewDedupStrategy getStrategy(PostViewDedupMode dedupMode) {
+		return dedupStrategies.get(dedupMode);
+	}
+
+}
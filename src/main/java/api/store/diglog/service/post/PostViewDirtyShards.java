@@ -0,0 +1,31 @@
+package api.store.diglog.service.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 게시글 ID의 해시로 dirtySet을 샤드로 나눠 노드마다 서로 다른 샤드를 동기화할 수 있게 한다.
+// 샤드 수를 줄이면 범위를 벗어난 샤드가 동기화되지 않으므로, 줄이기 전에 모두 동기화되어야 한다.
+@Component
+public class PostViewDirtyShards {
+
+	@Value("${diglog.post.view.sync.shard-count:16}")
+	private int shardCount;
+
+	public String dirtySetKey(UUID postId) {
+		return PostViewKeys.dirtySetKey(Math.floorMod(postId.hashCode(), shardCount));
+	}
+
+	// 샤딩 이전 노드가 기록하는 단일 dirtySet도 비워질 때까지 함께 동기화
+	public List<String> dirtySetKeys() {
+		List<String> dirtySetKeys = new ArrayList<>();
+		for (int shard = 0; shard < shardCount; shard++) {
+			dirtySetKeys.add(PostViewKeys.dirtySetKey(shard));
+		}
+		dirtySetKeys.add(PostViewKeys.DIRTY_SET);
+		return dirtySetKeys;
+	}
+}
@@ -0,0 +1,32 @@
+package api.store.diglog.service.post;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostViewIncrementResult {
+
+	INCREASED(1L),
+	DUPLICATED(0L),
+	MISSING(-1L),
+	INVALID(-2L);
+
+	private final long code;
+
+	public static PostViewIncrementResult from(Long code) {
+		if (code == null) {
+			return MISSING;
+		}
+		if (code > INCREASED.code) {
+			return INCREASED;
+		}
+
+		return Arrays.stream(values())
+			.filter(result -> result.code == code)
+			.findFirst()
+			.orElse(INVALID);
+	}
+}
@@ -0,0 +1,48 @@
+package api.store.diglog.service.post;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+public final class PostViewKeys {
+
+	private static final String DELIMITER = ":";
+	public static final String PREFIX_POST_VIEW = "post" + DELIMITER + "view" + DELIMITER;
+	public static final String PREFIX_VIEW_COUNT = PREFIX_POST_VIEW + "count" + DELIMITER;
+	public static final String PREFIX_VIEW_DELTA = PREFIX_POST_VIEW + "delta" + DELIMITER;
+	public static final String DIRTY_SET = PREFIX_POST_VIEW + "dirtySet";
+	private static final String PREFIX_HYPER_LOG_LOG = PREFIX_POST_VIEW + "hll" + DELIMITER;
+	private static final String PREFIX_BLOOM_FILTER = PREFIX_POST_VIEW + "bloom" + DELIMITER;
+	private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private PostViewKeys() {
+	}
+
+	public static String countKey(UUID postId) {
+		return PREFIX_VIEW_COUNT + postId;
+	}
+
+	public static String deltaKey(UUID postId) {
+		return PREFIX_VIEW_DELTA + postId;
+	}
+
+	public static String dirtySetKey(int shard) {
+		return DIRTY_SET + DELIMITER + shard;
+	}
+
+	public static String dedupKey(UUID postId, String ipAddress) {
+		return PREFIX_POST_VIEW + postId + DELIMITER + ipAddress;
+	}
+
+	public static String hyperLogLogKey(UUID postId, LocalDate date) {
+		return PREFIX_HYPER_LOG_LOG + postId + DELIMITER + date.format(DAY_FORMATTER);
+	}
+
+	public static String bloomFilterKey(LocalDate date) {
+		return PREFIX_BLOOM_FILTER + date.format(DAY_FORMATTER);
+	}
+
+	public static String bloomFilterElement(UUID postId, String ipAddress) {
+		return postId + DELIMITER + ipAddress;
+	}
+}
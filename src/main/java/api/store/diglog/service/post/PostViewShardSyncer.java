@@ -0,0 +1,178 @@
+package api.store.diglog.service.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 노드마다 Redisson 임대(lease)로 dirtySet 샤드를 선점해 동기화하므로, 여러 노드가 같은 샤드를 중복 처리하지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewShardSyncer {
+
+	private static final int BATCH_SIZE = 100;
+	private static final String LEASE_SUFFIX = ":lease";
+	private static final String SYNCED_AT_SUFFIX = ":syncedAt";
+	private static final String TAG_SHARD = "shard";
+
+	private static final String METRIC_SYNC_CYCLE = "post.view.sync.cycle";
+	private static final String METRIC_SHARD_SYNC = "post.view.sync.shard";
+	private static final String METRIC_SHARD_SKIPPED = "post.view.sync.shard.skipped";
+
+	private static final String LOG_LEASE_INTERRUPTED = "[조회수 동기화 샤드 선점 중단] shard={}";
+	private static final String LOG_SYNC_INTERRUPTED = "[조회수 동기화 중단] shard={}";
+	private static final String LOG_BATCH_FAILED = "[조회수 동기화 배치 실패] shard={}, posts={}";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedissonClient redissonClient;
+	private final PostAsyncWorker postAsyncWorker;
+	private final PostViewDirtyShards postViewDirtyShards;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diglog.post.view.sync.lease-seconds:60}")
+	private long leaseSeconds;
+
+	@Value("${diglog.post.view.sync.max-in-flight-batches:8}")
+	private int maxInFlightBatches;
+
+	// 동시에 처리 중인 배치 수를 제한해 dirtySet이 커져도 executor 큐가 넘치지 않게 한다.
+	private Semaphore inFlightBatches;
+
+	@PostConstruct
+	void init() {
+		inFlightBatches = new Semaphore(maxInFlightBatches);
+		registerMetrics();
+	}
+
+	private void registerMetrics() {
+		Gauge.builder("post.view.sync.in.flight", () -> maxInFlightBatches - inFlightBatches.availablePermits())
+			.description("처리 중인 동기화 배치 수")
+			.register(meterRegistry);
+		postViewDirtyShards.dirtySetKeys().forEach(dirtySetKey -> {
+			Gauge.builder("post.view.sync.shard.size", () -> shardSize(dirtySetKey))
+				.description("동기화를 기다리는 샤드의 게시글 수")
+				.tag(TAG_SHARD, dirtySetKey)
+				.register(meterRegistry);
+			Gauge.builder("post.view.sync.shard.lag", () -> shardLagSeconds(dirtySetKey))
+				.description("샤드가 마지막으로 동기화된 후 지난 시간(초)")
+				.tag(TAG_SHARD, dirtySetKey)
+				.register(meterRegistry);
+		});
+	}
+
+	public void syncAll() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		// 노드들이 같은 순서로 샤드를 선점하려 경쟁하지 않도록 임의의 샤드부터 순회
+		List<String> dirtySetKeys = postViewDirtyShards.dirtySetKeys();
+		int offset = ThreadLocalRandom.current().nextInt(dirtySetKeys.size());
+		for (int i = 0; i < dirtySetKeys.size(); i++) {
+			syncShardIfLeased(dirtySetKeys.get((offset + i) % dirtySetKeys.size()));
+		}
+
+		sample.stop(meterRegistry.timer(METRIC_SYNC_CYCLE));
+	}
+
+	private void syncShardIfLeased(String dirtySetKey) {
+		RLock lease = redissonClient.getLock(dirtySetKey + LEASE_SUFFIX);
+		boolean isLeased = false;
+
+		try {
+			isLeased = lease.tryLock(0, leaseSeconds, TimeUnit.SECONDS);
+			if (!isLeased) {
+				meterRegistry.counter(METRIC_SHARD_SKIPPED, TAG_SHARD, dirtySetKey).increment();
+				return;
+			}
+
+			meterRegistry.timer(METRIC_SHARD_SYNC, TAG_SHARD, dirtySetKey).record(() -> syncShard(dirtySetKey));
+			redisTemplate.opsForValue().set(dirtySetKey + SYNCED_AT_SUFFIX, String.valueOf(System.currentTimeMillis()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn(LOG_LEASE_INTERRUPTED, dirtySetKey);
+		} finally {
+			if (isLeased && lease.isHeldByCurrentThread()) {
+				lease.unlock();
+			}
+		}
+	}
+
+	// 샤드 전체를 읽지 않고 SSCAN 커서로 배치 크기만큼씩 넘겨 샤드 크기와 무관하게 메모리를 일정하게 유지
+	// 모든 배치가 끝난 뒤 반환하므로 샤드 임대는 배치가 처리되는 동안 유지된다.
+	private void syncShard(String dirtySetKey) {
+		ScanOptions scanOptions = ScanOptions.scanOptions().count(BATCH_SIZE).build();
+
+		try {
+			List<UUID> postIds = new ArrayList<>(BATCH_SIZE);
+			try (Cursor<String> cursor = redisTemplate.opsForSet().scan(dirtySetKey, scanOptions)) {
+				while (cursor.hasNext()) {
+					postIds.add(UUID.fromString(cursor.next()));
+					if (postIds.size() == BATCH_SIZE) {
+						dispatch(dirtySetKey, postIds);
+						postIds = new ArrayList<>(BATCH_SIZE);
+					}
+				}
+			}
+
+			if (!postIds.isEmpty()) {
+				dispatch(dirtySetKey, postIds);
+			}
+			awaitInFlightBatches();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn(LOG_SYNC_INTERRUPTED, dirtySetKey);
+		}
+	}
+
+	// 처리 중인 배치가 가득 차면 자리가 날 때까지 SSCAN을 멈춘다.
+	private void dispatch(String dirtySetKey, List<UUID> postIds) throws InterruptedException {
+		inFlightBatches.acquire();
+		try {
+			postAsyncWorker.syncViewCountAllInBatch(dirtySetKey, postIds)
+				.whenComplete((result, e) -> {
+					inFlightBatches.release();
+					if (e != null) {
+						log.error(LOG_BATCH_FAILED, dirtySetKey, postIds.size(), e);
+					}
+				});
+		} catch (RuntimeException e) {
+			inFlightBatches.release();
+			throw e;
+		}
+	}
+
+	private void awaitInFlightBatches() throws InterruptedException {
+		inFlightBatches.acquire(maxInFlightBatches);
+		inFlightBatches.release(maxInFlightBatches);
+	}
+
+	private double shardSize(String dirtySetKey) {
+		Long size = redisTemplate.opsForSet().size(dirtySetKey);
+		return size == null ? 0 : size;
+	}
+
+	private double shardLagSeconds(String dirtySetKey) {
+		String syncedAt = redisTemplate.opsForValue().get(dirtySetKey + SYNCED_AT_SUFFIX);
+		if (syncedAt == null) {
+			return Double.NaN;
+		}
+		return (System.currentTimeMillis() - Long.parseLong(syncedAt)) / 1000.0;
+	}
+}
@@ -0,0 +1,209 @@
+package api.store.diglog.service.post;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.common.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 검증, 중복 조회 판별, 증가(조회수와 DB 미반영 증가분), TTL 갱신, dirtySet 등록을 하나의 Lua 스크립트(EVALSHA)로 처리
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisPostViewIncrementer {
+
+	private static final int DAILY_TTL_HOURS = 24;
+	private static final long MIN_VIEW_COUNT = 1L;
+	private static final long NO_FIRST_VIEW = 0L;
+
+	private static final String LOG_LOAD_FAILED = "[조회수 적재 실패] postId={}, reason={}";
+
+	// KEYS[1]: 조회수, KEYS[2]: 게시글의 dirtySet 샤드, KEYS[3]: DB 미반영 증가분, KEYS[4..]: 중복 판별 키
+	// ARGV[1]: postId, ARGV[2]: 조회수 TTL(초), ARGV[3]: 최소 조회수, ARGV[4]: 중복 판별 TTL(초),
+	// ARGV[5]: 중복 판별 방식(SET, PFADD, NONE), ARGV[6..]: 조회 ip
+	private static final String INCREMENT_SCRIPT = """
+		local count = redis.call('GET', KEYS[1])
+		if not count then
+			return -1
+		end
+		local viewCount = tonumber(count)
+		if not viewCount or viewCount % 1 ~= 0 or viewCount < tonumber(ARGV[3]) then
+			return -2
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		local views = #ARGV - 5
+		local increased = 0
+		if ARGV[5] == 'SET' then
+			for i = 4, #KEYS do
+				if redis.call('SET', KEYS[i], 'true', 'NX', 'EX', ARGV[4]) then
+					increased = increased + 1
+				end
+			end
+		elseif ARGV[5] == 'PFADD' then
+			local before = redis.call('PFCOUNT', KEYS[4])
+			for i = 6, #ARGV do
+				redis.call('PFADD', KEYS[4], ARGV[i])
+			end
+			increased = math.min(math.max(redis.call('PFCOUNT', KEYS[4]) - before, 0), views)
+			if redis.call('TTL', KEYS[4]) < 0 then
+				redis.call('EXPIRE', KEYS[4], ARGV[4])
+			end
+		else
+			increased = views
+		end
+		if increased > 0 then
+			redis.call('INCRBY', KEYS[1], increased)
+			redis.call('INCRBY', KEYS[3], increased)
+			redis.call('SADD', KEYS[2], ARGV[1])
+		end
+		return increased
+		""";
+
+	private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(INCREMENT_SCRIPT, Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisPostViewLoader redisPostViewLoader;
+	private final PostViewDedupStrategyFactory postViewDedupStrategyFactory;
+	private final PostViewDirtyShards postViewDirtyShards;
+
+	@Value("${diglog.post.view.dedup.mode:EXACT}")
+	private PostViewDedupMode dedupMode;
+
+	public PostViewIncrementResult increment(UUID postId, String ipAddress) {
+		return PostViewIncrementResult.from(increment(postId, List.of(ipAddress)));
+	}
+
+	// 증가된 조회수(0 이상) 또는 MISSING(-1), INVALID(-2) 코드를 반환
+	// 조회수가 적재되어 있지 않으면 DB에서 적재한 뒤 한 번 더 시도한다.
+	public Long increment(UUID postId, Collection<String> ipAddresses) {
+		PostViewDedupStrategy dedupStrategy = dedupStrategy();
+		Collection<String> firstViews = dedupStrategy.filterFirstViews(postId, ipAddresses);
+		if (firstViews.isEmpty()) {
+			return NO_FIRST_VIEW;
+		}
+
+		Long code = execute(postId, firstViews);
+		if (PostViewIncrementResult.from(code) == PostViewIncrementResult.MISSING) {
+			redisPostViewLoader.load(PostViewKeys.countKey(postId), postId);
+			code = execute(postId, firstViews);
+		}
+		markCounted(dedupStrategy, postId, firstViews, code);
+		return code;
+	}
+
+	// 게시글마다 스크립트를 한 번씩 파이프라인으로 실행하고, 게시글별 결과 코드를 반환
+	public Map<UUID, Long> incrementPipelined(Map<UUID, ? extends Collection<String>> ipAddressesByPost) {
+		PostViewDedupStrategy dedupStrategy = dedupStrategy();
+		Map<UUID, Collection<String>> firstViewsByPost = new HashMap<>();
+		ipAddressesByPost.forEach((postId, ipAddresses) -> {
+			Collection<String> firstViews = dedupStrategy.filterFirstViews(postId, ipAddresses);
+			if (!firstViews.isEmpty()) {
+				firstViewsByPost.put(postId, firstViews);
+			}
+		});
+		if (firstViewsByPost.isEmpty()) {
+			return Map.of();
+		}
+
+		List<UUID> postIds = new ArrayList<>(firstViewsByPost.keySet());
+		redisTemplate.execute((RedisCallback<String>)connection ->
+			connection.scriptingCommands().scriptLoad(SCRIPT.getScriptAsString().getBytes(UTF_8)));
+
+		List<Object> codes = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			postIds.forEach(postId -> {
+				List<String> keys = keys(postId, firstViewsByPost.get(postId));
+				byte[][] keysAndArgs = toBytes(keys, args(postId, firstViewsByPost.get(postId)));
+				connection.scriptingCommands().evalSha(SCRIPT.getSha1(), ReturnType.INTEGER, keys.size(), keysAndArgs);
+			});
+			return null;
+		});
+
+		Map<UUID, Long> results = new HashMap<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			UUID postId = postIds.get(i);
+			Long code = (Long)codes.get(i);
+			if (PostViewIncrementResult.from(code) == PostViewIncrementResult.MISSING) {
+				code = loadAndExecute(postId, firstViewsByPost.get(postId));
+			}
+			markCounted(dedupStrategy, postId, firstViewsByPost.get(postId), code);
+			results.put(postId, code);
+		}
+		return results;
+	}
+
+	private Long loadAndExecute(UUID postId, Collection<String> firstViews) {
+		try {
+			redisPostViewLoader.load(PostViewKeys.countKey(postId), postId);
+			return execute(postId, firstViews);
+		} catch (CustomException e) {
+			log.warn(LOG_LOAD_FAILED, postId, e.getMessage());
+			return PostViewIncrementResult.MISSING.getCode();
+		}
+	}
+
+	// 적재 실패나 잘못된 조회수로 증가하지 못한 조회는 기록하지 않아 다음 요청에서 다시 센다
+	private void markCounted(PostViewDedupStrategy dedupStrategy, UUID postId, Collection<String> firstViews,
+		Long code) {
+		PostViewIncrementResult result = PostViewIncrementResult.from(code);
+		if (result == PostViewIncrementResult.INCREASED || result == PostViewIncrementResult.DUPLICATED) {
+			dedupStrategy.onCounted(postId, firstViews);
+		}
+	}
+
+	private Long execute(UUID postId, Collection<String> firstViews) {
+		return redisTemplate.execute(SCRIPT, keys(postId, firstViews), args(postId, firstViews).toArray());
+	}
+
+	private PostViewDedupStrategy dedupStrategy() {
+		return postViewDedupStrategyFactory.getStrategy(dedupMode);
+	}
+
+	private List<String> keys(UUID postId, Collection<String> ipAddresses) {
+		List<String> keys = new ArrayList<>();
+		keys.add(PostViewKeys.countKey(postId));
+		keys.add(postViewDirtyShards.dirtySetKey(postId));
+		keys.add(PostViewKeys.deltaKey(postId));
+		keys.addAll(dedupStrategy().dedupKeys(postId, ipAddresses));
+		return keys;
+	}
+
+	private List<String> args(UUID postId, Collection<String> ipAddresses) {
+		PostViewDedupStrategy dedupStrategy = dedupStrategy();
+		List<String> args = new ArrayList<>();
+		args.add(postId.toString());
+		args.add(String.valueOf(Duration.ofHours(DAILY_TTL_HOURS).toSeconds()));
+		args.add(String.valueOf(MIN_VIEW_COUNT));
+		args.add(String.valueOf(dedupStrategy.getTtl().toSeconds()));
+		args.add(dedupStrategy.getMode().getScriptCommand());
+		args.addAll(ipAddresses);
+		return args;
+	}
+
+	private byte[][] toBytes(List<String> keys, List<String> args) {
+		byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+		int index = 0;
+		for (String key : keys) {
+			keysAndArgs[index++] = key.getBytes(UTF_8);
+		}
+		for (String arg : args) {
+			keysAndArgs[index++] = arg.getBytes(UTF_8);
+		}
+		return keysAndArgs;
+	}
+}
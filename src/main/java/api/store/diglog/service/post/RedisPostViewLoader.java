@@ -1,65 +1,233 @@
 package api.store.diglog.service.post;
 
 import static api.store.diglog.common.exception.ErrorCode.*;
+import static java.nio.charset.StandardCharsets.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.post.PostViewCountVO;
 import api.store.diglog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class RedisPostViewLoader {
 
-	private static final int LOCK_WAIT_TIME = 3;
-	private static final String LOCK_KEY_SUFFIX = ":lock";
+	private static final String LOG_VIEW_COUNT_PARSE_FAIL = "[조회수 파싱 실패] postId={}, RedisViewCount={}";
+	private static final String LOG_WARM_UP = "[조회수 캐시 예열] posts={}, loaded={}";
 	private static final int DAILY_TTL_HOURS = 24;
+	private static final long MISSING_TTL = -2L;
+
+	// 키가 있으면 남은 TTL이 임계값보다 작을 때만 만료 시간을 갱신하고, 없으면 -2를 반환
+	// KEYS[1]: 조회수, ARGV[1]: 갱신 임계값(초), ARGV[2]: TTL(초)
+	private static final String TOUCH_SCRIPT = """
+		local ttl = redis.call('TTL', KEYS[1])
+		if ttl == -2 then
+			return -2
+		end
+		if ttl < tonumber(ARGV[1]) then
+			redis.call('EXPIRE', KEYS[1], ARGV[2])
+		end
+		return ttl
+		""";
+
+	private static final RedisScript<Long> TOUCH = new DefaultRedisScript<>(TOUCH_SCRIPT, Long.class);
 
 	private final StringRedisTemplate redisTemplate;
-	private final RedissonClient redissonClient;
 	private final PostRepository postRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diglog.post.view.cache.ttl-refresh-threshold-seconds:21600}")
+	private long ttlRefreshThresholdSeconds;
+
+	@Value("${diglog.post.view.cache.warm-up.size:1000}")
+	private int warmUpSize;
+
+	private Counter hitCounter;
+	private Counter coldMissCounter;
+	private Counter contendedCounter;
+
+	@PostConstruct
+	void registerMetrics() {
+		hitCounter = Counter.builder("post.view.cache.lookup")
+			.description("조회수 캐시 조회 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		coldMissCounter = Counter.builder("post.view.cache.lookup")
+			.description("조회수 캐시 조회 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		contendedCounter = Counter.builder("post.view.cache.load.contended")
+			.description("다른 요청이 먼저 적재해 SET NX에 실패한 수")
+			.register(meterRegistry);
+	}
 
 	public void load(String countKey, UUID postId) {
-		if (doesNotExistViewCountInRedis(countKey)) {
-			RLock viewCountLock = redissonClient.getLock(countKey + LOCK_KEY_SUFFIX);
-			boolean isLocked = false;
+		Long ttl = redisTemplate.execute(TOUCH, List.of(countKey),
+			String.valueOf(ttlRefreshThresholdSeconds), String.valueOf(dailyTtl().toSeconds()));
+		if (ttl != null && ttl != MISSING_TTL) {
+			hitCounter.increment();
+			return;
+		}
+
+		coldMissCounter.increment();
+		loadViewCountFromDBToRedis(countKey, postId);
+	}
+
+	// 캐시에 없는 게시글만 findViewCountsByIdIn 한 번으로 적재하고, 존재하지 않는 게시글은 결과에서 제외
+	public Map<UUID, Long> loadAll(List<UUID> postIds) {
+		Map<UUID, Long> viewCounts = new HashMap<>();
+		if (postIds.isEmpty()) {
+			return viewCounts;
+		}
+
+		List<UUID> missingPostIds = collectCachedViewCounts(postIds, viewCounts);
+		hitCounter.increment(postIds.size() - missingPostIds.size());
+		if (missingPostIds.isEmpty()) {
+			return viewCounts;
+		}
+
+		coldMissCounter.increment(missingPostIds.size());
+		Map<UUID, Long> loadedViewCounts = findViewCountsWithPendingDelta(
+			postRepository.findViewCountsByIdIn(missingPostIds));
+		List<UUID> lostPostIds = writeBackIfAbsent(loadedViewCounts);
+		contendedCounter.increment(lostPostIds.size());
+		lostPostIds.forEach(loadedViewCounts::remove);
+		viewCounts.putAll(loadedViewCounts);
+
+		// 적재 사이에 다른 요청이 먼저 값을 채웠다면 그 값을 따른다
+		if (!lostPostIds.isEmpty()) {
+			collectCachedViewCounts(lostPostIds, viewCounts);
+		}
+		return viewCounts;
+	}
+
+	// 조회수 상위 게시글을 미리 적재해 인기 게시글의 첫 요청이 DB를 거치지 않도록 한다
+	public int warmUp() {
+		List<PostViewCountVO> posts = postRepository.findTopViewCounts(Limit.of(warmUpSize));
+		Map<UUID, Long> viewCounts = findViewCountsWithPendingDelta(posts);
+		int loaded = viewCounts.size() - writeBackIfAbsent(viewCounts).size();
+
+		log.info(LOG_WARM_UP, posts.size(), loaded);
+		return loaded;
+	}
+
+	private void loadViewCountFromDBToRedis(String countKey, UUID postId) {
+		Post post = postRepository.findById(postId)
+			.orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+		// 아직 DB에 반영되지 않은 증가분까지 더해 적재
+		long pendingDelta = parsePendingDelta(redisTemplate.opsForValue().get(PostViewKeys.deltaKey(postId)));
+
+		Boolean loaded = redisTemplate.opsForValue()
+			.setIfAbsent(countKey, String.valueOf(post.getViewCount() + pendingDelta), dailyTtl());
+		if (!Boolean.TRUE.equals(loaded)) {
+			contendedCounter.increment();
+		}
+	}
+
+	private List<UUID> collectCachedViewCounts(List<UUID> postIds, Map<UUID, Long> viewCounts) {
+		List<String> redisViewCounts = redisTemplate.opsForValue().multiGet(postIds.stream()
+			.map(PostViewKeys::countKey)
+			.toList());
+
+		List<UUID> missingPostIds = new ArrayList<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			UUID postId = postIds.get(i);
+			String redisViewCount = redisViewCounts == null ? null : redisViewCounts.get(i);
+			if (redisViewCount == null) {
+				missingPostIds.add(postId);
+				continue;
+			}
 
 			try {
-				isLocked = viewCountLock.tryLock(LOCK_WAIT_TIME, TimeUnit.SECONDS);
-
-				if (isLocked) {
-					loadViewCountFromDBToRedis(countKey, postId);
-				}
-			} catch (InterruptedException e) {
-				throw new CustomException(REDIS_UNAVAILABLE);
-			} finally {
-				if (isLocked && viewCountLock.isHeldByCurrentThread()) {
-					viewCountLock.unlock();
-				}
+				viewCounts.put(postId, Long.parseLong(redisViewCount));
+			} catch (NumberFormatException e) {
+				log.error(LOG_VIEW_COUNT_PARSE_FAIL, postId, redisViewCount);
 			}
 		}
+		return missingPostIds;
+	}
+
+	private Map<UUID, Long> findViewCountsWithPendingDelta(List<PostViewCountVO> posts) {
+		Map<UUID, Long> viewCounts = new HashMap<>();
+		if (posts.isEmpty()) {
+			return viewCounts;
+		}
+
+		List<String> pendingDeltas = redisTemplate.opsForValue().multiGet(posts.stream()
+			.map(post -> PostViewKeys.deltaKey(post.getPostId()))
+			.toList());
+
+		for (int i = 0; i < posts.size(); i++) {
+			PostViewCountVO post = posts.get(i);
+			String pendingDelta = pendingDeltas == null ? null : pendingDeltas.get(i);
+			viewCounts.put(post.getPostId(), post.getViewCount() + parsePendingDelta(pendingDelta));
+		}
+		return viewCounts;
+	}
+
+	// 조회 중 들어온 증가분을 덮어쓰지 않도록 SET NX로 적재하고, 선점하지 못한 게시글을 반환
+	private List<UUID> writeBackIfAbsent(Map<UUID, Long> viewCounts) {
+		List<UUID> postIds = new ArrayList<>(viewCounts.keySet());
+		if (postIds.isEmpty()) {
+			return postIds;
+		}
+
+		Expiration expiration = Expiration.from(dailyTtl());
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			postIds.forEach(postId -> connection.stringCommands().set(
+				PostViewKeys.countKey(postId).getBytes(UTF_8),
+				String.valueOf(viewCounts.get(postId)).getBytes(UTF_8),
+				expiration,
+				SetOption.ifAbsent()
+			));
+			return null;
+		});
 
-		redisTemplate.expire(countKey, Duration.ofHours(DAILY_TTL_HOURS));
+		List<UUID> lostPostIds = new ArrayList<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			if (!Boolean.TRUE.equals(results.get(i))) {
+				lostPostIds.add(postIds.get(i));
+			}
+		}
+		return lostPostIds;
 	}
 
-	private void loadViewCountFromDBToRedis(String countKey, UUID postId) {
-		if (doesNotExistViewCountInRedis(countKey)) {
-			Post post = postRepository.findById(postId)
-				.orElseThrow(() -> new CustomException(POST_NOT_FOUND));
-			redisTemplate.opsForValue().set(countKey, String.valueOf(post.getViewCount()));
+	private long parsePendingDelta(String pendingDelta) {
+		if (pendingDelta == null) {
+			return 0L;
+		}
+
+		try {
+			return Long.parseLong(pendingDelta);
+		} catch (NumberFormatException e) {
+			return 0L;
 		}
 	}
 
-	private boolean doesNotExistViewCountInRedis(String countKey) {
-		return !redisTemplate.hasKey(countKey);
+	private Duration dailyTtl() {
+		return Duration.ofHours(DAILY_TTL_HOURS);
 	}
 }
@@ -0,0 +1,23 @@
+package api.store.diglog.service.post.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCacheEvictEvent {
+
+	private final List<UUID> postIds;
+
+	public static PostCacheEvictEvent of(UUID postId) {
+		return new PostCacheEvictEvent(List.of(postId));
+	}
+
+	public static PostCacheEvictEvent of(List<UUID> postIds) {
+		return new PostCacheEvictEvent(List.copyOf(postIds));
+	}
+}
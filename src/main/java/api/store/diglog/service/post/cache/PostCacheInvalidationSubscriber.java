@@ -0,0 +1,34 @@
+package api.store.diglog.service.post.cache;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 다른 노드에서 변경된 게시글을 이 노드의 로컬 캐시에서 제거
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCacheInvalidationSubscriber implements MessageListener {
+
+	private static final String LOG_INVALID_MESSAGE = "[게시글 캐시 무효화 메시지 오류] message={}";
+
+	private final PostResponseCache postResponseCache;
+
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+		String body = new String(message.getBody());
+		for (String postId : body.split(PostResponseCache.INVALIDATION_DELIMITER)) {
+			try {
+				postResponseCache.evictLocal(UUID.fromString(postId));
+			} catch (IllegalArgumentException e) {
+				log.warn(LOG_INVALID_MESSAGE, body);
+			}
+		}
+	}
+}
@@ -0,0 +1,283 @@
+package api.store.diglog.service.post.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import api.store.diglog.model.dto.post.PostResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 단건 응답의 2단 캐시, 로컬(L1)에 없으면 Redis(L2), 둘 다 없으면 DB에서 읽어 채운다
+// 변경은 커밋 후 L2를 지우고 pub/sub으로 모든 노드의 L1을 비운다, 메시지가 유실되어도 L1 TTL이 지나면 맞춰진다
+// 게시글마다 무효화 세대를 두어, 커밋 전에 읽은 응답이 무효화 뒤에 다시 채워지지 않게 한다
+// Redis 장애 시에는 L1과 DB만으로 응답한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostResponseCache {
+
+	public static final String INVALIDATION_CHANNEL = "post-cache-invalidation";
+	public static final String INVALIDATION_DELIMITER = ",";
+
+	private static final String KEY_PREFIX = "post:response:";
+	private static final String GENERATION_KEY_PREFIX = KEY_PREFIX + "generation:";
+	private static final String INITIAL_GENERATION = "0";
+	private static final String LOG_SERIALIZE_FAILED = "[게시글 캐시 직렬화 실패] postId={}";
+	private static final String LOG_DESERIALIZE_FAILED = "[게시글 캐시 역직렬화 실패] postId={}";
+	private static final String LOG_REDIS_FAILED = "[게시글 캐시 Redis 실패] DB에서 읽습니다. posts={}";
+	private static final String LOG_EVICT_FAILED = "[게시글 캐시 Redis 무효화 실패] posts={}";
+
+	// 응답을 읽기 시작할 때의 세대가 그대로일 때만 채우고, 채우지 못한 게시글의 순번(0부터)을 반환
+	// KEYS[2i-1]: 응답, KEYS[2i]: 세대, ARGV[1]: TTL(초), ARGV[2i]: 응답 JSON, ARGV[2i+1]: 읽기 시작할 때의 세대
+	private static final String FILL_SCRIPT = """
+		local rejected = {}
+		for i = 1, #KEYS / 2 do
+			local generation = redis.call('GET', KEYS[2 * i]) or '0'
+			if generation == ARGV[2 * i + 1] then
+				redis.call('SET', KEYS[2 * i - 1], ARGV[2 * i], 'EX', ARGV[1])
+			else
+				rejected[#rejected + 1] = i - 1
+			end
+		end
+		return rejected
+		""";
+
+	// KEYS[2i-1]: 응답, KEYS[2i]: 세대, ARGV[1]: 세대 TTL(초)
+	private static final String EVICT_SCRIPT = """
+		for i = 1, #KEYS / 2 do
+			redis.call('DEL', KEYS[2 * i - 1])
+			redis.call('INCR', KEYS[2 * i])
+			redis.call('EXPIRE', KEYS[2 * i], ARGV[1])
+		end
+		return #KEYS / 2
+		""";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> FILL = new DefaultRedisScript<>(FILL_SCRIPT, List.class);
+	private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(EVICT_SCRIPT, Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diglog.post.cache.local.max-size:10000}")
+	private long localMaxSize;
+
+	@Value("${diglog.post.cache.local.ttl-seconds:60}")
+	private long localTtlSeconds;
+
+	@Value("${diglog.post.cache.redis.ttl-seconds:600}")
+	private long redisTtlSeconds;
+
+	private Cache<UUID, PostResponse> localCache;
+	private Counter localHitCounter;
+	private Counter redisHitCounter;
+	private Counter missCounter;
+
+	@PostConstruct
+	void init() {
+		localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.recordStats()
+			.build();
+
+		localHitCounter = lookupCounter("local");
+		redisHitCounter = lookupCounter("redis");
+		missCounter = lookupCounter("miss");
+		Gauge.builder("post.response.cache.hit.ratio", this::hitRatio)
+			.description("게시글 캐시 적중률(L1 + L2)")
+			.register(meterRegistry);
+		Gauge.builder("post.response.cache.local.size", localCache, Cache::estimatedSize)
+			.description("게시글 로컬 캐시 항목 수")
+			.register(meterRegistry);
+	}
+
+	public PostResponse get(UUID postId, Supplier<PostResponse> loader) {
+		return getAll(List.of(postId), missPostIds -> List.of(loader.get())).get(postId);
+	}
+
+	// 목록 하이드레이션용 일괄 조회, L1 -> Redis MGET -> loader 한 번 순서로 채우고 찾지 못한 게시글은 결과에서 빠진다
+	public Map<UUID, PostResponse> getAll(List<UUID> postIds, Function<List<UUID>, List<PostResponse>> loader) {
+		Map<UUID, PostResponse> postResponses = new HashMap<>(localCache.getAllPresent(postIds));
+		localHitCounter.increment(postResponses.size());
+		List<UUID> localMissPostIds = postIds.stream()
+			.filter(postId -> !postResponses.containsKey(postId))
+			.toList();
+		if (localMissPostIds.isEmpty()) {
+			return postResponses;
+		}
+
+		// 응답 n개와 세대 n개, Redis 장애 시 null
+		List<String> entries = readRedis(localMissPostIds);
+		Map<UUID, String> generations = new HashMap<>();
+		List<UUID> missPostIds = new ArrayList<>();
+		for (int i = 0; i < localMissPostIds.size(); i++) {
+			UUID postId = localMissPostIds.get(i);
+			PostResponse postResponse = entries == null ? null : deserialize(postId, entries.get(i));
+			if (postResponse == null) {
+				missPostIds.add(postId);
+				if (entries != null) {
+					String generation = entries.get(localMissPostIds.size() + i);
+					generations.put(postId, generation == null ? INITIAL_GENERATION : generation);
+				}
+				continue;
+			}
+			postResponses.put(postId, postResponse);
+			localCache.put(postId, postResponse);
+		}
+		redisHitCounter.increment(localMissPostIds.size() - missPostIds.size());
+		if (missPostIds.isEmpty()) {
+			return postResponses;
+		}
+
+		missCounter.increment(missPostIds.size());
+		List<PostResponse> loadedPostResponses = loader.apply(missPostIds);
+		loadedPostResponses.forEach(postResponse -> {
+			postResponses.put(postResponse.getId(), postResponse);
+			localCache.put(postResponse.getId(), postResponse);
+		});
+		if (entries != null) {
+			writeRedisIfCurrent(loadedPostResponses, generations);
+		}
+		return postResponses;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPostChanged(PostCacheEvictEvent event) {
+		evict(event.getPostIds());
+	}
+
+	// 세대를 먼저 올린 뒤 L1을 비우므로, 그 사이 L1을 채운 요청도 세대 확인에서 걸러져 스스로 지운다
+	public void evict(List<UUID> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<String> keys = new ArrayList<>();
+			postIds.forEach(postId -> {
+				keys.add(key(postId));
+				keys.add(generationKey(postId));
+			});
+			redisTemplate.execute(EVICT, keys, String.valueOf(redisTtlSeconds));
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(INVALIDATION_DELIMITER,
+				postIds.stream().map(UUID::toString).toList()));
+		} catch (DataAccessException e) {
+			log.error(LOG_EVICT_FAILED, postIds.size(), e);
+		}
+		postIds.forEach(localCache::invalidate);
+	}
+
+	public void evictLocal(UUID postId) {
+		localCache.invalidate(postId);
+	}
+
+	public void clearLocal() {
+		localCache.invalidateAll();
+	}
+
+	private List<String> readRedis(List<UUID> postIds) {
+		List<String> keys = new ArrayList<>(postIds.stream().map(this::key).toList());
+		postIds.forEach(postId -> keys.add(generationKey(postId)));
+
+		try {
+			return redisTemplate.opsForValue().multiGet(keys);
+		} catch (DataAccessException e) {
+			log.warn(LOG_REDIS_FAILED, postIds.size(), e);
+			return null;
+		}
+	}
+
+	private PostResponse deserialize(UUID postId, String json) {
+		if (json == null) {
+			return null;
+		}
+
+		try {
+			return objectMapper.readValue(json, PostResponse.class);
+		} catch (JsonProcessingException e) {
+			log.warn(LOG_DESERIALIZE_FAILED, postId, e);
+			return null;
+		}
+	}
+
+	// 읽는 동안 무효화된 게시글은 Redis에 쓰지 않고 L1에서도 지운다
+	private void writeRedisIfCurrent(List<PostResponse> postResponses, Map<UUID, String> generations) {
+		List<PostResponse> writablePostResponses = new ArrayList<>();
+		List<String> keys = new ArrayList<>();
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(redisTtlSeconds));
+		for (PostResponse postResponse : postResponses) {
+			UUID postId = postResponse.getId();
+			try {
+				args.add(objectMapper.writeValueAsString(postResponse));
+			} catch (JsonProcessingException e) {
+				log.warn(LOG_SERIALIZE_FAILED, postId, e);
+				continue;
+			}
+			args.add(generations.getOrDefault(postId, INITIAL_GENERATION));
+			keys.add(key(postId));
+			keys.add(generationKey(postId));
+			writablePostResponses.add(postResponse);
+		}
+		if (writablePostResponses.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<?> rejected = redisTemplate.execute(FILL, keys, args.toArray());
+			if (rejected != null) {
+				rejected.forEach(index -> localCache.invalidate(
+					writablePostResponses.get(((Number)index).intValue()).getId()));
+			}
+		} catch (DataAccessException e) {
+			log.warn(LOG_REDIS_FAILED, writablePostResponses.size(), e);
+		}
+	}
+
+	private double hitRatio() {
+		double hits = localHitCounter.count() + redisHitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private Counter lookupCounter(String result) {
+		return Counter.builder("post.response.cache.lookup")
+			.description("게시글 캐시 조회 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private String key(UUID postId) {
+		return KEY_PREFIX + postId;
+	}
+
+	private String generationKey(UUID postId) {
+		return GENERATION_KEY_PREFIX + postId;
+	}
+}
@@ -0,0 +1,36 @@
+package api.store.diglog.service.post.feed;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostFeedEvent {
+
+	private final UUID postId;
+	private final LocalDateTime createdAt;
+	private final Operation operation;
+
+	public static PostFeedEvent added(UUID postId, LocalDateTime createdAt) {
+		return new PostFeedEvent(postId, createdAt, Operation.ADD);
+	}
+
+	// 이미 집계된 게시글을 피드에 다시 넣는다, 전체 개수는 바꾸지 않는다
+	public static PostFeedEvent refreshed(UUID postId, LocalDateTime createdAt) {
+		return new PostFeedEvent(postId, createdAt, Operation.REFRESH);
+	}
+
+	public static PostFeedEvent removed(UUID postId) {
+		return new PostFeedEvent(postId, null, Operation.REMOVE);
+	}
+
+	public enum Operation {
+		ADD,
+		REFRESH,
+		REMOVE
+	}
+}
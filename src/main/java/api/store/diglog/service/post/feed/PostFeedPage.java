@@ -0,0 +1,16 @@
+package api.store.diglog.service.post.feed;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class PostFeedPage {
+
+	private final List<UUID> postIds;
+	private final long totalCount;
+}
@@ -0,0 +1,273 @@
+package api.store.diglog.service.post.feed;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import api.store.diglog.model.vo.post.PostSummaryVO;
+import api.store.diglog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 홈 화면 최신순 첫 페이지들을 위한 게시글 ID 정렬 집합, score는 createdAt(마이크로초)
+// 같은 score는 member(UUID 문자열) 역순으로 정렬되어 DB의 (createdAt, id) 내림차순과 같다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostHomeFeed {
+
+	private static final String FEED_KEY = "post:feed:home";
+	private static final String COUNT_KEY = "post:feed:home:count";
+	private static final String GENERATION_KEY = "post:feed:home:generation";
+	private static final String REBUILD_KEY_PREFIX = "post:feed:home:rebuild:";
+	private static final String REBUILD_LOCK = "post:feed:home:lock";
+	private static final long REBUILD_KEY_TTL_SECONDS = 600;
+	private static final int REBUILD_ATTEMPTS = 3;
+	private static final String LOG_REBUILT = "[홈 피드 재구성] posts={}, total={}";
+	private static final String LOG_REBUILD_SKIPPED = "[홈 피드 재구성 생략] 다른 노드가 재구성 중입니다.";
+	private static final String LOG_REBUILD_RETRIED = "[홈 피드 재구성 재시도] 재구성 중 변경이 반영되었습니다. attempt={}";
+	private static final String LOG_REBUILD_INTERRUPTED = "[홈 피드 재구성 잠금 중단]";
+	private static final String LOG_READ_FAILED = "[홈 피드 조회 실패] DB에서 읽습니다.";
+	private static final String LOG_UPDATE_FAILED = "[홈 피드 반영 실패] 다음 재구성에서 바로잡습니다. postId={}, operation={}";
+
+	// 변경마다 세대를 올려 진행 중인 재구성이 이 변경을 덮어쓰지 않게 한다
+	// 피드가 만들어진 뒤에만 반영하고, 새 게시글이면 전체 개수를 올린 뒤 용량을 넘는 오래된 게시글을 잘라낸다
+	// KEYS[1]: 피드, KEYS[2]: 전체 개수, KEYS[3]: 세대, ARGV[1]: score, ARGV[2]: postId, ARGV[3]: 피드 용량
+	private static final String ADD_SCRIPT = """
+		redis.call('INCR', KEYS[3])
+		if redis.call('EXISTS', KEYS[2]) == 0 then
+			return 0
+		end
+		local added = redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+		if added == 1 then
+			redis.call('INCR', KEYS[2])
+		end
+		redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+		return added
+		""";
+
+	// 수정된 게시글은 이미 전체 개수에 포함되어 있으므로 피드 항목만 다시 넣는다
+	// KEYS[1]: 피드, KEYS[2]: 전체 개수, KEYS[3]: 세대, ARGV[1]: score, ARGV[2]: postId, ARGV[3]: 피드 용량
+	private static final String REFRESH_SCRIPT = """
+		redis.call('INCR', KEYS[3])
+		if redis.call('EXISTS', KEYS[2]) == 0 then
+			return 0
+		end
+		redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+		redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+		return 1
+		""";
+
+	// 피드에 없는 오래된 게시글이 삭제되어도 전체 개수는 줄인다
+	// KEYS[1]: 피드, KEYS[2]: 전체 개수, KEYS[3]: 세대, ARGV[1]: postId
+	private static final String REMOVE_SCRIPT = """
+		redis.call('INCR', KEYS[3])
+		if redis.call('EXISTS', KEYS[2]) == 0 then
+			return 0
+		end
+		redis.call('ZREM', KEYS[1], ARGV[1])
+		redis.call('DECR', KEYS[2])
+		return 1
+		""";
+
+	// 전체 개수와 구간을 한 번에 읽는다, 피드가 없으면 nil
+	// KEYS[1]: 피드, KEYS[2]: 전체 개수, ARGV[1]: 시작 순위, ARGV[2]: 끝 순위
+	private static final String READ_SCRIPT = """
+		local count = redis.call('GET', KEYS[2])
+		if not count then
+			return false
+		end
+		local postIds = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+		table.insert(postIds, 1, count)
+		return postIds
+		""";
+
+	// 스냅숏 이후 세대가 바뀌었으면 그 변경을 덮어쓰지 않도록 교체하지 않고 임시 키만 지운다
+	// 임시 키를 피드로 교체하며 임시 키의 만료 시간을 지우고 전체 개수를 함께 바꾼다, 게시글이 없으면 임시 키도 없다
+	// KEYS[1]: 임시 키, KEYS[2]: 피드, KEYS[3]: 전체 개수, KEYS[4]: 세대, ARGV[1]: 전체 개수, ARGV[2]: 스냅숏 세대
+	private static final String PUBLISH_SCRIPT = """
+		if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[2] then
+			redis.call('DEL', KEYS[1])
+			return 0
+		end
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			redis.call('RENAME', KEYS[1], KEYS[2])
+			redis.call('PERSIST', KEYS[2])
+		else
+			redis.call('DEL', KEYS[2])
+		end
+		redis.call('SET', KEYS[3], ARGV[1])
+		return 1
+		""";
+
+	private static final RedisScript<Long> ADD = new DefaultRedisScript<>(ADD_SCRIPT, Long.class);
+	private static final RedisScript<Long> REFRESH = new DefaultRedisScript<>(REFRESH_SCRIPT, Long.class);
+	private static final RedisScript<Long> PUBLISH = new DefaultRedisScript<>(PUBLISH_SCRIPT, Long.class);
+	private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(REMOVE_SCRIPT, Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ = new DefaultRedisScript<>(READ_SCRIPT, List.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedissonClient redissonClient;
+	private final PostRepository postRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diglog.post.feed.size:500}")
+	private int feedSize;
+
+	@Value("${diglog.post.feed.rebuild-lease-seconds:60}")
+	private long rebuildLeaseSeconds;
+
+	private Counter hitCounter;
+	private Counter missCounter;
+
+	@PostConstruct
+	void registerMetrics() {
+		hitCounter = Counter.builder("post.feed.home.lookup")
+			.description("홈 피드 조회 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		missCounter = Counter.builder("post.feed.home.lookup")
+			.description("홈 피드 조회 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	// 피드가 없거나 요청 구간이 피드 용량을 넘으면 비어 있다
+	public Optional<PostFeedPage> read(long offset, int size) {
+		if (offset + size > feedSize) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+
+		List<?> result;
+		try {
+			result = redisTemplate.execute(READ, List.of(FEED_KEY, COUNT_KEY),
+				String.valueOf(offset), String.valueOf(offset + size - 1));
+		} catch (DataAccessException e) {
+			log.warn(LOG_READ_FAILED, e);
+			missCounter.increment();
+			return Optional.empty();
+		}
+		if (result == null || result.isEmpty()) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+
+		long totalCount = Long.parseLong(result.getFirst().toString());
+		List<UUID> postIds = result.subList(1, result.size()).stream()
+			.map(postId -> UUID.fromString(postId.toString()))
+			.toList();
+		// 삭제로 피드가 용량보다 줄어 구간을 채우지 못하면 DB에서 읽는다
+		if (postIds.size() < Math.min(size, Math.max(totalCount - offset, 0))) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+
+		hitCounter.increment();
+		return Optional.of(new PostFeedPage(postIds, totalCount));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPostChanged(PostFeedEvent event) {
+		String postId = event.getPostId().toString();
+		try {
+			switch (event.getOperation()) {
+				case ADD -> redisTemplate.execute(ADD, List.of(FEED_KEY, COUNT_KEY, GENERATION_KEY),
+					String.valueOf(toScore(event.getCreatedAt())), postId, String.valueOf(feedSize));
+				case REFRESH -> redisTemplate.execute(REFRESH, List.of(FEED_KEY, COUNT_KEY, GENERATION_KEY),
+					String.valueOf(toScore(event.getCreatedAt())), postId, String.valueOf(feedSize));
+				case REMOVE -> redisTemplate.execute(REMOVE, List.of(FEED_KEY, COUNT_KEY, GENERATION_KEY), postId);
+			}
+		} catch (DataAccessException e) {
+			log.warn(LOG_UPDATE_FAILED, postId, event.getOperation(), e);
+		}
+	}
+
+	// 잠금을 잡은 한 노드만 재구성하고, 나머지 노드는 이번 주기를 건너뛴다
+	public int rebuild() {
+		RLock lock = redissonClient.getLock(REBUILD_LOCK);
+		boolean isLocked = false;
+		try {
+			isLocked = lock.tryLock(0, rebuildLeaseSeconds, TimeUnit.SECONDS);
+			if (!isLocked) {
+				log.info(LOG_REBUILD_SKIPPED);
+				return 0;
+			}
+
+			for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+				OptionalInt rebuilt = rebuildOnce();
+				if (rebuilt.isPresent()) {
+					return rebuilt.getAsInt();
+				}
+				log.info(LOG_REBUILD_RETRIED, attempt);
+			}
+			return 0;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn(LOG_REBUILD_INTERRUPTED);
+			return 0;
+		} finally {
+			if (isLocked && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	// 최신 게시글로 임시 키를 채운 뒤 교체해 재구성 중에도 이전 피드를 읽을 수 있게 한다
+	// 스냅숏 전에 읽은 세대가 교체 시점까지 그대로일 때만 교체하고, 아니면 비어 있다
+	private OptionalInt rebuildOnce() {
+		String generation = Optional.ofNullable(redisTemplate.opsForValue().get(GENERATION_KEY)).orElse("0");
+		Page<PostSummaryVO> posts = postRepository.findSummariesByIsDeletedFalse(
+			PageRequest.of(0, feedSize, Sort.by("createdAt", "id").descending()));
+		Set<TypedTuple<String>> tuples = posts.stream()
+			.<TypedTuple<String>>map(post -> new DefaultTypedTuple<>(post.getId().toString(),
+				toScore(post.getCreatedAt())))
+			.collect(Collectors.toSet());
+
+		// 재구성 도중 노드가 멈춰도 임시 키가 남지 않도록 만료 시간을 둔다
+		String rebuildKey = REBUILD_KEY_PREFIX + UUID.randomUUID();
+		if (!tuples.isEmpty()) {
+			redisTemplate.opsForZSet().add(rebuildKey, tuples);
+			redisTemplate.expire(rebuildKey, Duration.ofSeconds(REBUILD_KEY_TTL_SECONDS));
+		}
+		Long published = redisTemplate.execute(PUBLISH, List.of(rebuildKey, FEED_KEY, COUNT_KEY, GENERATION_KEY),
+			String.valueOf(posts.getTotalElements()), generation);
+		if (published == null || published == 0) {
+			return OptionalInt.empty();
+		}
+
+		log.info(LOG_REBUILT, tuples.size(), posts.getTotalElements());
+		return OptionalInt.of(tuples.size());
+	}
+
+	private double toScore(LocalDateTime createdAt) {
+		return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+	}
+}
@@ -0,0 +1,69 @@
+package api.store.diglog.service.post.search;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import api.store.diglog.service.post.PostCursor;
+import lombok.RequiredArgsConstructor;
+
+// MySQL ngram FULLTEXT 인덱스 검색, 정렬 조건과 무관하게 관련도 순으로 반환
+@Component
+@RequiredArgsConstructor
+public class FullTextPostSearchEngine implements PostSearchEngine {
+
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
+	private final PostRepository postRepository;
+	private final LikePostSearchEngine likePostSearchEngine;
+
+	@Override
+	public PostSearchEngineType getType() {
+		return PostSearchEngineType.FULLTEXT;
+	}
+
+	@Override
+	public Page<Post> search(String keyword, SearchOption option, Pageable pageable) {
+		String trimmedKeyword = Objects.requireNonNullElse(keyword, "").strip();
+		// ngram 토큰보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다
+		if (trimmedKeyword.length() < NGRAM_TOKEN_SIZE) {
+			return likePostSearchEngine.search(keyword, option, pageable);
+		}
+
+		String phrase = toPhrase(trimmedKeyword);
+		Pageable relevancePageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+		return switch (option) {
+			case ALL -> postRepository.searchAllByFullText(phrase, relevancePageable);
+			case TITLE -> postRepository.searchTitleByFullText(phrase, relevancePageable);
+			case TAG -> postRepository.searchTagByFullText(phrase, relevancePageable);
+		};
+	}
+
+	@Override
+	public List<Post> scroll(String keyword, SearchOption option, PostCursor cursor, int limit) {
+		String trimmedKeyword = Objects.requireNonNullElse(keyword, "").strip();
+		if (trimmedKeyword.length() < NGRAM_TOKEN_SIZE) {
+			return likePostSearchEngine.scroll(keyword, option, cursor, limit);
+		}
+
+		String phrase = toPhrase(trimmedKeyword);
+		PostCursor position = Objects.requireNonNullElseGet(cursor, PostCursor::last);
+		return switch (option) {
+			case ALL -> postRepository.scrollAllByFullText(phrase, position.getCreatedAt(), position.getId(), limit);
+			case TITLE -> postRepository.scrollTitleByFullText(phrase, position.getCreatedAt(), position.getId(), limit);
+			case TAG -> postRepository.scrollTagByFullText(phrase, position.getCreatedAt(), position.getId(), limit);
+		};
+	}
+
+	// BOOLEAN MODE의 구문 검색으로 ngram 토큰이 연속된 문서만 일치시켜 LIKE와 같은 결과 범위를 유지
+	private String toPhrase(String keyword) {
+		return "\"" + keyword.replace("\"", " ") + "\"";
+	}
+}
@@ -0,0 +1,83 @@
+package api.store.diglog.service.post.search;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import api.store.diglog.service.post.PostCursor;
+import api.store.diglog.service.tag.TagDictionary;
+import lombok.RequiredArgsConstructor;
+
+// LIKE '%keyword%' 부분 일치 검색 (DB 종류와 무관하게 동작)
+// 태그 검색은 태그 사전에서 찾은 태그 ID로 조회하고, 사전을 불러오기 전에만 태그 이름 LIKE로 조회한다
+@Component
+@RequiredArgsConstructor
+public class LikePostSearchEngine implements PostSearchEngine {
+
+	private final PostRepository postRepository;
+	private final TagDictionary tagDictionary;
+
+	@Override
+	public PostSearchEngineType getType() {
+		return PostSearchEngineType.LIKE;
+	}
+
+	@Override
+	public Page<Post> search(String keyword, SearchOption option, Pageable pageable) {
+		return switch (option) {
+			case ALL -> postRepository.findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(
+				keyword, keyword, pageable);
+			case TITLE -> postRepository.findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(keyword, pageable);
+			case TAG -> findTagIds(keyword)
+				.map(tagIds -> tagIds.isEmpty()
+					? Page.<Post>empty(pageable)
+					: postRepository.findAllByTagIdIn(tagIds, pageable))
+				.orElseGet(() -> postRepository.findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(keyword, pageable));
+		};
+	}
+
+	@Override
+	public List<Post> scroll(String keyword, SearchOption option, PostCursor cursor, int limit) {
+		Optional<Set<UUID>> tagIds = option == SearchOption.TAG ? findTagIds(keyword) : Optional.empty();
+		if (tagIds.isPresent()) {
+			return scrollByTagIds(tagIds.get(), cursor, limit);
+		}
+
+		ScrollPosition position = PostCursor.toScrollPosition(cursor);
+		Sort sort = PostCursor.sort(true);
+		Window<Post> posts = switch (option) {
+			case ALL -> postRepository.findAllByTitleContainingIgnoreCaseOrTagsNameContainingIgnoreCaseAndIsDeletedFalse(
+				keyword, keyword, position, sort, Limit.of(limit));
+			case TITLE -> postRepository.findAllByTitleContainingIgnoreCaseAndIsDeletedFalse(keyword, position, sort,
+				Limit.of(limit));
+			case TAG -> postRepository.findAllByTagsNameContainingIgnoreCaseAndIsDeletedFalse(keyword, position, sort,
+				Limit.of(limit));
+		};
+		return posts.getContent();
+	}
+
+	private Optional<Set<UUID>> findTagIds(String keyword) {
+		return tagDictionary.findIdsContaining(Objects.requireNonNullElse(keyword, ""));
+	}
+
+	private List<Post> scrollByTagIds(Set<UUID> tagIds, PostCursor cursor, int limit) {
+		if (tagIds.isEmpty()) {
+			return List.of();
+		}
+		PostCursor position = Objects.requireNonNullElseGet(cursor, PostCursor::last);
+		return postRepository.scrollByTagIdIn(tagIds, position.getCreatedAt(), position.getId(), Limit.of(limit));
+	}
+}
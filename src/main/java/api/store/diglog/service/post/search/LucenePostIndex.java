@@ -0,0 +1,339 @@
+package api.store.diglog.service.post.search;
+
+import static api.store.diglog.common.exception.ErrorCode.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.service.post.PostCursor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 검색용 로컬 Lucene 색인, 쓰기는 NRT 리더 갱신 전까지 검색에 노출되지 않는다
+@Component
+@ConditionalOnProperty(name = "diglog.post.search.engine", havingValue = "LUCENE")
+@Slf4j
+public class LucenePostIndex {
+
+	private static final String LOG_INDEX_FAILED = "[검색 색인 실패] {}";
+	private static final String FIELD_ID = "id";
+	private static final String FIELD_TITLE = "title";
+	private static final String FIELD_CONTENT = "content";
+	private static final String FIELD_TAGS = "tags";
+	private static final String FIELD_CREATED_AT = "createdAt";
+	private static final String COMMIT_WATERMARK = "watermark";
+
+	private static final Map<String, Float> ALL_FIELD_BOOSTS = Map.of(
+		FIELD_TITLE, 2.0f,
+		FIELD_CONTENT, 1.0f,
+		FIELD_TAGS, 3.0f
+	);
+
+	// 관련도가 같으면 최신 게시글 우선
+	private static final Sort RELEVANCE_SORT = new Sort(
+		SortField.FIELD_SCORE,
+		new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true)
+	);
+
+	// DB의 (createdAt, id) 내림차순과 같은 순서, UUID 문자열의 사전순은 바이트 순서와 같다
+	private static final Sort CURSOR_SORT = new Sort(
+		new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+		new SortField(FIELD_ID, SortField.Type.STRING, true)
+	);
+
+	private final Analyzer analyzer = new KoreanAnalyzer();
+
+	@Value("${diglog.post.search.lucene.path:./data/lucene/post}")
+	private String indexPath;
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private SearcherManager searcherManager;
+
+	// 재색인은 쓰기 락을 잡아 그동안의 색인 쓰기를 기다리게 하고, 갱신과 커밋은 기다리지 않고 건너뛴다
+	private final ReentrantReadWriteLock reindexLock = new ReentrantReadWriteLock();
+
+	// 이 시각 이전에 수정된 게시글은 모두 색인되어 있다, 커밋마다 함께 저장해 재시작 후 여기서부터 따라잡는다
+	private volatile LocalDateTime watermark;
+
+	@PostConstruct
+	void open() throws IOException {
+		directory = new MMapDirectory(Path.of(indexPath));
+		indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+			.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+		searcherManager = new SearcherManager(indexWriter, null);
+		if (DirectoryReader.indexExists(directory)) {
+			String committedWatermark = SegmentInfos.readLatestCommit(directory).getUserData().get(COMMIT_WATERMARK);
+			watermark = committedWatermark == null ? null : LocalDateTime.parse(committedWatermark);
+		}
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		searcherManager.close();
+		indexWriter.close();
+		directory.close();
+		analyzer.close();
+	}
+
+	// 재색인이 끝날 때까지 다른 스레드가 절반만 채워진 색인을 검색이나 디스크에 노출하지 않게 한다
+	public <T> T reindex(Supplier<T> task) {
+		reindexLock.writeLock().lock();
+		try {
+			return task.get();
+		} finally {
+			reindexLock.writeLock().unlock();
+		}
+	}
+
+	public void index(Collection<Post> posts, Collection<UUID> deletedPostIds) {
+		reindexLock.readLock().lock();
+		try {
+			for (Post post : posts) {
+				indexWriter.updateDocument(idTerm(post.getId()), toDocument(post));
+			}
+			for (UUID postId : deletedPostIds) {
+				indexWriter.deleteDocuments(idTerm(postId));
+			}
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			reindexLock.readLock().unlock();
+		}
+	}
+
+	public void deleteAll() {
+		reindexLock.readLock().lock();
+		try {
+			indexWriter.deleteAll();
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			reindexLock.readLock().unlock();
+		}
+	}
+
+	// 반영된 쓰기를 검색에 노출, 다른 스레드가 재색인 중이면 재색인이 끝날 때 갱신하므로 건너뛴다
+	public void refresh() {
+		if (!reindexLock.readLock().tryLock()) {
+			return;
+		}
+		try {
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			reindexLock.readLock().unlock();
+		}
+	}
+
+	public void commit() {
+		if (!reindexLock.readLock().tryLock()) {
+			return;
+		}
+		try {
+			LocalDateTime current = watermark;
+			if (current != null) {
+				indexWriter.setLiveCommitData(Map.of(COMMIT_WATERMARK, current.toString()).entrySet());
+			}
+			indexWriter.commit();
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			reindexLock.readLock().unlock();
+		}
+	}
+
+	public Optional<LocalDateTime> getWatermark() {
+		return Optional.ofNullable(watermark);
+	}
+
+	public void advanceWatermark(LocalDateTime indexedUntil) {
+		watermark = indexedUntil;
+	}
+
+	public boolean isEmpty() {
+		return indexWriter.getDocStats().numDocs == 0;
+	}
+
+	public LuceneSearchResult search(String keyword, SearchOption option, int page, int size) {
+		Query query = parseQuery(keyword, option);
+		if (query == null) {
+			return LuceneSearchResult.empty();
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			int offset = page * size;
+			TopFieldDocs topDocs = searcher.search(query, offset + size, RELEVANCE_SORT);
+
+			List<UUID> postIds = new ArrayList<>();
+			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+			for (int i = offset; i < scoreDocs.length; i++) {
+				String postId = searcher.storedFields().document(scoreDocs[i].doc).get(FIELD_ID);
+				postIds.add(UUID.fromString(postId));
+			}
+			return new LuceneSearchResult(postIds, searcher.count(query));
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			release(searcher);
+		}
+	}
+
+	public List<UUID> scroll(String keyword, SearchOption option, PostCursor cursor, int limit) {
+		Query query = parseQuery(keyword, option);
+		if (query == null) {
+			return List.of();
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			Query keysetQuery = cursor == null ? query : new BooleanQuery.Builder()
+				.add(query, BooleanClause.Occur.MUST)
+				.add(after(cursor), BooleanClause.Occur.FILTER)
+				.build();
+			TopFieldDocs topDocs = searcher.search(keysetQuery, limit, CURSOR_SORT);
+
+			List<UUID> postIds = new ArrayList<>();
+			for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+				postIds.add(UUID.fromString(searcher.storedFields().document(scoreDoc.doc).get(FIELD_ID)));
+			}
+			return postIds;
+		} catch (IOException e) {
+			throw indexFailed(e);
+		} finally {
+			release(searcher);
+		}
+	}
+
+	// createdAt < cursor.createdAt OR (createdAt = cursor.createdAt AND id < cursor.id)
+	private Query after(PostCursor cursor) {
+		long createdAt = toEpochMicros(cursor.getCreatedAt());
+		Query sameCreatedAtBeforeId = new BooleanQuery.Builder()
+			.add(LongPoint.newExactQuery(FIELD_CREATED_AT, createdAt), BooleanClause.Occur.FILTER)
+			.add(TermRangeQuery.newStringRange(FIELD_ID, null, cursor.getId().toString(), true, false),
+				BooleanClause.Occur.FILTER)
+			.build();
+		return new BooleanQuery.Builder()
+			.add(LongPoint.newRangeQuery(FIELD_CREATED_AT, Long.MIN_VALUE, createdAt - 1), BooleanClause.Occur.SHOULD)
+			.add(sameCreatedAtBeforeId, BooleanClause.Occur.SHOULD)
+			.setMinimumNumberShouldMatch(1)
+			.build();
+	}
+
+	private Query parseQuery(String keyword, SearchOption option) {
+		if (keyword == null || keyword.isBlank()) {
+			return new MatchAllDocsQuery();
+		}
+
+		MultiFieldQueryParser parser = switch (option) {
+			case ALL -> new MultiFieldQueryParser(ALL_FIELD_BOOSTS.keySet().toArray(String[]::new), analyzer,
+				ALL_FIELD_BOOSTS);
+			case TITLE -> new MultiFieldQueryParser(new String[] {FIELD_TITLE}, analyzer);
+			case TAG -> new MultiFieldQueryParser(new String[] {FIELD_TAGS}, analyzer);
+		};
+		parser.setDefaultOperator(QueryParser.Operator.AND);
+
+		try {
+			return parser.parse(QueryParser.escape(keyword));
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+
+	private Document toDocument(Post post) {
+		Document document = new Document();
+		document.add(new StringField(FIELD_ID, post.getId().toString(), Field.Store.YES));
+		document.add(new SortedDocValuesField(FIELD_ID, new BytesRef(post.getId().toString())));
+		document.add(new TextField(FIELD_TITLE, post.getTitle(), Field.Store.NO));
+		document.add(new TextField(FIELD_CONTENT, post.getContent(), Field.Store.NO));
+		if (post.getTags() != null) {
+			for (Tag tag : post.getTags()) {
+				document.add(new TextField(FIELD_TAGS, tag.getName(), Field.Store.NO));
+			}
+		}
+		long createdAt = post.getCreatedAt() == null ? 0L : toEpochMicros(post.getCreatedAt());
+		document.add(new LongPoint(FIELD_CREATED_AT, createdAt));
+		document.add(new NumericDocValuesField(FIELD_CREATED_AT, createdAt));
+		return document;
+	}
+
+	// DB와 같은 마이크로초 정밀도로 저장해야 cursor 위치가 일치한다
+	private long toEpochMicros(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+	}
+
+	private Term idTerm(UUID postId) {
+		return new Term(FIELD_ID, postId.toString());
+	}
+
+	private void release(IndexSearcher searcher) {
+		if (searcher == null) {
+			return;
+		}
+
+		try {
+			searcherManager.release(searcher);
+		} catch (IOException e) {
+			log.error(LOG_INDEX_FAILED, e.getMessage(), e);
+		}
+	}
+
+	private CustomException indexFailed(IOException e) {
+		log.error(LOG_INDEX_FAILED, e.getMessage(), e);
+		return new CustomException(POST_SEARCH_INDEX_FAILED);
+	}
+}
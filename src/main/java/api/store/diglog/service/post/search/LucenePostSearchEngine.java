@@ -0,0 +1,63 @@
+package api.store.diglog.service.post.search;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import api.store.diglog.service.post.PostCursor;
+import lombok.RequiredArgsConstructor;
+
+// 색인에서 현재 페이지의 게시글 id만 찾고, 해당 게시글만 DB에서 조회해 관련도 순서대로 반환
+@Component
+@ConditionalOnProperty(name = "diglog.post.search.engine", havingValue = "LUCENE")
+@RequiredArgsConstructor
+public class LucenePostSearchEngine implements PostSearchEngine {
+
+	private final LucenePostIndex lucenePostIndex;
+	private final PostRepository postRepository;
+
+	@Override
+	public PostSearchEngineType getType() {
+		return PostSearchEngineType.LUCENE;
+	}
+
+	@Override
+	public Page<Post> search(String keyword, SearchOption option, Pageable pageable) {
+		LuceneSearchResult result = lucenePostIndex.search(keyword, option, pageable.getPageNumber(),
+			pageable.getPageSize());
+		return new PageImpl<>(hydrate(result.getPostIds()), pageable, result.getTotalHits());
+	}
+
+	@Override
+	public List<Post> scroll(String keyword, SearchOption option, PostCursor cursor, int limit) {
+		return hydrate(lucenePostIndex.scroll(keyword, option, cursor, limit));
+	}
+
+	private List<Post> hydrate(List<UUID> postIds) {
+		if (postIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, Integer> ranks = new HashMap<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			ranks.put(postIds.get(i), i);
+		}
+
+		// 색인 반영 전에 삭제된 게시글은 제외
+		return postRepository.findAllById(postIds).stream()
+			.filter(post -> !post.isDeleted())
+			.sorted(Comparator.comparing(post -> ranks.get(post.getId())))
+			.toList();
+	}
+}
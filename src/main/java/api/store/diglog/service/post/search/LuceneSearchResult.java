@@ -0,0 +1,20 @@
+package api.store.diglog.service.post.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class LuceneSearchResult {
+
+	private final List<UUID> postIds;
+	private final long totalHits;
+
+	static LuceneSearchResult empty() {
+		return new LuceneSearchResult(List.of(), 0);
+	}
+}
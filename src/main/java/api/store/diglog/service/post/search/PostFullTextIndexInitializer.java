@@ -0,0 +1,58 @@
+package api.store.diglog.service.post.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// JPA가 생성하지 못하는 ngram FULLTEXT 인덱스를 FULLTEXT 검색 엔진 사용 시에만 생성
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostFullTextIndexInitializer {
+
+	private static final String LOG_INDEX_CREATED = "[검색 인덱스 생성] table={}, index={}";
+	private static final String EXISTS_SQL = """
+		SELECT COUNT(*) FROM information_schema.statistics
+		WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+		""";
+
+	private static final String[][] INDEXES = {
+		{"post", "ft_post_title", "title"},
+		{"post", "ft_post_title_content", "title, content"},
+		{"tag", "ft_tag_name", "name"}
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${diglog.post.search.engine:LIKE}")
+	private PostSearchEngineType searchEngine;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (searchEngine == PostSearchEngineType.FULLTEXT) {
+			createIndexes();
+		}
+	}
+
+	public void createIndexes() {
+		for (String[] index : INDEXES) {
+			createIndexIfAbsent(index[0], index[1], index[2]);
+		}
+	}
+
+	private void createIndexIfAbsent(String table, String indexName, String columns) {
+		Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, table, indexName);
+		if (count != null && count > 0) {
+			return;
+		}
+
+		jdbcTemplate.execute(
+			"ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName + " (" + columns + ") WITH PARSER ngram");
+		log.info(LOG_INDEX_CREATED, table, indexName);
+	}
+}
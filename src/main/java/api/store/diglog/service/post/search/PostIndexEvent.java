@@ -0,0 +1,28 @@
+package api.store.diglog.service.post.search;
+
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostIndexEvent {
+
+	private final UUID postId;
+	private final Operation operation;
+
+	public static PostIndexEvent upsert(UUID postId) {
+		return new PostIndexEvent(postId, Operation.UPSERT);
+	}
+
+	public static PostIndexEvent delete(UUID postId) {
+		return new PostIndexEvent(postId, Operation.DELETE);
+	}
+
+	public enum Operation {
+		UPSERT,
+		DELETE
+	}
+}
@@ -0,0 +1,47 @@
+package api.store.diglog.service.post.search;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 다른 노드에서 커밋된 게시글 변경을 이 노드의 색인 큐에 넣는다
+@Component
+@ConditionalOnProperty(name = "diglog.post.search.engine", havingValue = "LUCENE")
+@RequiredArgsConstructor
+@Slf4j
+public class PostIndexSubscriber implements MessageListener {
+
+	private static final String LOG_INVALID_MESSAGE = "[게시글 색인 메시지 오류] message={}";
+	private static final int MESSAGE_PARTS = 3;
+
+	private final PostIndexingPipeline postIndexingPipeline;
+
+	// 노드 ID, 작업, postId
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+		String body = new String(message.getBody());
+		String[] parts = body.split(PostIndexingPipeline.DELIMITER);
+		if (parts.length != MESSAGE_PARTS) {
+			log.warn(LOG_INVALID_MESSAGE, body);
+			return;
+		}
+
+		try {
+			UUID postId = UUID.fromString(parts[2]);
+			PostIndexEvent event = switch (PostIndexEvent.Operation.valueOf(parts[1])) {
+				case UPSERT -> PostIndexEvent.upsert(postId);
+				case DELETE -> PostIndexEvent.delete(postId);
+			};
+			postIndexingPipeline.onRemotePostChanged(parts[0], event);
+		} catch (IllegalArgumentException e) {
+			log.warn(LOG_INVALID_MESSAGE, body);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package api.store.diglog.service.post.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 커밋된 게시글 변경을 모아 배치로 색인하고, 주기적으로 NRT 리더를 갱신
+// 색인은 노드마다 따로 있으므로 변경을 pub/sub으로 모든 노드에 알리고,
+// 유실된 메시지나 재시작 전 큐에 남아 있던 변경은 DB의 수정 시각으로 주기적으로 따라잡는다
+@Component
+@ConditionalOnProperty(name = "diglog.post.search.engine", havingValue = "LUCENE")
+@RequiredArgsConstructor
+@Slf4j
+public class PostIndexingPipeline {
+
+	public static final String CHANNEL = "post-index";
+	public static final String DELIMITER = ",";
+
+	private static final String LOG_INDEXING_FAILED = "[게시글 색인 실패] 다음 주기에 다시 색인합니다. events={}";
+	private static final String LOG_BROADCAST_FAILED = "[게시글 색인 알림 실패] 따라잡기에서 반영합니다. postId={}";
+	private static final String LOG_CAUGHT_UP = "[게시글 색인 따라잡기] since={}, posts={}";
+
+	private final BlockingQueue<PostIndexEvent> events = new LinkedBlockingQueue<>();
+
+	// 자기 노드가 보낸 메시지는 이미 큐에 넣었으므로 무시한다
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final LucenePostIndex lucenePostIndex;
+	private final PostRepository postRepository;
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${diglog.post.search.lucene.batch-size:500}")
+	private int batchSize;
+
+	// 노드 간 시계 차이와 수정 시각 기록 후 커밋까지의 지연을 덮는 여유
+	@Value("${diglog.post.search.lucene.catch-up-overlap-seconds:60}")
+	private long catchUpOverlapSeconds;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPostChanged(PostIndexEvent event) {
+		events.offer(event);
+		try {
+			redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER,
+				nodeId, event.getOperation().name(), event.getPostId().toString()));
+		} catch (DataAccessException e) {
+			log.warn(LOG_BROADCAST_FAILED, event.getPostId(), e);
+		}
+	}
+
+	public void onRemotePostChanged(String senderNodeId, PostIndexEvent event) {
+		if (!nodeId.equals(senderNodeId)) {
+			events.offer(event);
+		}
+	}
+
+	public synchronized void flush() {
+		indexQueuedEvents();
+		lucenePostIndex.refresh();
+	}
+
+	public void commit() {
+		lucenePostIndex.commit();
+	}
+
+	// 마지막으로 따라잡은 시각 이후 수정된 게시글을 다시 색인하고, 모두 반영되면 그 시각을 색인과 함께 커밋한다
+	// 따라잡은 시각이 없는 색인은 재색인에서 만들어지므로 건너뛴다
+	public synchronized void catchUp() {
+		Optional<LocalDateTime> watermark = lucenePostIndex.getWatermark();
+		if (watermark.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		LocalDateTime since = watermark.get().minus(Duration.ofSeconds(catchUpOverlapSeconds));
+		List<UUID> postIds = postRepository.findIdsByUpdatedAtSince(since);
+		postIds.forEach(postId -> events.offer(PostIndexEvent.upsert(postId)));
+
+		if (indexQueuedEvents()) {
+			lucenePostIndex.advanceWatermark(startedAt);
+		}
+		lucenePostIndex.refresh();
+		lucenePostIndex.commit();
+		log.info(LOG_CAUGHT_UP, since, postIds.size());
+	}
+
+	// 실패한 배치가 있으면 false, 실패한 이벤트는 큐에 되돌린다
+	private boolean indexQueuedEvents() {
+		boolean indexed = true;
+		List<PostIndexEvent> drainedEvents = new ArrayList<>();
+		while (events.drainTo(drainedEvents, batchSize) > 0) {
+			if (!indexBatch(drainedEvents)) {
+				indexed = false;
+				break;
+			}
+			drainedEvents.clear();
+		}
+		return indexed;
+	}
+
+	private boolean indexBatch(List<PostIndexEvent> batch) {
+		// 같은 게시글의 이벤트는 마지막 것만 반영
+		Map<UUID, PostIndexEvent.Operation> operations = new LinkedHashMap<>();
+		batch.forEach(event -> operations.put(event.getPostId(), event.getOperation()));
+
+		List<UUID> upsertPostIds = operations.entrySet().stream()
+			.filter(entry -> entry.getValue() == PostIndexEvent.Operation.UPSERT)
+			.map(Map.Entry::getKey)
+			.toList();
+
+		try {
+			List<Post> posts = upsertPostIds.isEmpty() ? List.of() : postRepository.findAllWithTagsByIdIn(upsertPostIds);
+			List<Post> activePosts = posts.stream()
+				.filter(post -> !post.isDeleted())
+				.toList();
+
+			// 삭제 이벤트와 함께, 색인 사이에 삭제되었거나 사라진 게시글도 색인에서 제거
+			List<UUID> deletedPostIds = new ArrayList<>(operations.keySet());
+			activePosts.forEach(post -> deletedPostIds.remove(post.getId()));
+
+			lucenePostIndex.index(activePosts, deletedPostIds);
+			return true;
+		} catch (RuntimeException e) {
+			log.error(LOG_INDEXING_FAILED, batch.size(), e);
+			events.addAll(batch);
+			return false;
+		}
+	}
+}
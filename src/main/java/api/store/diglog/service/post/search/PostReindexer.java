@@ -0,0 +1,75 @@
+package api.store.diglog.service.post.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글을 id 기준 keyset 페이지로 읽어 색인을 처음부터 다시 만든다
+@Component
+@ConditionalOnProperty(name = "diglog.post.search.engine", havingValue = "LUCENE")
+@RequiredArgsConstructor
+@Slf4j
+public class PostReindexer {
+
+	private static final String LOG_REINDEXED = "[게시글 전체 색인] posts={}";
+	private static final UUID MIN_POST_ID = new UUID(0L, 0L);
+
+	private final LucenePostIndex lucenePostIndex;
+	private final PostRepository postRepository;
+	private final PostIndexingPipeline postIndexingPipeline;
+
+	@Value("${diglog.post.search.lucene.reindex-page-size:1000}")
+	private int pageSize;
+
+	@Value("${diglog.post.search.lucene.reindex-on-startup:false}")
+	private boolean reindexOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (reindexOnStartup || lucenePostIndex.isEmpty() || lucenePostIndex.getWatermark().isEmpty()) {
+			reindexAll();
+			return;
+		}
+		// 꺼져 있던 동안 다른 노드에서 바뀐 게시글을 따라잡는다
+		postIndexingPipeline.catchUp();
+	}
+
+	// 재색인 중에는 색인을 잠가 검색이 갱신 이전의 리더를 계속 사용하도록 한다
+	// 잠금은 색인 쓰기만 기다리게 하므로 다른 스케줄 작업과 검색은 막히지 않는다
+	public int reindexAll() {
+		return lucenePostIndex.reindex(() -> {
+			LocalDateTime startedAt = LocalDateTime.now();
+			lucenePostIndex.deleteAll();
+
+			int indexed = 0;
+			UUID lastId = MIN_POST_ID;
+			List<UUID> postIds;
+			while (!(postIds = postRepository.findIdsAfter(lastId, Limit.of(pageSize))).isEmpty()) {
+				List<Post> activePosts = postRepository.findAllWithTagsByIdIn(postIds).stream()
+					.filter(post -> !post.isDeleted())
+					.toList();
+				lucenePostIndex.index(activePosts, List.of());
+				indexed += activePosts.size();
+				lastId = postIds.getLast();
+			}
+
+			lucenePostIndex.advanceWatermark(startedAt);
+			lucenePostIndex.commit();
+			lucenePostIndex.refresh();
+			log.info(LOG_REINDEXED, indexed);
+			return indexed;
+		});
+	}
+}
@@ -0,0 +1,21 @@
+package api.store.diglog.service.post.search;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.service.post.PostCursor;
+
+public interface PostSearchEngine {
+
+	PostSearchEngineType getType();
+
+	Page<Post> search(String keyword, SearchOption option, Pageable pageable);
+
+	// 최신순 (createdAt, id)으로 cursor 다음 게시글을 최대 limit개 조회, cursor가 없으면 처음부터
+	List<Post> scroll(String keyword, SearchOption option, PostCursor cursor, int limit);
+
+}
@@ -0,0 +1,27 @@
+package api.store.diglog.service.post.search;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PostSearchEngineFactory {
+
+	private final Map<PostSearchEngineType, PostSearchEngine> searchEngines;
+
+	@Autowired
+	public PostSearchEngineFactory(List<PostSearchEngine> searchEngines) {
+		Map<PostSearchEngineType, PostSearchEngine> map = new EnumMap<>(PostSearchEngineType.class);
+		searchEngines.forEach(engine -> map.put(engine.getType(), engine));
+		this.searchEngines = Collections.unmodifiableMap(map);
+	}
+
+	public PostSearchEngine getEngine(PostSearchEngineType engineType) {
+		return searchEngines.get(engineType);
+	}
+
+}
@@ -0,0 +1,7 @@
+package api.store.diglog.service.post.search;
+
+public enum PostSearchEngineType {
+	LIKE,
+	FULLTEXT,
+	LUCENE
+}
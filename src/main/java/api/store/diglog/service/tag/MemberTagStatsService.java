@@ -0,0 +1,98 @@
+package api.store.diglog.service.tag;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.repository.MemberTagStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// member_tag_stats 집계를 게시글 쓰기 트랜잭션 안에서 갱신한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberTagStatsService {
+
+	private static final String REBUILD_LOCK = "member:tag-stats:rebuild";
+
+	private static final String LOG_REBUILT = "[회원 태그 통계 재구성] rows={}";
+	private static final String LOG_REBUILD_INTERRUPTED = "[회원 태그 통계 재구성 잠금 중단]";
+	private static final String LOG_REBUILD_FAILED = "[회원 태그 통계 재구성 실패]";
+
+	private final MemberTagStatRepository memberTagStatRepository;
+	private final RedissonClient redissonClient;
+
+	@Value("${diglog.member.tag-stats.rebuild-lease-seconds:300}")
+	private long rebuildLeaseSeconds;
+
+	// 빠진 태그는 1 줄이고 붙은 태그는 1 늘린다, 0이 된 행은 지워 회원별 범위를 작게 유지한다
+	// 증가는 upsert, 감소는 UPDATE 한 문장이라 없던 행을 동시에 만들어도 기본 키 충돌이나 교착이 없다
+	@Transactional
+	public void update(UUID memberId, Collection<UUID> removedTagIds, Collection<UUID> addedTagIds) {
+		Set<UUID> removed = new HashSet<>(removedTagIds);
+		Set<UUID> added = new HashSet<>(addedTagIds);
+		List<UUID> decremented = removed.stream().filter(tagId -> !added.contains(tagId)).toList();
+		List<UUID> incremented = added.stream().filter(tagId -> !removed.contains(tagId)).sorted().toList();
+
+		incremented.forEach(tagId -> memberTagStatRepository.increment(memberId, tagId));
+		if (!decremented.isEmpty()) {
+			memberTagStatRepository.decrement(memberId, decremented);
+			memberTagStatRepository.deleteEmpty(memberId, decremented);
+		}
+	}
+
+	// 집계가 비어 있으면 (도입 직후) 게시글에서 만든다, 여러 노드가 함께 떠도 잠금을 잡은 한 노드만 만든다
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (memberTagStatRepository.count() > 0) {
+			return;
+		}
+
+		RLock lock = redissonClient.getLock(REBUILD_LOCK);
+		boolean isLocked = false;
+		try {
+			isLocked = lock.tryLock(0, rebuildLeaseSeconds, TimeUnit.SECONDS);
+			if (isLocked && memberTagStatRepository.count() == 0) {
+				rebuild();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn(LOG_REBUILD_INTERRUPTED);
+		} catch (DataAccessException e) {
+			log.warn(LOG_REBUILD_FAILED, e);
+		} finally {
+			if (isLocked && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	@Transactional
+	public int rebuild() {
+		memberTagStatRepository.deleteAllInBatch();
+		int rows = memberTagStatRepository.insertFromPosts();
+		log.info(LOG_REBUILT, rows);
+		return rows;
+	}
+
+	public static List<UUID> tagIds(Collection<Tag> tags) {
+		if (tags == null) {
+			return List.of();
+		}
+		return tags.stream().map(Tag::getId).toList();
+	}
+}
@@ -0,0 +1,217 @@
+package api.store.diglog.service.tag;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 소문자로 정규화한 태그 이름 -> ID 사전과 부분 일치 검색용 trigram 색인
+// Redis 해시(tagId -> 이름)를 모든 노드가 공유하고, 새 태그는 커밋 후 해시에 넣은 뒤 pub/sub으로 다른 노드에 알린다
+// 태그는 삭제되지 않으므로 사전에 있는 ID는 항상 유효하다, 아직 불러오지 않았으면 호출하는 쪽이 DB로 조회한다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagDictionary {
+
+	public static final String CHANNEL = "tag-dictionary";
+	public static final String DELIMITER = ",";
+
+	private static final String KEY = "tag:dictionary";
+	private static final String REBUILD_KEY_PREFIX = "tag:dictionary:rebuild:";
+	private static final Duration REBUILD_KEY_TTL = Duration.ofMinutes(10);
+	private static final int GRAM_SIZE = 3;
+	private static final String LOG_SYNCED = "[태그 사전 동기화] tags={}";
+	private static final String LOG_REBUILT = "[태그 사전 재구성] tags={}";
+
+	// 해시가 만들어진 뒤에만 추가해 재구성 전의 일부 태그만으로 사전이 만들어지지 않게 한다
+	// KEYS[1]: 해시, ARGV: tagId, 이름, tagId, 이름, ...
+	private static final String ADD_SCRIPT = """
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		return redis.call('HSET', KEYS[1], unpack(ARGV))
+		""";
+
+	// 임시 해시를 사전으로 교체하며 임시 해시의 만료 시간을 지운다
+	// KEYS[1]: 임시 해시, KEYS[2]: 해시
+	private static final String PUBLISH_SCRIPT = """
+		redis.call('RENAME', KEYS[1], KEYS[2])
+		return redis.call('PERSIST', KEYS[2])
+		""";
+
+	private static final RedisScript<Long> ADD = new DefaultRedisScript<>(ADD_SCRIPT, Long.class);
+	private static final RedisScript<Long> PUBLISH = new DefaultRedisScript<>(PUBLISH_SCRIPT, Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final TagRepository tagRepository;
+
+	// 재구성 중에도 조회가 끊기지 않도록 새 색인을 만든 뒤 통째로 바꾼다, 불러오기 전에는 null
+	private volatile Index index;
+
+	public static String normalize(String tagName) {
+		return tagName.strip().toLowerCase(Locale.ROOT);
+	}
+
+	public Optional<UUID> findId(String tagName) {
+		Index current = index;
+		if (current == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(current.idsByName.get(normalize(tagName)));
+	}
+
+	// 이름에 keyword가 들어간 태그의 ID (대소문자 무시), 사전을 불러오기 전이면 비어 있다
+	public Optional<Set<UUID>> findIdsContaining(String keyword) {
+		Index current = index;
+		if (current == null) {
+			return Optional.empty();
+		}
+		return Optional.of(current.findIdsContaining(normalize(keyword)));
+	}
+
+	// Redis 해시를 기준으로 로컬 사전을 다시 만들고, 해시가 없으면 DB에서 만든다
+	public void sync() {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+		if (entries.isEmpty()) {
+			rebuild();
+			return;
+		}
+
+		Index newIndex = new Index();
+		entries.forEach((tagId, tagName) -> newIndex.add(UUID.fromString((String)tagId), (String)tagName));
+		index = newIndex;
+		log.info(LOG_SYNCED, entries.size());
+	}
+
+	// DB의 모든 태그로 임시 해시를 만든 뒤 교체한다
+	// 임시 해시는 재구성마다 달라 여러 노드가 동시에 재구성해도 서로의 내용을 섞거나 지우지 않는다
+	public void rebuild() {
+		List<Tag> tags = tagRepository.findAll();
+		Index newIndex = new Index();
+		tags.forEach(tag -> newIndex.add(tag.getId(), tag.getName()));
+
+		if (tags.isEmpty()) {
+			redisTemplate.delete(KEY);
+		} else {
+			// 재구성 도중 노드가 멈춰도 임시 해시가 남지 않도록 만료 시간을 둔다
+			String rebuildKey = REBUILD_KEY_PREFIX + UUID.randomUUID();
+			redisTemplate.opsForHash().putAll(rebuildKey, toHash(tags));
+			redisTemplate.expire(rebuildKey, REBUILD_KEY_TTL);
+			redisTemplate.execute(PUBLISH, List.of(rebuildKey, KEY));
+		}
+		index = newIndex;
+		log.info(LOG_REBUILT, tags.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTagsSaved(TagSavedEvent event) {
+		if (event.getTagNames().isEmpty()) {
+			return;
+		}
+
+		addLocal(event.getTagNames());
+		String[] args = event.getTagNames().entrySet().stream()
+			.flatMap(entry -> Stream.of(entry.getKey().toString(), entry.getValue()))
+			.toArray(String[]::new);
+		redisTemplate.execute(ADD, List.of(KEY), (Object[])args);
+		redisTemplate.convertAndSend(CHANNEL, event.getTagNames().keySet().stream()
+			.map(UUID::toString)
+			.collect(Collectors.joining(DELIMITER)));
+	}
+
+	// 다른 노드에서 추가된 태그를 Redis 해시에서 읽어 로컬 사전에 넣는다
+	public void addFromRedis(List<UUID> tagIds) {
+		if (index == null || tagIds.isEmpty()) {
+			return;
+		}
+
+		List<Object> tagNames = redisTemplate.opsForHash()
+			.multiGet(KEY, tagIds.stream().map(UUID::toString).map(Object.class::cast).toList());
+		Map<UUID, String> found = new HashMap<>();
+		for (int i = 0; i < tagIds.size(); i++) {
+			if (tagNames.get(i) != null) {
+				found.put(tagIds.get(i), (String)tagNames.get(i));
+			}
+		}
+		addLocal(found);
+	}
+
+	// 로컬 사전을 비우고 불러오기 전 상태로 되돌린다
+	public void clear() {
+		index = null;
+		redisTemplate.delete(KEY);
+	}
+
+	private void addLocal(Map<UUID, String> tagNames) {
+		Index current = index;
+		if (current != null) {
+			tagNames.forEach(current::add);
+		}
+	}
+
+	private Map<String, String> toHash(Collection<Tag> tags) {
+		return tags.stream().collect(Collectors.toMap(tag -> tag.getId().toString(), Tag::getName));
+	}
+
+	private static class Index {
+
+		private final Map<String, UUID> idsByName = new ConcurrentHashMap<>();
+		private final Map<UUID, String> namesById = new ConcurrentHashMap<>();
+		private final Map<String, Set<UUID>> idsByGram = new ConcurrentHashMap<>();
+
+		// 대소문자만 다른 태그가 이미 있으면 이름 -> ID는 먼저 들어온 태그를 유지하고, 검색에는 모두 포함한다
+		private void add(UUID tagId, String tagName) {
+			String normalized = normalize(tagName);
+			idsByName.putIfAbsent(normalized, tagId);
+			namesById.put(tagId, normalized);
+			for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+				idsByGram.computeIfAbsent(normalized.substring(i, i + GRAM_SIZE), gram -> ConcurrentHashMap.newKeySet())
+					.add(tagId);
+			}
+		}
+
+		// trigram 후보 중 가장 작은 집합에서 시작해 실제로 포함하는지 확인한다, trigram보다 짧으면 전체 이름을 훑는다
+		private Set<UUID> findIdsContaining(String keyword) {
+			if (keyword.length() < GRAM_SIZE) {
+				return namesById.entrySet().stream()
+					.filter(entry -> entry.getValue().contains(keyword))
+					.map(Map.Entry::getKey)
+					.collect(Collectors.toSet());
+			}
+
+			Set<UUID> candidates = null;
+			for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+				Set<UUID> ids = idsByGram.get(keyword.substring(i, i + GRAM_SIZE));
+				if (ids == null) {
+					return Set.of();
+				}
+				if (candidates == null || ids.size() < candidates.size()) {
+					candidates = ids;
+				}
+			}
+			return candidates.stream()
+				.filter(tagId -> namesById.get(tagId).contains(keyword))
+				.collect(Collectors.toSet());
+		}
+	}
+}
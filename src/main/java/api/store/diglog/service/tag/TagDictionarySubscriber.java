@@ -0,0 +1,38 @@
+package api.store.diglog.service.tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 다른 노드에서 추가된 태그를 이 노드의 태그 사전에 반영
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagDictionarySubscriber implements MessageListener {
+
+	private static final String LOG_INVALID_MESSAGE = "[태그 사전 메시지 오류] message={}";
+
+	private final TagDictionary tagDictionary;
+
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+		String body = new String(message.getBody());
+		List<UUID> tagIds = new ArrayList<>();
+		for (String tagId : body.split(TagDictionary.DELIMITER)) {
+			try {
+				tagIds.add(UUID.fromString(tagId));
+			} catch (IllegalArgumentException e) {
+				log.warn(LOG_INVALID_MESSAGE, body);
+			}
+		}
+		tagDictionary.addFromRedis(tagIds);
+	}
+}
@@ -0,0 +1,24 @@
+package api.store.diglog.service.tag;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import api.store.diglog.model.entity.Tag;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TagSavedEvent {
+
+	// tagId -> 태그 이름
+	private final Map<UUID, String> tagNames;
+
+	public static TagSavedEvent of(Iterable<Tag> tags) {
+		Map<UUID, String> tagNames = new HashMap<>();
+		tags.forEach(tag -> tagNames.put(tag.getId(), tag.getName()));
+		return new TagSavedEvent(Map.copyOf(tagNames));
+	}
+}
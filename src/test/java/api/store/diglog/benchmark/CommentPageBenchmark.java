@@ -0,0 +1,217 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentResponse;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.service.CommentService;
+import api.store.diglog.service.MemberService;
+import api.store.diglog.service.comment.CommentReplyCountReconciler;
+import api.store.diglog.service.comment.cache.CommentPageCache;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class CommentPageBenchmark extends IntegrationTestSupport {
+
+	private static final int MEMBERS = 100;
+	private static final int COMMENTS = 1_000;
+	private static final int REPLIED_COMMENTS = 200;
+	private static final int REPLIES = 5;
+	private static final int[] PAGE_SIZES = {20, 100};
+	private static final int QUERIES = 100;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private CommentReplyCountReconciler commentReplyCountReconciler;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ImageRepository imageRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private CommentPageCache commentPageCache;
+
+	private Post post;
+
+	private List<Comment> replies;
+
+	@BeforeEach
+	void setUp() {
+		List<Member> members = memberRepository.saveAll(IntStream.range(0, MEMBERS)
+			.mapToObj(i -> Member.builder()
+				.email("member" + i + "@gmail.com")
+				.username("member" + i)
+				.password("password")
+				.roles(Set.of(Role.ROLE_USER))
+				.platform(Platform.SERVER)
+				.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+				.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+				.build())
+			.toList());
+		imageRepository.saveAll(members.stream()
+			.map(member -> Image.builder().refId(member.getId()).url("https://diglog/" + member.getUsername()).build())
+			.toList());
+
+		post = postRepository.save(Post.builder()
+			.member(members.getFirst())
+			.title("title")
+			.content("content")
+			.build());
+
+		List<Comment> comments = commentRepository.saveAll(IntStream.range(0, COMMENTS)
+			.mapToObj(i -> Comment.builder()
+				.post(post)
+				.member(members.get(i % MEMBERS))
+				.taggedMember(i % 2 == 0 ? members.get((i + 1) % MEMBERS) : null)
+				.content("content " + i)
+				.build())
+			.toList());
+
+		replies = new ArrayList<>();
+		comments.subList(0, REPLIED_COMMENTS).forEach(comment -> IntStream.range(0, REPLIES)
+			.forEach(i -> replies.add(Comment.builder()
+				.post(post)
+				.member(members.get(i))
+				.parentComment(comment)
+				.content("reply " + i)
+				.build())));
+		commentRepository.saveAll(replies);
+		commentReplyCountReconciler.reconcile();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(commentPageCache, "maxPages", 2);
+		commentPageCache.clearLocal();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+		commentRepository.deleteAllInBatch(replies);
+		commentRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		imageRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("댓글 1천 개 스레드의 페이지를 댓글마다 조회하는 방식과 페이지 단위 IN 조회 방식으로 비교한다.")
+	@Test
+	void compareCommentPageAssembly() {
+		// 페이지 조립 자체를 비교하도록 캐시를 거치지 않는다
+		ReflectionTestUtils.setField(commentPageCache, "maxPages", 0);
+		for (int size : PAGE_SIZES) {
+			int pageCount = COMMENTS / size;
+
+			// 변경 전: 댓글마다 작성자, 프로필 이미지, 태그된 회원, 답글 수를 따로 조회
+			measure("per comment, size=" + size, i -> transactionTemplate.execute(status ->
+				getCommentsPerComment(i % pageCount, size)).getNumberOfElements());
+
+			// 변경 후: 회원, 이미지, 답글 수를 페이지 단위로 한 번씩 조회
+			measure("batched, size=" + size, i -> commentService.getComments(CommentListRequest.builder()
+				.postId(post.getId())
+				.page(i % pageCount)
+				.size(size)
+				.build()).getNumberOfElements());
+		}
+	}
+
+	@DisplayName("댓글 1천 개 스레드의 첫 페이지를 매번 조립하는 방식과 캐시에서 읽는 방식으로 비교한다.")
+	@Test
+	void compareCommentPageCache() {
+		for (int size : PAGE_SIZES) {
+			CommentListRequest request = CommentListRequest.builder()
+				.postId(post.getId())
+				.page(0)
+				.size(size)
+				.build();
+
+			ReflectionTestUtils.setField(commentPageCache, "maxPages", 0);
+			measure("assembled, size=" + size, i -> commentService.getComments(request).getNumberOfElements());
+
+			// 로컬 캐시 적중
+			ReflectionTestUtils.setField(commentPageCache, "maxPages", 2);
+			measure("local cache, size=" + size, i -> commentService.getComments(request).getNumberOfElements());
+
+			// 로컬 캐시를 비워 Redis 캐시에서 역직렬화
+			measure("redis cache, size=" + size, i -> {
+				commentPageCache.clearLocal();
+				return commentService.getComments(request).getNumberOfElements();
+			});
+		}
+	}
+
+	private Page<CommentResponse> getCommentsPerComment(int page, int size) {
+		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt"));
+		return commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(post.getId(), null, pageable)
+			.map(comment -> CommentResponse.builder()
+				.id(comment.getId())
+				.content(comment.getContent())
+				.member(memberService.getCommentMember(comment.getMember().getId()))
+				.isDeleted(false)
+				.taggedUsername(comment.getTaggedMember() != null
+					? memberService.findMemberById(comment.getTaggedMember().getId()).getUsername()
+					: null)
+				.createdAt(comment.getCreatedAt())
+				.replyCount(countReplies(comment.getId()))
+				.build());
+	}
+
+	// 댓글마다 답글 수를 따로 센다
+	private int countReplies(UUID commentId) {
+		return commentRepository.countRepliesByParentCommentIdIn(List.of(commentId)).stream()
+			.mapToInt(replyCount -> (int)replyCount.getReplyCount())
+			.sum();
+	}
+
+	private void measure(String name, IntFunction<Integer> query) {
+		for (int i = 0; i < QUERIES / 5; i++) {
+			query.apply(i);
+		}
+
+		LatencyRecorder recorder = new LatencyRecorder(name, QUERIES);
+		int elements = 0;
+		for (int i = 0; i < QUERIES; i++) {
+			long start = System.nanoTime();
+			elements = query.apply(i);
+			recorder.record(System.nanoTime() - start);
+		}
+		System.out.println(recorder.summary() + ", elements=" + elements);
+		assertThat(elements).isPositive();
+	}
+}
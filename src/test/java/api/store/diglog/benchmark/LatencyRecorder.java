@@ -0,0 +1,47 @@
+package api.store.diglog.benchmark;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+
+	private static final double NANOS_PER_MICRO = 1_000.0;
+
+	private final String name;
+	private long[] samples;
+	private int size;
+
+	public LatencyRecorder(String name, int expectedSamples) {
+		this.name = name;
+		this.samples = new long[Math.max(expectedSamples, 1)];
+	}
+
+	public void record(long elapsedNanos) {
+		if (size == samples.length) {
+			samples = Arrays.copyOf(samples, size * 2);
+		}
+		samples[size++] = elapsedNanos;
+	}
+
+	public double percentileMicros(double percentile) {
+		if (size == 0) {
+			return 0;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(percentile / 100.0 * size) - 1;
+		return sorted[Math.max(index, 0)] / NANOS_PER_MICRO;
+	}
+
+	public double averageMicros() {
+		if (size == 0) {
+			return 0;
+		}
+		return Arrays.stream(samples, 0, size).average().orElse(0) / NANOS_PER_MICRO;
+	}
+
+	public String summary() {
+		return String.format("[%s] samples=%d, avg=%.1fus, p50=%.1fus, p99=%.1fus, max=%.1fus",
+			name, size, averageMicros(), percentileMicros(50), percentileMicros(99), percentileMicros(100));
+	}
+}
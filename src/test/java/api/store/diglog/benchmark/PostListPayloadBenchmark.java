@@ -0,0 +1,127 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.sun.management.ThreadMXBean;
+
+import api.store.diglog.common.util.PostExcerpt;
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostListPayloadBenchmark extends IntegrationTestSupport {
+
+	private static final int POSTS = 200;
+	private static final int CONTENT_PARAGRAPHS = 80;
+	private static final int WARM_UP_REQUESTS = 50;
+	private static final int REQUESTS = 300;
+	private static final String QUERY = "?page=0&size=20&sorts=createdAt&isDescending=true";
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		// 실제 글과 비슷한 약 10KB 분량의 마크다운 본문
+		String content = "## 문단 제목\n\n스프링 부트에서 레디스 캐시와 트랜잭션을 함께 쓸 때 주의할 점을 정리한다. "
+			.repeat(CONTENT_PARAGRAPHS);
+		postRepository.saveAll(IntStream.range(0, POSTS)
+			.mapToObj(i -> Post.builder()
+				.member(member)
+				.title("title" + i)
+				.content(content)
+				.excerpt(PostExcerpt.from(content))
+				.folder(folder)
+				.build())
+			.toList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("본문 전체를 담는 목록과 요약 목록의 요청당 응답 크기, 힙 할당량, 지연 시간을 비교한다.")
+	@Test
+	void compareListPayloads() throws Exception {
+		// given
+		Map<String, long[]> results = new LinkedHashMap<>();
+
+		for (String path : new String[] {"/api/post", "/api/post/summary"}) {
+			for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+				request(path);
+			}
+
+			// when
+			LatencyRecorder latencyRecorder = new LatencyRecorder(path, REQUESTS);
+			long bytes = 0;
+			long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+			for (int i = 0; i < REQUESTS; i++) {
+				long start = System.nanoTime();
+				bytes += request(path).getResponse().getContentAsByteArray().length;
+				latencyRecorder.record(System.nanoTime() - start);
+			}
+			long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+			// then
+			results.put(path, new long[] {bytes / REQUESTS, allocated / REQUESTS});
+			System.out.printf("%s, bytesPerRequest=%d, allocatedPerRequest=%.1fKB%n",
+				latencyRecorder.summary(), bytes / REQUESTS, allocated / REQUESTS / 1024.0);
+		}
+
+		assertThat(results.get("/api/post/summary")[0]).isLessThan(results.get("/api/post")[0] / 10);
+		assertThat(results.get("/api/post/summary")[1]).isLessThan(results.get("/api/post")[1]);
+	}
+
+	private MvcResult request(String path) throws Exception {
+		return mockMvc.perform(get(path + QUERY))
+			.andExpect(status().isOk())
+			.andReturn();
+	}
+}
@@ -0,0 +1,204 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostListMemberRequest;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostMemberListBenchmark extends IntegrationTestSupport {
+
+	private static final int MEMBER_POSTS = 50_000;
+	private static final int OTHER_MEMBERS = 10;
+	private static final int OTHER_MEMBER_POSTS = 5_000;
+	private static final int FOLDERS = 5;
+	private static final int INSERT_BATCH_SIZE = 5_000;
+	private static final int PAGE_SIZE = 20;
+	private static final int[] PAGES = {0, 100, 1_000};
+	private static final int QUERIES = 50;
+
+	private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+		.withUrlParam("rewriteBatchedStatements", "true");
+
+	static {
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.driver-class-name", mysqlContainer::getDriverClassName);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Member member;
+
+	private List<Folder> folders;
+
+	@BeforeEach
+	void setUp() {
+		member = saveMember("Frod");
+		folders = saveFolders(member);
+		insertPosts(member, folders, MEMBER_POSTS);
+		for (int i = 0; i < OTHER_MEMBERS; i++) {
+			Member otherMember = saveMember("other" + i);
+			insertPosts(otherMember, saveFolders(otherMember), OTHER_MEMBER_POSTS);
+		}
+		jdbcTemplate.execute("ANALYZE TABLE post");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("TRUNCATE TABLE post");
+				statement.execute("TRUNCATE TABLE folder");
+				statement.execute("TRUNCATE TABLE member");
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+	}
+
+	@DisplayName("게시글 5만 건인 회원의 목록을 엔티티 페이지 조회와 커버링 인덱스 ID 페이지 조회로 비교한다.")
+	@Test
+	void compareMemberPostQueries() {
+		UUID memberId = member.getId();
+		List<UUID> folderIds = List.of(folders.get(0).getId(), folders.get(1).getId());
+
+		for (int page : PAGES) {
+			Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt", "id").descending());
+
+			// 변경 전: 본문까지 읽는 엔티티 페이지
+			measure("entity page, page=" + page, i -> postRepository
+				.findAllByMemberIdAndIsDeletedFalse(memberId, pageable).getTotalElements());
+			measure("entity page with folders, page=" + page, i -> postRepository
+				.findAllByMemberIdAndFolderIdInAndIsDeletedFalse(memberId, folderIds, pageable).getTotalElements());
+
+			// 변경 후: 인덱스만 읽는 ID 페이지
+			measure("id page, page=" + page, i -> postRepository
+				.findIdsByMemberId(memberId, pageable).getTotalElements());
+			measure("id page with folders, page=" + page, i -> postRepository
+				.findIdsByMemberIdAndFolderIdIn(memberId, folderIds, pageable).getTotalElements());
+
+			// 서비스 전체 경로(회원 조회 + ID 페이지 + 연관 엔티티 IN 조회)
+			measure("getMemberPosts, page=" + page, i -> postService.getMemberPosts(PostListMemberRequest.builder()
+				.username(member.getUsername())
+				.page(page)
+				.size(PAGE_SIZE)
+				.build()).getTotalElements());
+			measure("getMemberPosts with folders, page=" + page, i -> postService.getMemberPosts(
+				PostListMemberRequest.builder()
+					.username(member.getUsername())
+					.folderIds(folderIds)
+					.page(page)
+					.size(PAGE_SIZE)
+					.build()).getTotalElements());
+		}
+	}
+
+	private void measure(String name, IntFunction<Long> query) {
+		for (int i = 0; i < QUERIES / 5; i++) {
+			query.apply(i);
+		}
+
+		LatencyRecorder recorder = new LatencyRecorder(name, QUERIES);
+		long total = 0;
+		for (int i = 0; i < QUERIES; i++) {
+			long start = System.nanoTime();
+			total = query.apply(i);
+			recorder.record(System.nanoTime() - start);
+		}
+		System.out.println(recorder.summary() + ", total=" + total);
+		assertThat(total).isPositive();
+	}
+
+	private Member saveMember(String username) {
+		return memberRepository.save(Member.builder()
+			.email(username + "@gmail.com")
+			.username(username)
+			.password("password")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+	}
+
+	private List<Folder> saveFolders(Member member) {
+		List<Folder> folders = new ArrayList<>();
+		for (int i = 0; i < FOLDERS; i++) {
+			folders.add(folderRepository.save(Folder.builder()
+				.id(UUID.randomUUID())
+				.member(member)
+				.title("folder" + i)
+				.depth(0)
+				.orderIndex(i)
+				.parentFolder(null)
+				.build()));
+		}
+		return folders;
+	}
+
+	private void insertPosts(Member member, List<Folder> folders, int count) {
+		byte[] memberId = toBytes(member.getId());
+		List<byte[]> folderIds = folders.stream().map(Folder::getId).map(this::toBytes).toList();
+		LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+		String content = "스프링 부트에서 레디스 캐시와 트랜잭션을 함께 쓸 때 주의할 점을 정리한다. ".repeat(40);
+
+		for (int batchFrom = 0; batchFrom < count; batchFrom += INSERT_BATCH_SIZE) {
+			List<Object[]> posts = new ArrayList<>();
+			for (int i = batchFrom; i < Math.min(batchFrom + INSERT_BATCH_SIZE, count); i++) {
+				Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+				posts.add(new Object[] {toBytes(UUID.randomUUID()), memberId, folderIds.get(i % folderIds.size()),
+					"title" + i, content, 1L, i % 20 == 0, createdAt, createdAt});
+			}
+			jdbcTemplate.batchUpdate("""
+				INSERT INTO post (id, member_id, folder_id, title, content, view_count, is_deleted, created_at, updated_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""", posts);
+		}
+	}
+
+	private byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
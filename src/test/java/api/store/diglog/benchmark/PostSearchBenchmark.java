@@ -0,0 +1,226 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.service.post.search.PostFullTextIndexInitializer;
+import api.store.diglog.service.post.search.PostReindexer;
+import api.store.diglog.service.post.search.PostSearchEngine;
+import api.store.diglog.service.post.search.PostSearchEngineFactory;
+import api.store.diglog.service.post.search.PostSearchEngineType;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostSearchBenchmark extends IntegrationTestSupport {
+
+	private static final int[] SCALES = {100_000, 1_000_000};
+	private static final int TAGS = 500;
+	private static final int INSERT_BATCH_SIZE = 5_000;
+	private static final int QUERIES = 50;
+	private static final String[] WORDS = {
+		"스프링", "자바", "레디스", "캐시", "트랜잭션", "인덱스", "쿼리", "동시성", "스레드", "메모리",
+		"네트워크", "배포", "도커", "쿠버네티스", "테스트", "리팩터링", "설계", "도메인", "이벤트", "메시지",
+		"검색", "정렬", "페이징", "커서", "락", "분산", "샤딩", "복제", "장애", "모니터링",
+		"로그", "지표", "성능", "튜닝", "프로파일링", "가비지", "컬렉션", "컴파일러", "바이트코드", "리액티브"
+	};
+
+	private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+		.withUrlParam("rewriteBatchedStatements", "true");
+
+	static {
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.driver-class-name", mysqlContainer::getDriverClassName);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+		registry.add("diglog.post.search.engine", () -> "LUCENE");
+		registry.add("diglog.post.search.lucene.path", () -> createTempDirectory("lucene-post"));
+	}
+
+	private static String createTempDirectory(String prefix) {
+		try {
+			return Files.createTempDirectory(prefix).toString();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PostSearchEngineFactory postSearchEngineFactory;
+
+	@Autowired
+	private PostFullTextIndexInitializer postFullTextIndexInitializer;
+
+	@Autowired
+	private PostReindexer postReindexer;
+
+	private final Random random = new Random(42);
+
+	private Member member;
+
+	private Folder folder;
+
+	private List<byte[]> tagIds;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		tagIds = insertTags();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("TRUNCATE TABLE post_tag");
+				statement.execute("TRUNCATE TABLE post");
+				statement.execute("TRUNCATE TABLE tag");
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		postReindexer.reindexAll();
+	}
+
+	@DisplayName("10만 건과 100만 건에서 LIKE, ngram FULLTEXT, Lucene 검색의 검색 옵션별 지연 시간을 비교한다.")
+	@Test
+	void compareSearchEngines() {
+		int loaded = 0;
+		for (int scale : SCALES) {
+			insertPosts(loaded, scale);
+			loaded = scale;
+			// 적재 후 인덱스를 만들어야 빠르므로 첫 적재 이후에 생성하고, 이후 적재분은 인덱스가 갱신한다
+			postFullTextIndexInitializer.createIndexes();
+			postReindexer.reindexAll();
+
+			for (PostSearchEngineType engineType : PostSearchEngineType.values()) {
+				PostSearchEngine engine = postSearchEngineFactory.getEngine(engineType);
+				for (SearchOption option : SearchOption.values()) {
+					LatencyRecorder recorder = new LatencyRecorder(
+						"posts=" + scale + ", engine=" + engineType + ", option=" + option, QUERIES);
+					long matched = 0;
+					for (int i = 0; i < QUERIES; i++) {
+						String keyword = WORDS[i % WORDS.length];
+						long start = System.nanoTime();
+						matched += engine.search(keyword, option,
+							PageRequest.of(0, 20, Sort.by("createdAt", "id").descending())).getTotalElements();
+						recorder.record(System.nanoTime() - start);
+					}
+					System.out.println(recorder.summary() + ", avgMatched=" + matched / QUERIES);
+					assertThat(matched).isPositive();
+				}
+			}
+		}
+	}
+
+	private List<byte[]> insertTags() {
+		List<byte[]> ids = new ArrayList<>();
+		List<Object[]> rows = new ArrayList<>();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int i = 0; i < TAGS; i++) {
+			byte[] id = toBytes(UUID.randomUUID());
+			ids.add(id);
+			rows.add(new Object[] {id, WORDS[i % WORDS.length] + i, now, now});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO tag (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", rows);
+		return ids;
+	}
+
+	private void insertPosts(int from, int to) {
+		byte[] memberId = toBytes(member.getId());
+		byte[] folderId = toBytes(folder.getId());
+		LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+		for (int batchFrom = from; batchFrom < to; batchFrom += INSERT_BATCH_SIZE) {
+			List<Object[]> posts = new ArrayList<>();
+			List<Object[]> postTags = new ArrayList<>();
+			for (int i = batchFrom; i < Math.min(batchFrom + INSERT_BATCH_SIZE, to); i++) {
+				byte[] postId = toBytes(UUID.randomUUID());
+				Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+				posts.add(new Object[] {postId, memberId, folderId, sentence(4), sentence(60), 1L, false, createdAt,
+					createdAt});
+				postTags.add(new Object[] {postId, tagIds.get(random.nextInt(TAGS))});
+			}
+			jdbcTemplate.batchUpdate("""
+				INSERT INTO post (id, member_id, folder_id, title, content, view_count, is_deleted, created_at, updated_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""", posts);
+			jdbcTemplate.batchUpdate("INSERT IGNORE INTO post_tag (post_id, tag_id) VALUES (?, ?)", postTags);
+		}
+	}
+
+	private String sentence(int words) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+		}
+		return sentence.toString().strip();
+	}
+
+	private byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
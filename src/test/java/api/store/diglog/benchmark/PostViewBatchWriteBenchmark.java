@@ -0,0 +1,143 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.batch.PostViewBatchWriter;
+import api.store.diglog.repository.batch.PostViewBatchWriterFactory;
+import api.store.diglog.repository.batch.PostViewWriteEngine;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostViewBatchWriteBenchmark extends IntegrationTestSupport {
+
+	private static final int POSTS = 5_000;
+	private static final int[] BATCH_SIZES = {10, 100, 1_000, 5_000};
+	private static final int ITERATIONS = 3;
+
+	private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+		.withUrlParam("rewriteBatchedStatements", "true");
+
+	static {
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.driver-class-name", mysqlContainer::getDriverClassName);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@Autowired
+	private PostViewBatchWriterFactory postViewBatchWriterFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private List<UUID> postIds;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		postIds = postRepository.saveAll(IntStream.range(0, POSTS)
+				.mapToObj(i -> Post.builder()
+					.member(member)
+					.title("title " + i)
+					.content("content")
+					.viewCount(0L)
+					.folder(folder)
+					.build())
+				.toList())
+			.stream()
+			.map(Post::getId)
+			.toList();
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("MySQL에서 배치 크기별로 조회수 일괄 반영 엔진의 초당 반영 게시글 수를 비교한다.")
+	@Test
+	void compareWriteEngines() {
+		long expectedViewCount = 0;
+
+		for (PostViewWriteEngine writeEngine : PostViewWriteEngine.values()) {
+			PostViewBatchWriter writer = postViewBatchWriterFactory.getWriter(writeEngine);
+			for (int batchSize : BATCH_SIZES) {
+				// warm-up
+				writeAll(writer, batchSize);
+				expectedViewCount++;
+
+				long start = System.nanoTime();
+				for (int i = 0; i < ITERATIONS; i++) {
+					writeAll(writer, batchSize);
+				}
+				long elapsed = System.nanoTime() - start;
+				expectedViewCount += ITERATIONS;
+
+				System.out.printf("[%s] batchSize=%d, posts/sec=%.0f%n", writeEngine, batchSize,
+					(double)POSTS * ITERATIONS / (elapsed / 1_000_000_000.0));
+			}
+		}
+
+		long expected = expectedViewCount;
+		assertThat(postRepository.findAllById(postIds)).allMatch(post -> post.getViewCount() == expected);
+	}
+
+	private void writeAll(PostViewBatchWriter writer, int batchSize) {
+		for (int from = 0; from < POSTS; from += batchSize) {
+			Map<UUID, Long> viewCountDeltas = new HashMap<>();
+			postIds.subList(from, Math.min(from + batchSize, POSTS))
+				.forEach(postId -> viewCountDeltas.put(postId, 1L));
+			transactionTemplate.executeWithoutResult(status -> writer.increaseViewCounts(viewCountDeltas));
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.service.post.PostViewDedupMode;
+import api.store.diglog.service.post.RedisPostViewIncrementer;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostViewDedupMemoryBenchmark extends IntegrationTestSupport {
+
+	private static final int POSTS = 10;
+	private static final int VIEWS_PER_POST = 100_000;
+	private static final int CHUNK_SIZE = 1_000;
+
+	@Autowired
+	private RedisPostViewIncrementer redisPostViewIncrementer;
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", PostViewDedupMode.EXACT);
+		flushRedis();
+	}
+
+	@DisplayName("중복 판별 방식별로 100만 건의 고유 조회에 대한 Redis 키 수, 메모리 사용량, 카운트 오차를 비교한다.")
+	@Test
+	void compareDedupModes() {
+		// given
+		Map<PostViewDedupMode, Long> usedMemories = new EnumMap<>(PostViewDedupMode.class);
+
+		for (PostViewDedupMode mode : PostViewDedupMode.values()) {
+			flushRedis();
+			ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", mode);
+			long memoryBefore = usedMemory();
+
+			// when
+			long counted = 0;
+			for (int p = 0; p < POSTS; p++) {
+				UUID postId = UUID.randomUUID();
+				redisTemplate.opsForValue().set("post:view:count:" + postId, "0");
+				for (int from = 0; from < VIEWS_PER_POST; from += CHUNK_SIZE) {
+					counted += redisPostViewIncrementer.increment(postId, ips(from));
+				}
+			}
+
+			// then
+			long usedMemory = usedMemory() - memoryBefore;
+			long totalViews = (long)POSTS * VIEWS_PER_POST;
+			usedMemories.put(mode, usedMemory);
+			System.out.printf("[%s] keys=%d, usedMemory=%.2fMB, counted=%d, error=%.3f%%%n",
+				mode, dbSize(), usedMemory / 1024.0 / 1024.0, counted,
+				Math.abs(totalViews - counted) * 100.0 / totalViews);
+		}
+
+		assertThat(usedMemories.get(PostViewDedupMode.HYPER_LOG_LOG))
+			.isLessThan(usedMemories.get(PostViewDedupMode.EXACT));
+		assertThat(usedMemories.get(PostViewDedupMode.BLOOM_FILTER))
+			.isLessThan(usedMemories.get(PostViewDedupMode.EXACT));
+	}
+
+	private List<String> ips(int from) {
+		List<String> ips = new ArrayList<>(CHUNK_SIZE);
+		for (int i = from; i < from + CHUNK_SIZE; i++) {
+			ips.add("10." + (i >> 16) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF));
+		}
+		return ips;
+	}
+
+	private long usedMemory() {
+		Properties memory = redisTemplate.execute(
+			(RedisCallback<Properties>)conn -> conn.serverCommands().info("memory"));
+		return Long.parseLong(memory.getProperty("used_memory"));
+	}
+
+	private long dbSize() {
+		return redisTemplate.execute((RedisCallback<Long>)conn -> conn.serverCommands().dbSize());
+	}
+
+	private void flushRedis() {
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+}
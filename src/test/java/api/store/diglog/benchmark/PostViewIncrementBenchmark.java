@@ -0,0 +1,148 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostViewIncrementRequest;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+@Tag("benchmark")
+class PostViewIncrementBenchmark extends IntegrationTestSupport {
+
+	private static final int WARMUP_VIEWS = 1_000;
+	private static final int MEASURED_VIEWS = 10_000;
+
+	private Post post;
+	private long lastMeasuredCommands;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		post = postRepository.save(Post.builder()
+			.member(member)
+			.title("Diglog 조회수 벤치마크")
+			.content("Diglog 조회수 벤치마크")
+			.viewCount(1L)
+			.folder(folder)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		flushRedis();
+	}
+
+	@DisplayName("조회수 증가 시 기존 방식과 Lua 스크립트 방식의 Redis 왕복 횟수와 p99 지연 시간을 비교한다.")
+	@Test
+	void compareIncreaseViewPaths() {
+		// given
+		UUID postId = post.getId();
+		PostViewIncrementRequest request = PostViewIncrementRequest.builder()
+			.postId(postId)
+			.build();
+
+		// when
+		LatencyRecorder legacy = measure("legacy", "10.1.", ip -> legacyIncreaseView(postId, ip));
+		long legacyCommands = lastMeasuredCommands;
+
+		flushRedis();
+		LatencyRecorder script = measure("lua-script", "10.2.", ip -> postService.increaseView(request, ip));
+		long scriptCommands = lastMeasuredCommands;
+
+		// then
+		System.out.println(legacy.summary() + String.format(", commands/view=%.2f",
+			(double)legacyCommands / MEASURED_VIEWS));
+		System.out.println(script.summary() + String.format(", commands/view=%.2f",
+			(double)scriptCommands / MEASURED_VIEWS));
+
+		assertThat(scriptCommands).isLessThan(legacyCommands);
+	}
+
+	private LatencyRecorder measure(String name, String ipPrefix, Consumer<String> consumer) {
+		for (int i = 0; i < WARMUP_VIEWS; i++) {
+			consumer.accept(ipPrefix + "255." + i);
+		}
+
+		LatencyRecorder recorder = new LatencyRecorder(name, MEASURED_VIEWS);
+		long commandsBefore = totalCommandsProcessed();
+		for (int i = 0; i < MEASURED_VIEWS; i++) {
+			String ip = ipPrefix + (i / 256) + "." + (i % 256);
+			long start = System.nanoTime();
+			consumer.accept(ip);
+			recorder.record(System.nanoTime() - start);
+		}
+		lastMeasuredCommands = totalCommandsProcessed() - commandsBefore;
+
+		return recorder;
+	}
+
+	// 스크립트 도입 이전의 increaseView 흐름 (hasKey, expire, setIfAbsent, get, increment, sadd)
+	private void legacyIncreaseView(UUID postId, String ip) {
+		String countKey = "post:view:count:" + postId;
+		if (!redisTemplate.hasKey(countKey)) {
+			redisTemplate.opsForValue().set(countKey, String.valueOf(post.getViewCount()));
+		}
+		redisTemplate.expire(countKey, Duration.ofHours(24));
+
+		Boolean isFirstView = redisTemplate.opsForValue()
+			.setIfAbsent("post:view:" + postId + ":" + ip, "true", Duration.ofHours(24));
+		if (Boolean.FALSE.equals(isFirstView)) {
+			return;
+		}
+
+		redisTemplate.opsForValue().get(countKey);
+		redisTemplate.opsForValue().increment(countKey);
+		redisTemplate.opsForSet().add("post:view:dirtySet", postId.toString());
+	}
+
+	private long totalCommandsProcessed() {
+		Properties stats = redisTemplate.execute((RedisCallback<Properties>)conn -> conn.serverCommands().info("stats"));
+		return Long.parseLong(stats.getProperty("total_commands_processed"));
+	}
+
+	private void flushRedis() {
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+}
@@ -0,0 +1,167 @@
+package api.store.diglog.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import api.store.diglog.common.util.BatchPartition;
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Query;
+
+@Tag("benchmark")
+class PostViewSyncBenchmark extends IntegrationTestSupport {
+
+	private static final int POSTS = 10_000;
+	private static final int BATCH_SIZE = 100;
+	private static final String COUNT_PREFIX = "post:view:count:";
+	private static final String DELTA_PREFIX = "post:view:delta:";
+	private static final String DIRTY_SET = "post:view:dirtySet";
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private List<Post> posts;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		posts = postRepository.saveAll(IntStream.range(0, POSTS)
+			.mapToObj(i -> Post.builder()
+				.member(member)
+				.title("title " + i)
+				.content("content")
+				.viewCount(1L)
+				.folder(folder)
+				.build())
+			.toList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("조회수 동기화 시 SMEMBERS 기반 기존 방식과 SSCAN 기반 스트리밍 방식의 초당 동기화 게시글 수를 비교한다.")
+	@Test
+	void compareSyncPaths() {
+		// given
+		markDirty(10, 0);
+		long legacyElapsed = measure(this::legacySync);
+
+		markDirty(20, 10);
+		double syncedBefore = meterRegistry.counter("post.view.sync.posts").count();
+		long streamingElapsed = measure(() -> {
+			postService.syncPostViewCountToDb();
+			await().atMost(60, TimeUnit.SECONDS)
+				.until(() -> redisTemplate.opsForSet().size(DIRTY_SET) == 0);
+		});
+		double synced = meterRegistry.counter("post.view.sync.posts").count() - syncedBefore;
+
+		// then
+		System.out.printf("[legacy] posts/sec=%.0f%n", POSTS / (legacyElapsed / 1_000_000_000.0));
+		System.out.printf("[streaming] posts/sec=%.0f%n", POSTS / (streamingElapsed / 1_000_000_000.0));
+
+		assertThat(synced).isEqualTo(POSTS);
+		assertThat(postRepository.findAll()).allMatch(post -> post.getViewCount() == 20);
+	}
+
+	private void markDirty(long viewCount, long viewCountDelta) {
+		posts.forEach(post -> {
+			redisTemplate.opsForValue().set(COUNT_PREFIX + post.getId(), String.valueOf(viewCount));
+			redisTemplate.opsForValue().set(DELTA_PREFIX + post.getId(), String.valueOf(viewCountDelta));
+			redisTemplate.opsForSet().add(DIRTY_SET, post.getId().toString());
+		});
+	}
+
+	private long measure(Runnable sync) {
+		long start = System.nanoTime();
+		sync.run();
+		return System.nanoTime() - start;
+	}
+
+	// 스트리밍 도입 이전의 동기화 흐름 (SMEMBERS, 게시글마다 GET과 SREM)
+	private void legacySync() {
+		List<UUID> postIds = redisTemplate.opsForSet().members(DIRTY_SET).stream()
+			.map(UUID::fromString)
+			.toList();
+
+		BatchPartition.of(postIds, BATCH_SIZE).stream().forEach(batch -> {
+			Map<UUID, Long> viewCounts = new HashMap<>();
+			batch.forEach(id -> viewCounts.put(id, Long.parseLong(redisTemplate.opsForValue().get(COUNT_PREFIX + id))));
+			postRepository.findAllById(viewCounts.keySet());
+			bulkUpdateViewCounts(viewCounts);
+			viewCounts.keySet().forEach(id -> redisTemplate.opsForSet().remove(DIRTY_SET, id.toString()));
+		});
+	}
+
+	// 증가분 반영 이전의 절대값 덮어쓰기 CASE UPDATE
+	private void bulkUpdateViewCounts(Map<UUID, Long> viewCounts) {
+		String sql = "UPDATE post SET view_count = CASE id "
+			+ "WHEN ? THEN ? ".repeat(viewCounts.size())
+			+ "END WHERE id IN (" + String.join(",", Collections.nCopies(viewCounts.size(), "?")) + ")";
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Query query = entityManager.createNativeQuery(sql);
+			int paramIndex = 1;
+			for (Map.Entry<UUID, Long> entry : viewCounts.entrySet()) {
+				query.setParameter(paramIndex++, entry.getKey());
+				query.setParameter(paramIndex++, entry.getValue());
+			}
+			for (UUID postId : viewCounts.keySet()) {
+				query.setParameter(paramIndex++, postId);
+			}
+			query.executeUpdate();
+		});
+	}
+}
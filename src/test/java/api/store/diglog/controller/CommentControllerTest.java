@@ -149,6 +149,81 @@ class CommentControllerTest extends IntegrationTestSupport {
 		assertThat(response.getStatus()).isEqualTo(400);
 	}
 
+	@Test
+	@DisplayName("답글을 작성하고 삭제하면 부모 댓글의 답글 수가 함께 바뀐다.")
+	void saveAndDeleteReply() throws Exception {
+		// given
+		Comment parentComment = commentRepository.findAll().stream()
+			.filter(comment -> comment.getParentComment() == null && !comment.isDeleted())
+			.findFirst()
+			.orElseThrow();
+		CommentRequest dto = CommentRequest.builder()
+			.postId(postRepository.findAll().get(0).getId())
+			.parentCommentId(parentComment.getId())
+			.content("reply content")
+			.build();
+
+		// when
+		MvcResult result = mockMvc.perform(post("/api/comment")
+				.header("Authorization", getAuthorization("test1@example.com"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+			.andReturn();
+		JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString());
+		int savedReplyCount = commentRepository.findById(parentComment.getId()).orElseThrow().getReplyCount();
+
+		mockMvc.perform(patch("/api/comment/delete/" + data.get("id").asText())
+				.header("Authorization", getAuthorization("test1@example.com")))
+			.andReturn();
+		mockMvc.perform(patch("/api/comment/delete/" + data.get("id").asText())
+				.header("Authorization", getAuthorization("test1@example.com")))
+			.andReturn();
+		int deletedReplyCount = commentRepository.findById(parentComment.getId()).orElseThrow().getReplyCount();
+
+		// then
+		assertThat(savedReplyCount).isEqualTo(parentComment.getReplyCount() + 1);
+		assertThat(deletedReplyCount).isEqualTo(parentComment.getReplyCount());
+	}
+
+	@Test
+	@DisplayName("답글은 부모 depth + 1과 부모의 스레드를 저장하고, 답글에는 다시 답글을 달 수 없다.")
+	void saveReplyThread() throws Exception {
+		// given
+		Comment parentComment = commentRepository.findAll().stream()
+			.filter(comment -> comment.getDepth() == 0 && !comment.isDeleted())
+			.findFirst()
+			.orElseThrow();
+		CommentRequest dto = CommentRequest.builder()
+			.postId(postRepository.findAll().get(0).getId())
+			.parentCommentId(parentComment.getId())
+			.content("reply content")
+			.build();
+
+		// when
+		MvcResult result = mockMvc.perform(post("/api/comment")
+				.header("Authorization", getAuthorization("test1@example.com"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+			.andReturn();
+		JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString());
+		Comment reply = commentRepository.findById(UUID.fromString(data.get("id").asText())).orElseThrow();
+
+		MvcResult exceededResult = mockMvc.perform(post("/api/comment")
+				.header("Authorization", getAuthorization("test1@example.com"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(CommentRequest.builder()
+					.postId(dto.getPostId())
+					.parentCommentId(reply.getId())
+					.content("exceeded content")
+					.build())))
+			.andReturn();
+
+		// then
+		assertThat(reply.getDepth()).isEqualTo(1);
+		assertThat(reply.getRootId()).isEqualTo(parentComment.getId());
+		assertThat(exceededResult.getResponse().getStatus()).isEqualTo(400);
+	}
+
 	@Test
 	@DisplayName("특정 게시글에 달린 댓글 조회에 성공한다.")
 	void getComments() throws Exception {
@@ -215,6 +290,70 @@ class CommentControllerTest extends IntegrationTestSupport {
 		assertThat(data.get("content").size()).isEqualTo(2);
 	}
 
+	@Test
+	@DisplayName("댓글 트리 조회는 최상위 댓글 페이지와 그 아래 답글을 중첩해 반환하고, 삭제된 스레드는 제외한다.")
+	void getCommentTree() throws Exception {
+		// given
+		String parameter = "?postId=" + postRepository.findAll().get(0).getId() + "&page=0&size=5";
+
+		// when
+		MvcResult result = mockMvc.perform(get("/api/comment/tree" + parameter)
+				.contentType(MediaType.APPLICATION_JSON))
+			.andReturn();
+		MockHttpServletResponse response = result.getResponse();
+		JsonNode data = objectMapper.readTree(response.getContentAsString());
+
+		// then
+		JsonNode replies = data.get("content").get(0).get("replies");
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNotNull();
+		assertThat(data.get("content").size()).isEqualTo(2);
+		assertThat(data.get("content").get(0).get("member").get("username").asText()).isEqualTo("test1");
+		assertThat(replies.size()).isEqualTo(2);
+		assertThat(replies.get(0).get("replies").size() + replies.get(1).get("replies").size()).isEqualTo(2);
+		assertThat(data.get("content").get(1).get("replies").size()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("댓글 트리가 바뀌지 않았으면 304를 응답하고, 답글이 달리면 본문을 다시 응답한다.")
+	void getCommentTreeNotModified() throws Exception {
+		// given
+		UUID postId = postRepository.findAll().get(0).getId();
+		String parameter = "?postId=" + postId + "&page=0&size=5";
+		String eTag = mockMvc.perform(get("/api/comment/tree" + parameter))
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+
+		// when
+		MvcResult notModifiedResult = mockMvc.perform(get("/api/comment/tree" + parameter)
+				.header("If-None-Match", eTag))
+			.andReturn();
+
+		Comment rootComment = commentRepository.findAll().stream()
+			.filter(comment -> comment.getDepth() == 0 && !comment.isDeleted())
+			.findFirst()
+			.orElseThrow();
+		mockMvc.perform(post("/api/comment")
+				.header("Authorization", getAuthorization("test1@example.com"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(CommentRequest.builder()
+					.postId(postId)
+					.parentCommentId(rootComment.getId())
+					.content("new reply")
+					.build())))
+			.andReturn();
+		MvcResult modifiedResult = mockMvc.perform(get("/api/comment/tree" + parameter)
+				.header("If-None-Match", eTag))
+			.andReturn();
+
+		// then
+		assertThat(notModifiedResult.getResponse().getStatus()).isEqualTo(304);
+		assertThat(notModifiedResult.getResponse().getContentAsString()).isEmpty();
+		assertThat(modifiedResult.getResponse().getStatus()).isEqualTo(200);
+		assertThat(modifiedResult.getResponse().getHeader("ETag")).isNotEqualTo(eTag);
+	}
+
 	@Test
 	@DisplayName("삭제된 댓글의 하위 댓글은 조회에 성공한다.")
 	void getComments4() throws Exception {
@@ -350,6 +489,8 @@ class CommentControllerTest extends IntegrationTestSupport {
 				.post(post)
 				.member(member)
 				.parentComment(parentComment)
+				.depth(parentComment != null ? parentComment.getDepth() + 1 : 0)
+				.rootId(parentComment != null ? parentComment.getThreadRootId() : null)
 				.content("content " + i)
 				.taggedMember(taggedMember)
 				.isDeleted(isDeleted)
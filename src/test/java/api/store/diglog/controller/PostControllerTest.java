@@ -1,6 +1,7 @@
 package api.store.diglog.controller;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
 import java.util.List;
@@ -100,6 +101,54 @@ class PostControllerTest extends IntegrationTestSupport {
 		assertThat(response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	@DisplayName("조회된 게시글을 수정해도 조회수와 삭제 여부는 유지된다.")
+	void updateKeepsViewCount() throws Exception {
+		// given
+		Member member = memberRepository.save(defaultMember("test2@example.com"));
+		Post post = postRepository.save(Post.builder()
+			.member(member)
+			.title("test title")
+			.content("test content")
+			.tags(List.of())
+			.viewCount(42)
+			.build());
+		Post deletedPost = postRepository.save(Post.builder()
+			.member(member)
+			.title("deleted title")
+			.content("test content")
+			.tags(List.of())
+			.viewCount(7)
+			.isDeleted(true)
+			.build());
+		UUID folderId = UUID.randomUUID();
+		folderRepository.save(Folder.builder()
+			.id(folderId)
+			.title("title")
+			.member(member)
+			.depth(0)
+			.orderIndex(0)
+			.build());
+
+		// when
+		MockHttpServletResponse response = patchPost(post.getId(), folderId);
+		MockHttpServletResponse deletedResponse = patchPost(deletedPost.getId(), folderId);
+
+		// then
+		Post updatedPost = postRepository.findById(post.getId()).orElseThrow();
+		Post updatedDeletedPost = postRepository.findById(deletedPost.getId()).orElseThrow();
+		assertAll(
+			() -> assertThat(response.getStatus()).isEqualTo(200),
+			() -> assertThat(deletedResponse.getStatus()).isEqualTo(200),
+			() -> assertThat(updatedPost.getTitle()).isEqualTo("update title"),
+			() -> assertThat(updatedPost.getExcerpt()).isEqualTo("update content"),
+			() -> assertThat(updatedPost.getViewCount()).isEqualTo(42),
+			() -> assertThat(updatedPost.isDeleted()).isFalse(),
+			() -> assertThat(updatedDeletedPost.getViewCount()).isEqualTo(7),
+			() -> assertThat(updatedDeletedPost.isDeleted()).isTrue()
+		);
+	}
+
 	@Test
 	@DisplayName("다른 사용자의 게시글 수정에 실패한다.")
 	void update2() throws Exception {
@@ -601,6 +650,24 @@ class PostControllerTest extends IntegrationTestSupport {
 		assertThat(response.getStatus()).isEqualTo(400);
 	}
 
+	private MockHttpServletResponse patchPost(UUID postId, UUID folderId) throws Exception {
+		PostUpdateRequest dto = PostUpdateRequest.builder()
+			.id(postId)
+			.title("update title")
+			.content("update content")
+			.folderId(folderId)
+			.urls(List.of())
+			.tagNames(List.of())
+			.build();
+
+		return mockMvc.perform(patch("/api/post")
+				.header("Authorization", getAuthorization("test2@example.com"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+			.andReturn()
+			.getResponse();
+	}
+
 	private Member defaultMember(String email) {
 		return Member.builder()
 			.email(email)
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -20,10 +21,18 @@ import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
 import api.store.diglog.model.entity.Tag;
+import api.store.diglog.repository.MemberTagStatRepository;
+import api.store.diglog.service.tag.MemberTagStatsService;
 import api.store.diglog.supporter.IntegrationTestSupport;
 
 class TagControllerTest extends IntegrationTestSupport {
 
+	@Autowired
+	private MemberTagStatsService memberTagStatsService;
+
+	@Autowired
+	private MemberTagStatRepository memberTagStatRepository;
+
 	@BeforeEach
 	void beforeEach() {
 		Member member = memberRepository.save(getMember());
@@ -36,17 +45,19 @@ class TagControllerTest extends IntegrationTestSupport {
 			getPost(member, List.of(tag1)),
 			getPost(member, List.of())
 		));
+		memberTagStatsService.rebuild();
 	}
 
 	@AfterEach
 	void afterEach() {
+		memberTagStatRepository.deleteAllInBatch();
 		postRepository.deleteAll();
 		tagRepository.deleteAll();
 		memberRepository.deleteAll();
 	}
 
 	@Test
-	@DisplayName("멤버가 사용중인 태그가 name으로 정렬되어 조회된다.")
+	@DisplayName("멤버가 사용중인 태그가 게시글 수와 함께 name으로 정렬되어 조회된다.")
 	void getMemberTags() throws Exception {
 		// given
 		String username = "test";
@@ -60,7 +71,9 @@ class TagControllerTest extends IntegrationTestSupport {
 		assertThat(response.getStatus()).isEqualTo(200);
 		assertThat(data.size()).isEqualTo(2);
 		assertThat(data.get(0).get("name").asText()).isEqualTo("tag1");
+		assertThat(data.get(0).get("postCount").asLong()).isEqualTo(2);
 		assertThat(data.get(1).get("name").asText()).isEqualTo("tag2");
+		assertThat(data.get(1).get("postCount").asLong()).isEqualTo(2);
 	}
 
 	@Test
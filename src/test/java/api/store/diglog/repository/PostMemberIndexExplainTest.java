@@ -0,0 +1,205 @@
+package api.store.diglog.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class PostMemberIndexExplainTest extends IntegrationTestSupport {
+
+	private static final String MEMBER_INDEX = "idx_post_member_deleted_created_at_id";
+	private static final String MEMBER_FOLDER_INDEX = "idx_post_member_folder_deleted_created_at_id";
+	private static final int POSTS_PER_MEMBER = 2_000;
+
+	private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0");
+
+	static {
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.driver-class-name", mysqlContainer::getDriverClassName);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Member member;
+
+	private Folder folder;
+
+	@BeforeEach
+	void setUp() {
+		member = saveMember("Frod");
+		folder = saveFolder(member, "diglog");
+		Folder otherFolder = saveFolder(member, "etc");
+		Member otherMember = saveMember("Other");
+		Folder otherMemberFolder = saveFolder(otherMember, "other");
+
+		insertPosts(member, folder, otherFolder);
+		insertPosts(otherMember, otherMemberFolder, otherMemberFolder);
+		jdbcTemplate.execute("ANALYZE TABLE post");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				statement.execute("TRUNCATE TABLE post");
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("회원 게시글 ID 페이지는 (member_id, is_deleted, created_at, id) 인덱스만 읽고 정렬하지 않는다.")
+	@Test
+	void findIdsByMemberId_explain() {
+		// when
+		Map<String, Object> plan = explain("""
+			SELECT p.id FROM post p
+			WHERE p.member_id = ? AND p.is_deleted = false
+			ORDER BY p.created_at DESC, p.id DESC
+			LIMIT 20 OFFSET 1000
+			""", toBytes(member.getId()));
+
+		// then
+		assertAll(
+			() -> assertThat(plan.get("key")).isEqualTo(MEMBER_INDEX),
+			() -> assertThat(plan.get("Extra").toString()).contains("Using index"),
+			() -> assertThat(plan.get("Extra").toString()).doesNotContain("Using filesort")
+		);
+	}
+
+	@DisplayName("폴더 필터가 있는 회원 게시글 ID 페이지는 (member_id, folder_id, is_deleted, created_at, id) 인덱스만 읽는다.")
+	@Test
+	void findIdsByMemberIdAndFolderIdIn_explain() {
+		// when
+		Map<String, Object> plan = explain("""
+			SELECT p.id FROM post p
+			WHERE p.member_id = ? AND p.folder_id IN (?) AND p.is_deleted = false
+			ORDER BY p.created_at DESC, p.id DESC
+			LIMIT 20
+			""", toBytes(member.getId()), toBytes(folder.getId()));
+
+		// then
+		assertAll(
+			() -> assertThat(plan.get("key")).isEqualTo(MEMBER_FOLDER_INDEX),
+			() -> assertThat(plan.get("Extra").toString()).contains("Using index"),
+			() -> assertThat(plan.get("Extra").toString()).doesNotContain("Using filesort")
+		);
+	}
+
+	@DisplayName("회원 게시글 ID 페이지는 최신순으로 해당 회원의 삭제되지 않은 게시글만 반환한다.")
+	@Test
+	void findIdsByMemberIdAndFolderIdIn() {
+		// when
+		Page<UUID> postIds = postRepository.findIdsByMemberIdAndFolderIdIn(member.getId(), List.of(folder.getId()),
+			PageRequest.of(0, 20, Sort.by("createdAt", "id").descending()));
+
+		// then
+		List<UUID> expectedIds = jdbcTemplate.query("""
+			SELECT id FROM post
+			WHERE member_id = ? AND folder_id = ? AND is_deleted = false
+			ORDER BY created_at DESC, id DESC
+			LIMIT 20
+			""", (rs, rowNum) -> toUuid(rs.getBytes("id")), toBytes(member.getId()), toBytes(folder.getId()));
+		assertAll(
+			() -> assertThat(postIds.getTotalElements()).isEqualTo(POSTS_PER_MEMBER / 2),
+			() -> assertThat(postIds.getContent()).containsExactlyElementsOf(expectedIds)
+		);
+	}
+
+	private Map<String, Object> explain(String sql, Object... args) {
+		return jdbcTemplate.queryForList("EXPLAIN " + sql, args).getFirst();
+	}
+
+	private Member saveMember(String username) {
+		return memberRepository.save(Member.builder()
+			.email(username + "@gmail.com")
+			.username(username)
+			.password("password")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+	}
+
+	private Folder saveFolder(Member member, String title) {
+		return folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title(title)
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+	}
+
+	// 짝수 번째는 첫 폴더, 홀수 번째는 두 번째 폴더, 10건 중 1건은 삭제된 게시글
+	private void insertPosts(Member member, Folder folder, Folder otherFolder) {
+		byte[] memberId = toBytes(member.getId());
+		LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+		List<Object[]> posts = new ArrayList<>();
+		for (int i = 0; i < POSTS_PER_MEMBER; i++) {
+			Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+			byte[] folderId = toBytes(i % 2 == 0 ? folder.getId() : otherFolder.getId());
+			posts.add(new Object[] {toBytes(UUID.randomUUID()), memberId, folderId, "title" + i, "content" + i, 1L,
+				false, createdAt, createdAt});
+		}
+		jdbcTemplate.batchUpdate("""
+			INSERT INTO post (id, member_id, folder_id, title, content, view_count, is_deleted, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+			""", posts);
+		jdbcTemplate.update("UPDATE post SET is_deleted = true WHERE member_id = ? AND title LIKE '%5'", memberId);
+	}
+
+	private UUID toUuid(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+
+	private byte[] toBytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
@@ -14,16 +14,28 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import api.store.diglog.model.constant.Platform;
 import api.store.diglog.model.constant.Role;
 import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.repository.batch.PostViewBatchWriterFactory;
+import api.store.diglog.repository.batch.PostViewWriteEngine;
 import api.store.diglog.supporter.IntegrationTestSupport;
 
 class PostViewBatchRepositoryImplTest extends IntegrationTestSupport {
 
+	@Autowired
+	private PostViewBatchWriterFactory postViewBatchWriterFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
 	private List<Member> members;
 	private List<Folder> folders;
 
@@ -66,9 +78,9 @@ class PostViewBatchRepositoryImplTest extends IntegrationTestSupport {
 		memberRepository.deleteAllInBatch();
 	}
 
-	@DisplayName("여러 게시글의 조회수를 일괄적으로 업데이트 할 수 있다.")
+	@DisplayName("여러 게시글의 조회수에 증가분을 일괄적으로 더할 수 있다.")
 	@Test
-	void bulkUpdateViewCounts() {
+	void bulkIncreaseViewCounts() {
 
 		// given
 		List<Post> posts = postRepository.saveAll(
@@ -83,14 +95,14 @@ class PostViewBatchRepositoryImplTest extends IntegrationTestSupport {
 				.toList()
 		);
 
-		Map<UUID, Long> updatePosts = posts.stream()
+		Map<UUID, Long> viewCountDeltas = posts.stream()
 			.collect(Collectors.toMap(
 				Post::getId,
 				post -> post.getViewCount() + 10
 			));
 
 		// when
-		postViewBatchRepository.bulkUpdateViewCounts(updatePosts);
+		postViewBatchRepository.bulkIncreaseViewCounts(viewCountDeltas);
 
 		// then
 		List<Post> resultPosts = postRepository.findAllById(
@@ -102,12 +114,45 @@ class PostViewBatchRepositoryImplTest extends IntegrationTestSupport {
 		assertThat(resultPosts)
 			.extracting("id", "viewCount")
 			.containsExactlyInAnyOrderElementsOf(
-				updatePosts.keySet()
-					.stream()
-					.map(postId -> tuple(postId, updatePosts.get(postId)))
+				posts.stream()
+					.map(post -> tuple(post.getId(), post.getViewCount() + viewCountDeltas.get(post.getId())))
 					.toList()
 			);
 
 	}
 
-}
\ No newline at end of file
+	@DisplayName("일괄 반영 엔진별로 여러 게시글의 조회수에 증가분을 더할 수 있다.")
+	@EnumSource(value = PostViewWriteEngine.class, names = {"CASE_BUCKET", "JDBC_BATCH"})
+	@ParameterizedTest(name = "{0}")
+	void bulkIncreaseViewCounts_withWriteEngine(PostViewWriteEngine writeEngine) {
+		// given
+		List<Post> posts = postRepository.saveAll(
+			IntStream.range(0, 5)
+				.mapToObj(i -> Post.builder()
+					.title("title" + i)
+					.content("content" + i)
+					.viewCount(i)
+					.member(members.get(i))
+					.folder(folders.get(i))
+					.build())
+				.toList()
+		);
+
+		Map<UUID, Long> viewCountDeltas = posts.stream()
+			.collect(Collectors.toMap(Post::getId, post -> 3L));
+
+		// when
+		transactionTemplate.executeWithoutResult(status ->
+			postViewBatchWriterFactory.getWriter(writeEngine).increaseViewCounts(viewCountDeltas));
+
+		// then
+		assertThat(postRepository.findAllById(viewCountDeltas.keySet()))
+			.extracting("id", "viewCount")
+			.containsExactlyInAnyOrderElementsOf(
+				posts.stream()
+					.map(post -> tuple(post.getId(), post.getViewCount() + 3))
+					.toList()
+			);
+	}
+
+}
@@ -0,0 +1,163 @@
+package api.store.diglog.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentResponse;
+import api.store.diglog.model.dto.comment.CommentTreeRequest;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Image;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.comment.CommentTreeVO;
+import api.store.diglog.repository.ImageRepository;
+import api.store.diglog.service.comment.CommentReplyCountReconciler;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class CommentServiceQueryCountTest extends IntegrationTestSupport {
+
+	private static final int MEMBERS = 10;
+	private static final int COMMENTS = 50;
+	private static final int REPLIES = 3;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private CommentReplyCountReconciler commentReplyCountReconciler;
+
+	@Autowired
+	private ImageRepository imageRepository;
+
+	private Post post;
+
+	private List<Comment> replies;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		List<Member> members = memberRepository.saveAll(IntStream.range(0, MEMBERS)
+			.mapToObj(i -> Member.builder()
+				.email("member" + i + "@gmail.com")
+				.username("member" + i)
+				.password("password")
+				.roles(Set.of(Role.ROLE_USER))
+				.platform(Platform.SERVER)
+				.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+				.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+				.build())
+			.toList());
+		imageRepository.saveAll(members.stream()
+			.map(member -> Image.builder().refId(member.getId()).url("https://diglog/" + member.getUsername()).build())
+			.toList());
+
+		post = postRepository.save(Post.builder()
+			.member(members.getFirst())
+			.title("title")
+			.content("content")
+			.build());
+
+		List<Comment> comments = commentRepository.saveAll(IntStream.range(0, COMMENTS)
+			.mapToObj(i -> Comment.builder()
+				.post(post)
+				.member(members.get(i % MEMBERS))
+				.taggedMember(members.get((i + 1) % MEMBERS))
+				.content("content " + i)
+				.build())
+			.toList());
+
+		replies = new ArrayList<>();
+		comments.forEach(comment -> IntStream.range(0, REPLIES).forEach(i -> replies.add(Comment.builder()
+			.post(post)
+			.member(members.get(i))
+			.parentComment(comment)
+			.depth(1)
+			.rootId(comment.getId())
+			.content("reply " + i)
+			.isDeleted(i == 0)
+			.build())));
+		commentRepository.saveAll(replies);
+		commentReplyCountReconciler.reconcile();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		statistics.setStatisticsEnabled(false);
+		commentRepository.deleteAllInBatch(replies);
+		commentRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		imageRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("댓글 목록은 작성자, 태그된 회원, 프로필 이미지를 댓글 수와 무관하게 고정된 쿼리 수로 조회한다.")
+	@Test
+	void getComments_shouldNotLoadPerComment() {
+		// given
+		CommentListRequest request = CommentListRequest.builder()
+			.postId(post.getId())
+			.page(0)
+			.size(COMMENTS)
+			.build();
+
+		// when
+		Page<CommentResponse> comments = commentService.getComments(request);
+
+		// then
+		// 페이지 조회, 전체 개수, 회원 IN 조회, 이미지 IN 조회, 답글 수는 댓글 행에서 읽는다
+		assertAll(
+			() -> assertThat(comments.getContent()).hasSize(COMMENTS),
+			() -> assertThat(comments.getContent()).allMatch(comment -> comment.getReplyCount() == REPLIES - 1
+				&& comment.getTaggedUsername() != null
+				&& comment.getMember().getProfileUrl().equals("https://diglog/" + comment.getMember().getUsername())),
+			() -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4)
+		);
+	}
+
+	@DisplayName("댓글 트리는 스레드 수와 무관하게 최상위 댓글 페이지와 답글을 한 번씩 조회해 만든다.")
+	@Test
+	void getCommentTree_shouldNotLoadPerThread() {
+		// given
+		CommentTreeRequest request = CommentTreeRequest.builder()
+			.postId(post.getId())
+			.page(0)
+			.size(COMMENTS)
+			.build();
+
+		// when
+		CommentTreeVO commentTree = commentService.getCommentTree(request);
+
+		// then
+		// 최상위 댓글 페이지, 전체 개수, 답글 IN 조회, 회원 IN 조회, 이미지 IN 조회
+		assertAll(
+			() -> assertThat(commentTree.getComments().getContent()).hasSize(COMMENTS),
+			() -> assertThat(commentTree.getComments().getContent())
+				.allMatch(comment -> comment.getReplies().size() == REPLIES - 1),
+			() -> assertThat(commentTree.getVersion()).isNotBlank(),
+			() -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5)
+		);
+	}
+}
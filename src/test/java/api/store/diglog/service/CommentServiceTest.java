@@ -3,6 +3,7 @@ package api.store.diglog.service;
 import api.store.diglog.common.exception.CustomException;
 import api.store.diglog.common.exception.ErrorCode;
 import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentMember;
 import api.store.diglog.model.dto.comment.CommentRequest;
 import api.store.diglog.model.dto.comment.CommentResponse;
 import api.store.diglog.model.dto.comment.CommentUpdateRequest;
@@ -10,6 +11,7 @@ import api.store.diglog.model.entity.Comment;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
 import api.store.diglog.repository.CommentRepository;
+import api.store.diglog.service.comment.cache.CommentPageCache;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,11 +23,16 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -39,6 +46,10 @@ class CommentServiceTest {
 	private CommentRepository commentRepository;
 	@Mock
 	private MemberService memberService;
+	@Mock
+	private CommentPageCache commentPageCache;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	private CommentService commentService;
@@ -78,7 +89,6 @@ class CommentServiceTest {
 			lenient().when(commentRepository.findByIdAndIsDeletedFalse(null)).thenReturn(Optional.empty());
 			lenient().when(commentRepository.findByIdAndIsDeletedFalse(parentCommentId))
 				.thenReturn(Optional.of(parentComment));
-			lenient().when(commentRepository.getDepthByParentCommentId(parentCommentId, MAX_DEPTH)).thenReturn(depth);
 
 			// when
 			Throwable throwable = catchThrowable(() -> commentService.save(dto));
@@ -109,6 +119,7 @@ class CommentServiceTest {
 
 			Comment parentComment = Comment.builder()
 				.id(parentCommentId)
+				.depth(MAX_DEPTH - 1)
 				.build();
 
 			when(memberService.getCurrentMember()).thenReturn(Member.builder()
@@ -119,8 +130,6 @@ class CommentServiceTest {
 				.thenReturn(Optional.empty());
 			lenient().when(commentRepository.findByIdAndIsDeletedFalse(MAX_DEPTH_COMMENT_ID))
 				.thenReturn(Optional.of(parentComment));
-			lenient().when(commentRepository.getDepthByParentCommentId(MAX_DEPTH_COMMENT_ID, MAX_DEPTH))
-				.thenReturn(MAX_DEPTH);
 
 			// when
 			Throwable throwable = catchThrowable(() -> commentService.save(dto));
@@ -135,6 +144,39 @@ class CommentServiceTest {
 				Arguments.of(MAX_DEPTH_COMMENT_ID)
 			);
 		}
+
+		@Test
+		@DisplayName("depth, rootId가 채워지기 전의 답글에도 답글을 달 수 없다.")
+		void failWhenParentIsNotBackfilled() {
+			// given
+			CommentRequest dto = CommentRequest.builder()
+				.postId(POST_ID)
+				.content(CONTENT)
+				.parentCommentId(PARENT_COMMENT_ID)
+				.build();
+
+			Comment rootComment = Comment.builder()
+				.id(UUID.randomUUID())
+				.build();
+			Comment parentComment = Comment.builder()
+				.id(PARENT_COMMENT_ID)
+				.parentComment(rootComment)
+				.build();
+
+			when(memberService.getCurrentMember()).thenReturn(Member.builder()
+				.email(EMAIL)
+				.username(USERNAME)
+				.build());
+			when(commentRepository.findByIdAndIsDeletedFalse(PARENT_COMMENT_ID)).thenReturn(Optional.of(parentComment));
+
+			// when
+			Throwable throwable = catchThrowable(() -> commentService.save(dto));
+
+			// then
+			assertThat(throwable).isInstanceOf(CustomException.class)
+				.hasMessage(ErrorCode.COMMENT_MAX_DEPTH_EXCEEDED.getMessage());
+			verify(commentRepository, never()).save(any(Comment.class));
+		}
 	}
 
 	@Nested
@@ -162,7 +204,13 @@ class CommentServiceTest {
 				.parentCommentId(parentCommentId)
 				.build();
 
-			when(memberService.findMemberById(any(UUID.class))).thenReturn(getMember(EMAIL, USERNAME));
+			when(commentPageCache.get(any(), any(), any(), any(), any(), any())).thenAnswer(
+				invocation -> invocation.<Supplier<?>>getArgument(5).get());
+			when(memberService.getCommentMembers(anyCollection())).thenAnswer(invocation -> {
+				Collection<UUID> memberIds = invocation.getArgument(0);
+				return memberIds.stream().collect(Collectors.toMap(Function.identity(),
+					memberId -> CommentMember.builder().username(USERNAME).build()));
+			});
 			lenient().when(
 					commentRepository.findByPostIdAndParentCommentIdAndIsDeletedFalse(POST_ID, parentCommentId, PAGEABLE))
 				.thenReturn(selectResult);
@@ -239,6 +287,7 @@ class CommentServiceTest {
 				.build();
 			Comment comment = Comment.builder()
 				.id(COMMENT_ID)
+				.post(Post.builder().id(UUID.randomUUID()).build())
 				.member(member)
 				.build();
 
@@ -307,7 +356,9 @@ class CommentServiceTest {
 
 		private static final UUID COMMENT_ID = UUID.randomUUID();
 		private static final Member MEMBER = Member.builder().build();
-		private static final Comment COMMENT = Comment.builder().build();
+		private static final Comment COMMENT = Comment.builder()
+			.post(Post.builder().id(UUID.randomUUID()).build())
+			.build();
 
 		private static final UUID INVALID_COMMENT_ID = UUID.randomUUID();
 		private static final Member INVALID_MEMBER = Member.builder()
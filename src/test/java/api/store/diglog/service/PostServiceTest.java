@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -22,31 +23,43 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.common.util.PostExcerpt;
 import api.store.diglog.model.constant.Platform;
 import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.dto.post.PostListMemberRequest;
+import api.store.diglog.model.dto.post.PostListSearchRequest;
+import api.store.diglog.model.dto.post.PostSliceResponse;
+import api.store.diglog.model.dto.post.PostSummaryResponse;
+import api.store.diglog.model.dto.post.PostViewBatchRequest;
 import api.store.diglog.model.dto.post.PostViewIncrementRequest;
 import api.store.diglog.model.dto.post.PostViewResponse;
 import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
+import api.store.diglog.service.post.PostExcerptBackfiller;
+import api.store.diglog.service.post.PostViewDirtyShards;
 import api.store.diglog.service.post.RedisPostViewLoader;
 import api.store.diglog.supporter.IntegrationTestSupport;
 
 class PostServiceTest extends IntegrationTestSupport {
 
-	@Autowired
-	private RedissonClient redissonClient;
-
 	@MockitoSpyBean
 	private RedisPostViewLoader redisPostViewLoader;
 
+	@Autowired
+	private PostViewDirtyShards postViewDirtyShards;
+
+	@Autowired
+	private PostExcerptBackfiller postExcerptBackfiller;
+
 	private Member member;
 
 	private Folder folder;
@@ -231,7 +244,7 @@ class PostServiceTest extends IntegrationTestSupport {
 		postService.increaseView(request, ip);
 
 		// then
-		Set<String> dirtySet = redisTemplate.opsForSet().members("post:view:dirtySet");
+		Set<String> dirtySet = redisTemplate.opsForSet().members(postViewDirtyShards.dirtySetKey(postId));
 		assertThat(dirtySet).contains(postId.toString());
 	}
 
@@ -340,7 +353,6 @@ class PostServiceTest extends IntegrationTestSupport {
 
 		UUID postId = post.getId();
 		String countKey = "post:view:count:" + postId;
-		String redisLockKey = countKey + ":lock";
 
 		int threadCount = 30;
 		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
@@ -351,9 +363,6 @@ class PostServiceTest extends IntegrationTestSupport {
 			CountDownLatch startLatch = new CountDownLatch(1);
 			CountDownLatch doneLatch = new CountDownLatch(threadCount);
 
-			RLock lock = redissonClient.getLock(redisLockKey);
-			lock.lock();
-
 			for (int i = 0; i < threadCount; i++) {
 				int userIndex = i;
 				executor.submit(() -> {
@@ -379,7 +388,6 @@ class PostServiceTest extends IntegrationTestSupport {
 			}
 			readyLatch.await();
 
-			lock.unlock();
 			startLatch.countDown();
 			doneLatch.await();
 
@@ -507,12 +515,256 @@ class PostServiceTest extends IntegrationTestSupport {
 		assertThat(response.getViewCount()).isEqualTo(post.getViewCount() + 1);
 	}
 
-	@DisplayName("조회수 동기화 시 Redis에서 데이터를 읽어와 DB에 반영하고, dirtySet을 초기화한다.")
+	@DisplayName("여러 게시글의 조회수를 요청 순서대로 한 번에 조회하고, 캐시에 없는 게시글은 DB에서 한 번에 적재한다.")
+	@Test
+	void getViewCounts() {
+		// given
+		List<Post> posts = postRepository.saveAll(IntStream.range(0, 3)
+			.mapToObj(i -> Post.builder()
+				.member(member)
+				.title("title" + i)
+				.content("content" + i)
+				.viewCount(100L * (i + 1))
+				.folder(folder)
+				.build())
+			.toList());
+		UUID cachedPostId = posts.getFirst().getId();
+		redisTemplate.opsForValue().set("post:view:count:" + cachedPostId, "999");
+		redisTemplate.opsForValue().set("post:view:delta:" + posts.get(1).getId(), "7");
+		UUID notExistPostId = UUID.fromString("aaaaaaaa-1111-2222-3333-123456789012");
+
+		PostViewBatchRequest request = PostViewBatchRequest.builder()
+			.postIds(List.of(posts.get(2).getId(), notExistPostId, cachedPostId, posts.get(1).getId(), cachedPostId))
+			.build();
+
+		// when
+		List<PostViewResponse> responses = postService.getViewCounts(request);
+
+		// then
+		assertThat(responses)
+			.extracting("postId", "viewCount")
+			.containsExactly(
+				tuple(posts.get(2).getId(), 300L),
+				tuple(cachedPostId, 999L),
+				tuple(posts.get(1).getId(), 207L)
+			);
+
+		verify(spyPostRepository, times(1)).findViewCountsByIdIn(anyCollection());
+		verify(spyPostRepository, never()).findById(any());
+
+		Long ttlSeconds = redisTemplate.getExpire("post:view:count:" + posts.get(2).getId(), TimeUnit.SECONDS);
+		assertAll(
+			() -> assertThat(redisTemplate.opsForValue().get("post:view:count:" + posts.get(1).getId())).isEqualTo("207"),
+			() -> assertThat(redisTemplate.hasKey("post:view:count:" + notExistPostId)).isFalse(),
+			() -> assertThat(ttlSeconds).isGreaterThan(0L)
+		);
+	}
+
+	@DisplayName("모든 게시글의 조회수가 캐시에 있으면 DB를 조회하지 않는다.")
+	@Test
+	void getViewCounts_shouldNotQueryDb_whenAllCached() {
+		// given
+		List<UUID> postIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+		postIds.forEach(postId -> redisTemplate.opsForValue().set("post:view:count:" + postId, "10"));
+		PostViewBatchRequest request = PostViewBatchRequest.builder()
+			.postIds(postIds)
+			.build();
+
+		// when
+		List<PostViewResponse> responses = postService.getViewCounts(request);
+
+		// then
+		assertThat(responses).extracting("viewCount").containsExactly(10L, 10L);
+		verify(spyPostRepository, never()).findViewCountsByIdIn(anyCollection());
+	}
+
+	@DisplayName("한 번에 조회할 수 있는 게시글 수를 초과하면 조회수를 조회할 수 없다.")
+	@Test
+	void getViewCounts_shouldThrowException_whenBatchSizeExceeded() {
+		// given
+		PostViewBatchRequest request = PostViewBatchRequest.builder()
+			.postIds(IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID()).toList())
+			.build();
+
+		// when, then
+		assertThatThrownBy(() -> postService.getViewCounts(request))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("한 번에 조회할 수 있는 게시글 수(100개)를 초과했습니다.");
+	}
+
+	@DisplayName("조회할 게시글 ID가 없거나 비어 있으면 조회수를 조회할 수 없다.")
+	@Test
+	void getViewCounts_shouldThrowException_whenPostIdsEmpty() {
+		// given
+		PostViewBatchRequest nullRequest = PostViewBatchRequest.builder().build();
+		PostViewBatchRequest emptyRequest = PostViewBatchRequest.builder()
+			.postIds(List.of())
+			.build();
+
+		// when, then
+		assertAll(
+			() -> assertThatThrownBy(() -> postService.getViewCounts(nullRequest))
+				.isInstanceOf(CustomException.class)
+				.hasMessage("조회수를 조회할 게시글 ID가 비어 있습니다."),
+			() -> assertThatThrownBy(() -> postService.getViewCounts(emptyRequest))
+				.isInstanceOf(CustomException.class)
+				.hasMessage("조회수를 조회할 게시글 ID가 비어 있습니다.")
+		);
+	}
+
+	@DisplayName("cursor로 게시글 목록을 끝까지 조회하면 최신순으로 모든 게시글을 한 번씩 조회한다.")
 	@Test
-	void syncPostViewCountToDb() throws InterruptedException {
+	void getPostsByCursor() {
+		// given
+		saveCursorPosts(5);
+		List<UUID> expectedIds = postRepository.findAll(Sort.by("createdAt", "id").descending()).stream()
+			.map(Post::getId)
+			.toList();
+
+		// when
+		List<UUID> actualIds = new ArrayList<>();
+		String cursor = null;
+		PostSliceResponse slice;
+		do {
+			slice = postService.getPostsByCursor(PostListSearchRequest.builder()
+				.size(2)
+				.cursor(cursor)
+				.build());
+			slice.getContent().forEach(post -> actualIds.add(post.getId()));
+			cursor = slice.getNextCursor();
+		} while (slice.isHasNext());
+
+		// then
+		assertThat(actualIds).containsExactlyElementsOf(expectedIds);
+		assertThat(slice.getTotalCount()).isNull();
+	}
+
+	@DisplayName("전체 개수를 요청한 경우에만 cursor 목록 조회 시 전체 개수를 센다.")
+	@Test
+	void getMemberPostsByCursor_withTotalCount() {
+		// given
+		saveCursorPosts(3);
+
+		// when
+		PostSliceResponse slice = postService.getMemberPostsByCursor(PostListMemberRequest.builder()
+			.username(member.getUsername())
+			.size(2)
+			.withTotalCount(true)
+			.build());
+
+		// then
+		assertAll(
+			() -> assertThat(slice.getContent()).hasSize(2),
+			() -> assertThat(slice.isHasNext()).isTrue(),
+			() -> assertThat(slice.getNextCursor()).isNotNull(),
+			() -> assertThat(slice.getTotalCount()).isEqualTo(3L)
+		);
+	}
+
+	@DisplayName("검색 결과도 cursor로 이어서 조회할 수 있다.")
+	@Test
+	void searchPostsByCursor() {
+		// given
+		saveCursorPosts(3);
+
+		// when
+		PostSliceResponse first = postService.searchPostsByCursor(PostListSearchRequest.builder()
+			.keyword("cursor")
+			.option(SearchOption.TITLE)
+			.size(2)
+			.build());
+		PostSliceResponse second = postService.searchPostsByCursor(PostListSearchRequest.builder()
+			.keyword("cursor")
+			.option(SearchOption.TITLE)
+			.size(2)
+			.cursor(first.getNextCursor())
+			.build());
+
+		// then
+		assertAll(
+			() -> assertThat(first.getContent()).hasSize(2),
+			() -> assertThat(second.getContent()).hasSize(1),
+			() -> assertThat(second.isHasNext()).isFalse(),
+			() -> assertThat(second.getNextCursor()).isNull()
+		);
+	}
+
+	@DisplayName("올바르지 않은 cursor로는 게시글 목록을 조회할 수 없다.")
+	@Test
+	void getPostsByCursor_withInvalidCursor() {
+		// given
+		PostListSearchRequest request = PostListSearchRequest.builder()
+			.size(2)
+			.cursor("invalid-cursor")
+			.build();
+
+		// when, then
+		assertThatThrownBy(() -> postService.getPostsByCursor(request))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("올바르지 않은 커서입니다.");
+	}
+
+	@DisplayName("요약 목록은 본문 대신 저장된 요약과 작성자, 폴더를 반환한다.")
+	@Test
+	void getPostSummaries() {
+		// given
+		String content = "# Redis 적용기\n\n**조회수**를 [Redis](https://redis.io)에 모아 반영한다.";
+		postRepository.save(Post.builder()
+			.member(member)
+			.title("Diglog Redis 적용기")
+			.content(content)
+			.excerpt(PostExcerpt.from(content))
+			.folder(folder)
+			.tags(List.of())
+			.build());
+
+		// when
+		Page<PostSummaryResponse> summaries = postService.getPostSummaries(PostListSearchRequest.builder()
+			.sorts(List.of("createdAt"))
+			.page(0)
+			.size(10)
+			.isDescending(true)
+			.build());
+
+		// then
+		PostSummaryResponse summary = summaries.getContent().getFirst();
+		assertAll(
+			() -> assertThat(summaries.getTotalElements()).isEqualTo(1),
+			() -> assertThat(summary.getExcerpt()).isEqualTo("Redis 적용기 조회수를 Redis에 모아 반영한다."),
+			() -> assertThat(summary.getUsername()).isEqualTo(member.getUsername()),
+			() -> assertThat(summary.getFolder().getId()).isEqualTo(folder.getId()),
+			() -> assertThat(summary.getTags()).isEmpty()
+		);
+	}
+
+	@DisplayName("요약이 없는 기존 게시글은 본문에서 요약을 만들어 채운다.")
+	@Test
+	void backfillExcerpt() {
 		// given
 		Post post = postRepository.save(Post.builder()
 			.member(member)
+			.title("legacy")
+			.content("<p>이전에 저장된 " + "본문 ".repeat(100) + "</p>")
+			.folder(folder)
+			.build());
+
+		// when
+		int backfilled = postExcerptBackfiller.backfill();
+
+		// then
+		String excerpt = postRepository.findById(post.getId()).orElseThrow().getExcerpt();
+		assertAll(
+			() -> assertThat(backfilled).isEqualTo(1),
+			() -> assertThat(excerpt).startsWith("이전에 저장된 본문").endsWith("..."),
+			() -> assertThat(excerpt).hasSizeLessThanOrEqualTo(PostExcerpt.MAX_LENGTH)
+		);
+	}
+
+	@DisplayName("조회수 동기화 시 Redis의 증가분을 DB에 더하고, 증가분과 dirtySet을 초기화한다.")
+	@Test
+	void syncPostViewCountToDb() {
+		// given
+		Post post = postRepository.save(Post.builder()
 			.title("Diglog Redis 적용기")
 			.content("Diglog 프로젝트의 Redis 적용과정")
 			.viewCount(100L)
@@ -520,22 +772,81 @@ class PostServiceTest extends IntegrationTestSupport {
 			.build());
 		UUID postId = post.getId();
 
-		redisTemplate.opsForValue().set("post:view:count:" + postId, "1234");
+		redisTemplate.opsForValue().set("post:view:delta:" + postId, "1234");
 		redisTemplate.opsForSet().add("post:view:dirtySet", postId.toString());
 
 		// when
 		postService.syncPostViewCountToDb();
-		Thread.sleep(1000);
 
 		// then
-		Post updated = postRepository.findById(postId).orElseThrow();
-		Set<String> dirtySet = redisTemplate.opsForSet().members("post:view:dirtySet");
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertAll(
+			() -> assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(1334),
+			() -> assertThat(redisTemplate.hasKey("post:view:delta:" + postId)).isFalse(),
+			() -> assertThat(redisTemplate.opsForSet().members("post:view:dirtySet"))
+				.doesNotContain(postId.toString())
+		));
+	}
 
-		assertAll(
-			() -> assertThat(updated.getViewCount()).isEqualTo(1234),
-			() -> assertThat(dirtySet).doesNotContain(postId.toString())
-		);
+	@DisplayName("조회수 증가와 동기화가 동시에 일어나도 증가분이 누락되거나 중복 반영되지 않는다.")
+	@Test
+	void syncPostViewCountToDb_withConcurrentIncreaseView_shouldNotLoseViews() throws Exception {
+		// given
+		Post post = postRepository.save(Post.builder()
+			.title("동기화 스트레스 테스트")
+			.content("동시성")
+			.viewCount(100L)
+			.member(member)
+			.folder(folder)
+			.build());
+		UUID postId = post.getId();
+		PostViewIncrementRequest request = PostViewIncrementRequest.builder()
+			.postId(postId)
+			.build();
+
+		int threadCount = 20;
+		int viewsPerThread = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+		CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+		// when
+		try {
+			for (int t = 0; t < threadCount; t++) {
+				int threadIndex = t;
+				executor.submit(() -> {
+					try {
+						for (int i = 0; i < viewsPerThread; i++) {
+							postService.increaseView(request, "10." + threadIndex + "." + (i / 256) + "." + (i % 256));
+						}
+					} finally {
+						doneLatch.countDown();
+					}
+				});
+			}
+			executor.submit(() -> {
+				while (doneLatch.getCount() > 0) {
+					postService.syncPostViewCountToDb();
+					Thread.sleep(10);
+				}
+				return null;
+			});
+			doneLatch.await();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		postService.syncPostViewCountToDb();
 
+		// then
+		long expectedViewCount = post.getViewCount() + (long)threadCount * viewsPerThread;
+		await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+			postService.syncPostViewCountToDb();
+			assertAll(
+				() -> assertThat(postRepository.findById(postId).orElseThrow().getViewCount())
+					.isEqualTo(expectedViewCount),
+				() -> assertThat(redisTemplate.opsForValue().get("post:view:count:" + postId))
+					.isEqualTo(String.valueOf(expectedViewCount))
+			);
+		});
 	}
 
 	@DisplayName("조회수 업데이트는 배치 단위로 분할되어 비동기로 수행한다.")
@@ -586,7 +897,8 @@ class PostServiceTest extends IntegrationTestSupport {
 			.toList();
 
 		posts.forEach(post -> {
-			redisTemplate.opsForValue().set("post:view:count:" + post.getId(), String.valueOf(post.getViewCount() * 2));
+			redisTemplate.opsForValue().set("post:view:count:" + post.getId(), String.valueOf(post.getViewCount() * 2 + 1));
+			redisTemplate.opsForValue().set("post:view:delta:" + post.getId(), String.valueOf(post.getViewCount() + 1));
 			redisTemplate.opsForSet().add("post:view:dirtySet", post.getId().toString());
 		});
 
@@ -596,7 +908,7 @@ class PostServiceTest extends IntegrationTestSupport {
 		// then
 		await().atMost(15, TimeUnit.SECONDS).untilAsserted(
 			() -> assertAll(
-				() -> verify(postViewBatchRepository, times(expectedMethodCallCount)).bulkUpdateViewCounts(any()),
+				() -> verify(postViewBatchRepository, times(expectedMethodCallCount)).bulkIncreaseViewCounts(any()),
 				() -> {
 					List<Post> updatedPosts = postRepository.findAllById(
 						posts.stream()
@@ -616,4 +928,14 @@ class PostServiceTest extends IntegrationTestSupport {
 			));
 	}
 
-}
\ No newline at end of file
+
+	private void saveCursorPosts(int count) {
+		IntStream.range(0, count).forEach(i -> postRepository.save(Post.builder()
+			.member(member)
+			.title("cursor " + i)
+			.content("content " + i)
+			.folder(folder)
+			.tags(List.of())
+			.build()));
+	}
+}
@@ -0,0 +1,123 @@
+package api.store.diglog.service.comment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class CommentReplyCountReconcilerTest extends IntegrationTestSupport {
+
+	private static final int COMMENTS = 5;
+	private static final int CHUNK_SIZE = 2;
+
+	@Autowired
+	private CommentReplyCountReconciler commentReplyCountReconciler;
+
+	private List<Comment> comments;
+
+	private List<Comment> replies;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(commentReplyCountReconciler, "chunkSize", CHUNK_SIZE);
+
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		Post post = postRepository.save(Post.builder()
+			.member(member)
+			.title("title")
+			.content("content")
+			.build());
+
+		comments = commentRepository.saveAll(IntStream.range(0, COMMENTS)
+			.mapToObj(i -> Comment.builder()
+				.post(post)
+				.member(member)
+				.content("content " + i)
+				.build())
+			.toList());
+
+		// i번째 댓글에 답글 i개, 그중 하나는 삭제된 답글
+		replies = new ArrayList<>();
+		IntStream.range(0, COMMENTS).forEach(i -> IntStream.range(0, i).forEach(j -> replies.add(Comment.builder()
+			.post(post)
+			.member(member)
+			.parentComment(comments.get(i))
+			.content("reply " + j)
+			.isDeleted(j == 0)
+			.build())));
+		commentRepository.saveAll(replies);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(commentReplyCountReconciler, "chunkSize", 1000);
+		commentRepository.deleteAllInBatch(replies);
+		commentRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("여러 구간에 걸쳐 저장된 답글 수를 삭제되지 않은 답글 수로 고치고, 맞는 행은 건드리지 않는다.")
+	@Test
+	void reconcile() {
+		// given
+		commentRepository.addReplyCount(comments.get(0).getId(), 3);
+
+		// when
+		int repaired = commentReplyCountReconciler.reconcile();
+
+		// then
+		// 답글이 2개 이상인 댓글 3개(0으로 저장됨)와 어긋나게 늘린 댓글 1개
+		int[] replyCounts = comments.stream()
+			.mapToInt(comment -> commentRepository.findById(comment.getId()).orElseThrow().getReplyCount())
+			.toArray();
+		assertAll(
+			() -> assertThat(repaired).isEqualTo(4),
+			() -> assertThat(replyCounts).containsExactly(0, 0, 1, 2, 3),
+			() -> assertThat(commentReplyCountReconciler.reconcile()).isZero()
+		);
+	}
+
+	@DisplayName("값을 읽은 뒤 답글 수가 바뀐 행은 덮어쓰지 않는다.")
+	@Test
+	void updateReplyCount_shouldSkipChangedRow() {
+		// given
+		Comment comment = comments.get(3);
+		commentRepository.addReplyCount(comment.getId(), 1);
+
+		// when
+		int updated = commentRepository.updateReplyCount(comment.getId(), 0, 2);
+
+		// then
+		assertAll(
+			() -> assertThat(updated).isZero(),
+			() -> assertThat(commentRepository.findById(comment.getId()).orElseThrow().getReplyCount()).isEqualTo(1)
+		);
+	}
+}
@@ -0,0 +1,102 @@
+package api.store.diglog.service.comment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class CommentThreadBackfillerTest extends IntegrationTestSupport {
+
+	@Autowired
+	private CommentThreadBackfiller commentThreadBackfiller;
+
+	private Member member;
+
+	private Post post;
+
+	private Comment root;
+
+	private Comment reply;
+
+	private Comment nestedReply;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(commentThreadBackfiller, "pageSize", 1);
+
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		post = postRepository.save(Post.builder()
+			.member(member)
+			.title("title")
+			.content("content")
+			.build());
+
+		// 컬럼 추가 이전처럼 depth, rootId 없이 저장한다
+		root = saveComment("root", null);
+		reply = saveComment("reply", root);
+		nestedReply = saveComment("nested reply", reply);
+		saveComment("other root", null);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(commentThreadBackfiller, "pageSize", 500);
+		commentRepository.deleteAllInBatch(List.of(nestedReply));
+		commentRepository.deleteAllInBatch(List.of(reply));
+		commentRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("부모부터 차례로 답글의 depth와 최상위 댓글 id를 채우고, 채운 답글은 다시 고르지 않는다.")
+	@Test
+	void backfill() {
+		// when
+		int backfilled = commentThreadBackfiller.backfill();
+
+		// then
+		Comment backfilledReply = commentRepository.findById(reply.getId()).orElseThrow();
+		Comment backfilledNestedReply = commentRepository.findById(nestedReply.getId()).orElseThrow();
+		assertAll(
+			() -> assertThat(backfilled).isEqualTo(2),
+			() -> assertThat(backfilledReply.getDepth()).isEqualTo(1),
+			() -> assertThat(backfilledReply.getRootId()).isEqualTo(root.getId()),
+			() -> assertThat(backfilledNestedReply.getDepth()).isEqualTo(2),
+			() -> assertThat(backfilledNestedReply.getRootId()).isEqualTo(root.getId()),
+			() -> assertThat(commentThreadBackfiller.backfill()).isZero()
+		);
+	}
+
+	private Comment saveComment(String content, Comment parentComment) {
+		return commentRepository.save(Comment.builder()
+			.post(post)
+			.member(member)
+			.parentComment(parentComment)
+			.content(content)
+			.build());
+	}
+}
@@ -0,0 +1,265 @@
+package api.store.diglog.service.comment.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.comment.CommentListRequest;
+import api.store.diglog.model.dto.comment.CommentResponse;
+import api.store.diglog.model.dto.comment.CommentTreeRequest;
+import api.store.diglog.model.entity.Comment;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.vo.comment.CommentTreeVO;
+import api.store.diglog.service.CommentService;
+import api.store.diglog.supporter.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+
+class CommentPageCacheTest extends IntegrationTestSupport {
+
+	private static final String PAGE_PREFIX = "comment:page:";
+
+	@Autowired
+	private CommentPageCache commentPageCache;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Member member;
+
+	private Post post;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		post = postRepository.save(Post.builder()
+			.member(member)
+			.title("title")
+			.content("content")
+			.build());
+		saveComment("first comment");
+	}
+
+	@AfterEach
+	void tearDown() {
+		commentPageCache.clearLocal();
+		commentRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("한 번 조회한 댓글 페이지는 다시 조립하지 않고 로컬 캐시에서 반환한다.")
+	@Test
+	void getComments_shouldReadFromCache() {
+		// given
+		double localHitsBefore = lookupCount("list", "local");
+		double missesBefore = lookupCount("list", "miss");
+		commentService.getComments(listRequest(0));
+
+		// when
+		saveComment("not cached comment");
+		Page<CommentResponse> comments = commentService.getComments(listRequest(0));
+
+		// then
+		assertAll(
+			() -> assertThat(comments.getTotalElements()).isEqualTo(1),
+			() -> assertThat(comments.getContent()).extracting(CommentResponse::getContent)
+				.containsExactly("first comment"),
+			() -> assertThat(comments.getContent().getFirst().getMember().getUsername()).isEqualTo("Frod"),
+			() -> assertThat(redisTemplate.hasKey(PAGE_PREFIX + post.getId())).isTrue(),
+			() -> assertThat(lookupCount("list", "miss") - missesBefore).isEqualTo(1),
+			() -> assertThat(lookupCount("list", "local") - localHitsBefore).isEqualTo(1)
+		);
+	}
+
+	@DisplayName("로컬 캐시에 없으면 Redis 캐시의 페이지를 역직렬화해 반환하고, 적중 수는 엔드포인트별로 센다.")
+	@Test
+	void getCommentTree_shouldFallBackToRedis() {
+		// given
+		CommentTreeVO cached = commentService.getCommentTree(treeRequest());
+		commentPageCache.clearLocal();
+		double treeRedisHitsBefore = lookupCount("tree", "redis");
+		double listRedisHitsBefore = lookupCount("list", "redis");
+
+		// when
+		CommentTreeVO commentTree = commentService.getCommentTree(treeRequest());
+
+		// then
+		assertAll(
+			() -> assertThat(commentTree.getVersion()).isEqualTo(cached.getVersion()),
+			() -> assertThat(commentTree.getComments().getTotalElements()).isEqualTo(1),
+			() -> assertThat(commentTree.getComments().getContent().getFirst().getCreatedAt())
+				.isEqualTo(cached.getComments().getContent().getFirst().getCreatedAt()),
+			() -> assertThat(lookupCount("tree", "redis") - treeRedisHitsBefore).isEqualTo(1),
+			() -> assertThat(lookupCount("list", "redis") - listRedisHitsBefore).isZero()
+		);
+	}
+
+	@DisplayName("앞쪽 페이지가 아니면 캐시하지 않고 매번 조립한다.")
+	@Test
+	void getComments_shouldNotCacheLaterPages() {
+		// given
+		double missesBefore = lookupCount("list", "miss");
+		commentService.getComments(listRequest(2));
+
+		// when
+		saveComment("second comment");
+		saveComment("third comment");
+		Page<CommentResponse> comments = commentService.getComments(listRequest(2));
+
+		// then
+		assertAll(
+			() -> assertThat(comments.getTotalElements()).isEqualTo(3),
+			() -> assertThat(redisTemplate.hasKey(PAGE_PREFIX + post.getId())).isFalse(),
+			() -> assertThat(lookupCount("list", "miss") - missesBefore).isZero()
+		);
+	}
+
+	@DisplayName("댓글 변경 이벤트가 커밋되면 게시글의 모든 댓글 페이지를 Redis와 로컬 캐시에서 비운다.")
+	@Test
+	void evict() {
+		// given
+		commentService.getComments(listRequest(0));
+		commentService.getCommentTree(treeRequest());
+		saveComment("new comment");
+
+		// when
+		commentPageCache.onCommentChanged(CommentCacheEvictEvent.of(post.getId()));
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.hasKey(PAGE_PREFIX + post.getId())).isFalse(),
+			() -> assertThat(commentService.getComments(listRequest(0)).getTotalElements()).isEqualTo(2),
+			() -> assertThat(commentService.getCommentTree(treeRequest()).getComments().getTotalElements())
+				.isEqualTo(2)
+		);
+	}
+
+	@DisplayName("조립하는 동안 무효화된 페이지는 Redis와 로컬 캐시에 다시 채우지 않는다.")
+	@Test
+	void get_shouldNotRefillAfterConcurrentEvict() {
+		// given
+		Pageable pageable = PageRequest.of(0, 1);
+		commentPageCache.get(CommentPageCache.Endpoint.LIST, post.getId(), null, pageable, String.class, () -> {
+			// 조립한 직후 다른 요청의 댓글 변경이 커밋된 상황
+			commentPageCache.onCommentChanged(CommentCacheEvictEvent.of(post.getId()));
+			return "stale page";
+		});
+
+		// when
+		String page = commentPageCache.get(CommentPageCache.Endpoint.LIST, post.getId(), null, pageable,
+			String.class, () -> "fresh page");
+
+		// then
+		assertAll(
+			() -> assertThat(page).isEqualTo("fresh page"),
+			() -> assertThat(commentPageCache.get(CommentPageCache.Endpoint.LIST, post.getId(), null, pageable,
+				String.class, () -> "not cached page")).isEqualTo("fresh page"),
+			() -> assertThat(redisTemplate.getExpire(PAGE_PREFIX + post.getId())).isPositive()
+		);
+	}
+
+	@DisplayName("회원이 작성한 댓글과 태그된 댓글이 있는 게시글을 각각 찾는다.")
+	@Test
+	void findPostIdsByMemberId() {
+		// given
+		Member taggedMember = memberRepository.save(Member.builder()
+			.email("Tagged@gmail.com")
+			.username("Tagged")
+			.password("TaggedPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		commentRepository.save(Comment.builder()
+			.post(post)
+			.member(member)
+			.taggedMember(taggedMember)
+			.content("tagged comment")
+			.build());
+
+		// when, then
+		assertAll(
+			() -> assertThat(commentRepository.findPostIdsByMemberId(member.getId())).containsExactly(post.getId()),
+			() -> assertThat(commentRepository.findPostIdsByTaggedMemberId(taggedMember.getId()))
+				.containsExactly(post.getId()),
+			() -> assertThat(commentRepository.findPostIdsByMemberId(taggedMember.getId())).isEmpty()
+		);
+	}
+
+	@DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시에서 제거한다.")
+	@Test
+	void evictLocal_byInvalidationMessage() {
+		// given
+		commentService.getComments(listRequest(0));
+		redisTemplate.delete(PAGE_PREFIX + post.getId());
+		saveComment("new comment");
+
+		// when
+		redisTemplate.convertAndSend(CommentPageCache.INVALIDATION_CHANNEL, post.getId().toString());
+
+		// then
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+			assertThat(commentService.getComments(listRequest(0)).getTotalElements()).isEqualTo(2));
+	}
+
+	private void saveComment(String content) {
+		commentRepository.save(Comment.builder()
+			.post(post)
+			.member(member)
+			.content(content)
+			.build());
+	}
+
+	private CommentListRequest listRequest(int page) {
+		return CommentListRequest.builder()
+			.postId(post.getId())
+			.page(page)
+			.size(1)
+			.build();
+	}
+
+	private CommentTreeRequest treeRequest() {
+		return CommentTreeRequest.builder()
+			.postId(post.getId())
+			.page(0)
+			.size(5)
+			.build();
+	}
+
+	private double lookupCount(String endpoint, String result) {
+		return meterRegistry.counter("comment.page.cache.lookup", "endpoint", endpoint, "result", result).count();
+	}
+}
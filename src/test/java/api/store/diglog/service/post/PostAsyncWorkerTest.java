@@ -3,21 +3,21 @@ package api.store.diglog.service.post;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.awaitility.Awaitility.*;
+import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisCallback;
 
 import api.store.diglog.model.constant.Platform;
@@ -30,8 +30,12 @@ import api.store.diglog.supporter.IntegrationTestSupport;
 class PostAsyncWorkerTest extends IntegrationTestSupport {
 
 	private static final String COUNT_PREFIX = "post:view:count:";
+	private static final String DELTA_PREFIX = "post:view:delta:";
 	private static final String DIRTY_SET = "post:view:dirtySet";
 
+	@Autowired
+	private PostViewDirtyShards postViewDirtyShards;
+
 	private List<Member> members;
 	private List<Folder> folders;
 
@@ -78,95 +82,49 @@ class PostAsyncWorkerTest extends IntegrationTestSupport {
 		});
 	}
 
-	@DisplayName("레디스의 조회수를 DB에 업데이트 후 DirtySet을 초기화한다.")
+	@DisplayName("레디스의 조회수 증가분을 DB에 더한 후 증가분과 DirtySet을 초기화한다.")
 	@Test
 	void syncViewCountAllInBatch() {
-
 		// given
-		List<Post> posts = IntStream.range(0, 5)
-			.mapToObj(i -> Post.builder()
-				.title("title" + i)
-				.content("content" + i)
-				.viewCount(i)
-				.member(members.get(i))
-				.folder(folders.get(i))
-				.build())
-			.toList();
-		postRepository.saveAll(posts);
-
-		Map<UUID, Long> updateViewCount = posts.stream()
-			.collect(Collectors.toMap(
-				Post::getId,
-				post -> post.getViewCount() * 2
-			));
-
-		for (UUID postId : updateViewCount.keySet()) {
-			redisTemplate.opsForValue().set(COUNT_PREFIX + postId, String.valueOf(updateViewCount.get(postId)));
-			redisTemplate.opsForSet().add(DIRTY_SET, postId.toString());
-		}
-
+		List<Post> posts = savePosts();
 		List<UUID> postIds = posts.stream()
 			.map(Post::getId)
 			.toList();
+		postIds.forEach(postId -> markDirty(postId, "10"));
 
 		// when
-		postAsyncWorker.syncViewCountAllInBatch(postIds);
+		postAsyncWorker.syncViewCountAllInBatch(DIRTY_SET, postIds);
 
 		// then
 		await().atMost(10, TimeUnit.SECONDS)
 			.untilAsserted(() ->
 				assertAll(
-					() -> {
-						List<Post> updatedPosts = postRepository.findAllById(postIds);
-
-						assertThat(updatedPosts)
-							.extracting("id", "viewCount")
-							.containsExactlyInAnyOrderElementsOf(
-								updateViewCount.keySet().stream()
-									.map(postId -> tuple(postId, updateViewCount.get(postId)))
-									.toList()
-							);
-					},
-					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET))
-						.isEmpty()
+					() -> assertThat(postRepository.findAllById(postIds))
+						.extracting("id", "viewCount")
+						.containsExactlyInAnyOrderElementsOf(
+							posts.stream()
+								.map(post -> tuple(post.getId(), post.getViewCount() + 10))
+								.toList()
+						),
+					() -> assertThat(redisTemplate.keys(DELTA_PREFIX + "*")).isEmpty(),
+					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET)).isEmpty()
 				)
 			);
 	}
 
-	@DisplayName("레디스에 존재하지 않는 조회수는 동기화되지 않는다.")
+	@DisplayName("레디스에 증가분이 없는 게시글은 조회수가 변경되지 않고 DirtySet에서 제거된다.")
 	@Test
 	void syncViewCountAllInBatch_shouldIgnoreNull() {
 		// given
-		List<Post> posts = IntStream.range(0, 5)
-			.mapToObj(i -> Post.builder()
-				.title("title" + i)
-				.content("content" + i)
-				.viewCount(i)
-				.member(members.get(i))
-				.folder(folders.get(i))
-				.build())
-			.toList();
-		postRepository.saveAll(posts);
-
-		Map<UUID, Long> updateViewCount = posts.stream()
-			.collect(Collectors.toMap(
-				Post::getId,
-				post -> post.getViewCount() * 2
-			));
-
-		for (UUID postId : updateViewCount.keySet()) {
-			redisTemplate.opsForValue().set(COUNT_PREFIX + postId, String.valueOf(updateViewCount.get(postId)));
-			redisTemplate.opsForSet().add(DIRTY_SET, postId.toString());
-		}
-
+		List<Post> posts = savePosts();
 		List<UUID> postIds = new ArrayList<>(posts.stream()
 			.map(Post::getId)
 			.toList());
-
-		redisTemplate.delete(COUNT_PREFIX + postIds.getLast().toString());
+		postIds.forEach(postId -> markDirty(postId, "10"));
+		redisTemplate.delete(DELTA_PREFIX + postIds.getLast());
 
 		// when
-		postAsyncWorker.syncViewCountAllInBatch(postIds);
+		postAsyncWorker.syncViewCountAllInBatch(DIRTY_SET, postIds);
 
 		// then
 		UUID notUpdatedPostId = postIds.removeLast();
@@ -174,175 +132,126 @@ class PostAsyncWorkerTest extends IntegrationTestSupport {
 		await().atMost(10, TimeUnit.SECONDS)
 			.untilAsserted(() ->
 				assertAll(
-					() -> {
-						List<Post> updatedPosts = postRepository.findAllById(postIds);
-
-						assertThat(updatedPosts)
-							.extracting("id", "viewCount")
-							.containsExactlyInAnyOrderElementsOf(
-								updateViewCount.keySet().stream()
-									.filter(id -> id != notUpdatedPostId)
-									.map(postId -> tuple(postId, updateViewCount.get(postId)))
-									.toList()
-							);
-					},
-
-					() -> {
-						Post post = postRepository.findById(notUpdatedPostId)
-							.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글"));
-						assertThat(post.getViewCount()).isEqualTo(4);
-					},
-
-					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET))
-						.doesNotContainAnyElementsOf(
-							postIds.stream()
-								.map(UUID::toString)
-								.toList()
-						)
-						.contains(notUpdatedPostId.toString())
+					() -> assertThat(postRepository.findAllById(postIds))
+						.allMatch(post -> post.getViewCount() == findOriginalViewCount(posts, post.getId()) + 10),
+					() -> assertThat(postRepository.findById(notUpdatedPostId).orElseThrow().getViewCount())
+						.isEqualTo(4),
+					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET)).isEmpty()
 				)
 			);
 	}
 
-	@DisplayName("레디스에 조회수가 숫자가 아니면 동기화되지 않는다.")
+	@DisplayName("레디스의 증가분이 숫자가 아니면 동기화되지 않는다.")
 	@Test
 	void syncViewCountAllInBatch_shouldIgnoreInvalidValues() {
 		// given
-		List<Post> posts = IntStream.range(0, 5)
-			.mapToObj(i -> Post.builder()
-				.title("title" + i)
-				.content("content" + i)
-				.viewCount(i)
-				.member(members.get(i))
-				.folder(folders.get(i))
-				.build())
-			.toList();
-		postRepository.saveAll(posts);
-
-		Map<UUID, Long> updateViewCount = posts.stream()
-			.collect(Collectors.toMap(
-				Post::getId,
-				post -> post.getViewCount() * 2
-			));
-
-		for (UUID postId : updateViewCount.keySet()) {
-			redisTemplate.opsForValue().set(COUNT_PREFIX + postId, String.valueOf(updateViewCount.get(postId)));
-			redisTemplate.opsForSet().add(DIRTY_SET, postId.toString());
-		}
-
+		List<Post> posts = savePosts();
 		List<UUID> postIds = new ArrayList<>(posts.stream()
 			.map(Post::getId)
 			.toList());
-
-		redisTemplate.opsForValue().set(COUNT_PREFIX + postIds.getLast().toString(), "not number");
+		postIds.forEach(postId -> markDirty(postId, "10"));
+		redisTemplate.opsForValue().set(DELTA_PREFIX + postIds.getLast(), "not number");
 
 		// when
-		postAsyncWorker.syncViewCountAllInBatch(postIds);
+		postAsyncWorker.syncViewCountAllInBatch(DIRTY_SET, postIds);
 
 		// then
 		UUID notUpdatedPostId = postIds.removeLast();
 
-		await().atMost(15, TimeUnit.SECONDS)
+		await().atMost(10, TimeUnit.SECONDS)
 			.untilAsserted(() ->
 				assertAll(
-					() -> {
-						List<Post> updatedPosts = postRepository.findAllById(postIds);
-
-						assertThat(updatedPosts)
-							.extracting("id", "viewCount")
-							.containsExactlyInAnyOrderElementsOf(
-								updateViewCount.keySet().stream()
-									.filter(id -> !id.equals(notUpdatedPostId))
-									.map(postId -> tuple(postId, updateViewCount.get(postId)))
-									.toList()
-							);
-					},
-
-					() -> {
-						Post post = postRepository.findById(notUpdatedPostId)
-							.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글"));
-						assertThat(post.getViewCount()).isEqualTo(4);
-					},
-
-					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET))
-						.doesNotContainAnyElementsOf(
-							postIds.stream()
-								.map(UUID::toString)
-								.toList()
-						)
-						.contains(notUpdatedPostId.toString())
+					() -> assertThat(postRepository.findAllById(postIds))
+						.allMatch(post -> post.getViewCount() == findOriginalViewCount(posts, post.getId()) + 10),
+					() -> assertThat(postRepository.findById(notUpdatedPostId).orElseThrow().getViewCount())
+						.isEqualTo(4),
+					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET)).isEmpty()
 				)
 			);
 	}
 
-	@DisplayName("레디스의 조회수가 DB보다 작으면 동기화되지 않는다.")
+	@DisplayName("DB 반영에 실패하면 증가분과 게시글의 DirtySet 샤드를 복구해 다음 동기화에서 다시 반영한다.")
 	@Test
-	void syncViewCountAllInBatch_shouldIgnoreRedisViewCountIsLessThanDb() {
+	void syncViewCountAllInBatch_shouldRestoreDeltas_whenDbUpdateFailed() {
 		// given
-		List<Post> posts = IntStream.range(0, 5)
-			.mapToObj(i -> Post.builder()
-				.title("title" + i)
-				.content("content" + i)
-				.viewCount(i)
-				.member(members.get(i))
-				.folder(folders.get(i))
-				.build())
+		List<Post> posts = savePosts();
+		List<UUID> postIds = posts.stream()
+			.map(Post::getId)
 			.toList();
-		postRepository.saveAll(posts);
-
-		Map<UUID, Long> updateViewCount = posts.stream()
-			.collect(Collectors.toMap(
-				Post::getId,
-				post -> post.getViewCount() * 2
-			));
+		postIds.forEach(postId -> markDirty(postId, "10"));
+		doThrow(new RuntimeException("DB 장애"))
+			.when(postViewBatchRepository).bulkIncreaseViewCounts(any());
 
-		for (UUID postId : updateViewCount.keySet()) {
-			redisTemplate.opsForValue().set(COUNT_PREFIX + postId, String.valueOf(updateViewCount.get(postId)));
-			redisTemplate.opsForSet().add(DIRTY_SET, postId.toString());
-		}
+		// when
+		postAsyncWorker.syncViewCountAllInBatch(DIRTY_SET, postIds);
 
-		List<UUID> postIds = new ArrayList<>(posts.stream()
-			.map(Post::getId)
-			.toList());
+		// then
+		await().atMost(10, TimeUnit.SECONDS)
+			.untilAsserted(() ->
+				assertAll(
+					() -> assertThat(postRepository.findAllById(postIds))
+						.allMatch(post -> post.getViewCount() == findOriginalViewCount(posts, post.getId())),
+					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET)).isEmpty(),
+					() -> assertThat(postIds).allMatch(postId -> redisTemplate.opsForSet()
+						.isMember(postViewDirtyShards.dirtySetKey(postId), postId.toString())),
+					() -> assertThat(postIds)
+						.allMatch(postId -> "10".equals(redisTemplate.opsForValue().get(DELTA_PREFIX + postId)))
+				)
+			);
+	}
 
-		redisTemplate.opsForValue().set(COUNT_PREFIX + postIds.getLast().toString(), "2");
+	@DisplayName("증가분 방식 이전에 단일 DirtySet에 남은 게시글은 조회수와 DB의 차이를 증가분으로 옮겨 반영한다.")
+	@Test
+	void syncViewCountAllInBatch_shouldSeedLegacyDirtyEntries() {
+		// given
+		List<Post> posts = savePosts();
+		UUID legacyPostId = posts.get(1).getId();
+		UUID mixedPostId = posts.get(2).getId();
+		// 이전 노드는 절대 조회수만 남기고, 이관 전에 새 노드가 증가분 3을 더했다
+		redisTemplate.opsForValue().set(COUNT_PREFIX + legacyPostId, String.valueOf(1 + 7));
+		redisTemplate.opsForValue().set(COUNT_PREFIX + mixedPostId, String.valueOf(2 + 10));
+		redisTemplate.opsForValue().set(DELTA_PREFIX + mixedPostId, "3");
+		redisTemplate.opsForSet().add(DIRTY_SET, legacyPostId.toString(), mixedPostId.toString());
 
 		// when
-		postAsyncWorker.syncViewCountAllInBatch(postIds);
+		postAsyncWorker.syncViewCountAllInBatch(DIRTY_SET, List.of(legacyPostId, mixedPostId));
 
 		// then
-		UUID notUpdatedPostId = postIds.removeLast();
-
 		await().atMost(10, TimeUnit.SECONDS)
 			.untilAsserted(() ->
 				assertAll(
-					() -> {
-						List<Post> updatedPosts = postRepository.findAllById(postIds);
-
-						assertThat(updatedPosts)
-							.extracting("id", "viewCount")
-							.containsExactlyInAnyOrderElementsOf(
-								updateViewCount.keySet().stream()
-									.filter(id -> !id.equals(notUpdatedPostId))
-									.map(postId -> tuple(postId, updateViewCount.get(postId)))
-									.toList()
-							);
-					},
-
-					() -> {
-						Post post = postRepository.findById(notUpdatedPostId)
-							.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글"));
-						assertThat(post.getViewCount()).isEqualTo(4);
-					},
-
-					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET))
-						.doesNotContainAnyElementsOf(
-							postIds.stream()
-								.map(UUID::toString)
-								.toList()
-						)
-						.contains(notUpdatedPostId.toString())
+					() -> assertThat(postRepository.findById(legacyPostId).orElseThrow().getViewCount())
+						.isEqualTo(1 + 7),
+					() -> assertThat(postRepository.findById(mixedPostId).orElseThrow().getViewCount())
+						.isEqualTo(2 + 10),
+					() -> assertThat(redisTemplate.keys(DELTA_PREFIX + "*")).isEmpty(),
+					() -> assertThat(redisTemplate.opsForSet().members(DIRTY_SET)).isEmpty()
 				)
 			);
 	}
-}
\ No newline at end of file
+
+	private List<Post> savePosts() {
+		return postRepository.saveAll(IntStream.range(0, 5)
+			.mapToObj(i -> Post.builder()
+				.title("title" + i)
+				.content("content" + i)
+				.viewCount(i)
+				.member(members.get(i))
+				.folder(folders.get(i))
+				.build())
+			.toList());
+	}
+
+	private void markDirty(UUID postId, String delta) {
+		redisTemplate.opsForValue().set(DELTA_PREFIX + postId, delta);
+		redisTemplate.opsForSet().add(DIRTY_SET, postId.toString());
+	}
+
+	private long findOriginalViewCount(List<Post> posts, UUID postId) {
+		return posts.stream()
+			.filter(post -> post.getId().equals(postId))
+			.findFirst()
+			.orElseThrow()
+			.getViewCount();
+	}
+}
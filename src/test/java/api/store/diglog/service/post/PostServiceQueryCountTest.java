@@ -0,0 +1,161 @@
+package api.store.diglog.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostListMemberRequest;
+import api.store.diglog.model.dto.post.PostListSearchRequest;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.dto.post.PostSliceResponse;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class PostServiceQueryCountTest extends IntegrationTestSupport {
+
+	private static final int PAGE_SIZE = 20;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		List<Tag> tags = tagRepository.saveAll(IntStream.range(0, 4)
+			.mapToObj(i -> Tag.builder().name("tag" + i).build())
+			.toList());
+
+		IntStream.range(0, 3).forEach(i -> {
+			Member member = memberRepository.save(Member.builder()
+				.email("member" + i + "@gmail.com")
+				.username("member" + i)
+				.password("password")
+				.roles(Set.of(Role.ROLE_USER))
+				.platform(Platform.SERVER)
+				.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+				.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+				.build());
+
+			Folder folder = folderRepository.save(Folder.builder()
+				.id(UUID.randomUUID())
+				.member(member)
+				.title("folder" + i)
+				.depth(0)
+				.orderIndex(0)
+				.parentFolder(null)
+				.build());
+
+			postRepository.saveAll(IntStream.range(0, 10)
+				.mapToObj(j -> Post.builder()
+					.member(member)
+					.folder(folder)
+					.title("title" + j)
+					.content("content" + j)
+					.tags(List.of(tags.get(j % tags.size()), tags.get((j + 1) % tags.size())))
+					.build())
+				.toList());
+		});
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		statistics.setStatisticsEnabled(false);
+		postRepository.deleteAll();
+		tagRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("게시글 목록은 작성자, 폴더, 태그를 게시글 수와 무관하게 고정된 쿼리 수로 조회한다.")
+	@Test
+	void getPosts_shouldNotLoadAssociationsPerPost() {
+		// given
+		PostListSearchRequest request = PostListSearchRequest.builder()
+			.sorts(List.of("createdAt"))
+			.page(0)
+			.size(PAGE_SIZE)
+			.isDescending(true)
+			.build();
+
+		// when
+		Page<PostResponse> posts = postService.getPosts(request);
+
+		// then
+		// 페이지 조회, 전체 개수, 연관 엔티티 IN 조회
+		assertAll(
+			() -> assertThat(posts.getContent()).hasSize(PAGE_SIZE),
+			() -> assertThat(posts.getContent()).allMatch(post -> post.getUsername() != null
+				&& post.getFolder() != null
+				&& post.getTags().size() == 2),
+			() -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3)
+		);
+	}
+
+	@DisplayName("회원 게시글 목록은 작성자, 폴더, 태그를 게시글 수와 무관하게 고정된 쿼리 수로 조회한다.")
+	@Test
+	void getMemberPosts_shouldNotLoadAssociationsPerPost() {
+		// given
+		PostListMemberRequest request = PostListMemberRequest.builder()
+			.username("member0")
+			.page(0)
+			.size(PAGE_SIZE)
+			.build();
+
+		// when
+		Page<PostResponse> posts = postService.getMemberPosts(request);
+
+		// then
+		// 회원 조회, 페이지 조회, 연관 엔티티 IN 조회
+		assertAll(
+			() -> assertThat(posts.getContent()).hasSize(10),
+			() -> assertThat(posts.getContent()).allMatch(post -> post.getUsername().equals("member0")
+				&& post.getTags().size() == 2),
+			() -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3)
+		);
+	}
+
+	@DisplayName("cursor 기반 게시글 목록도 작성자, 폴더, 태그를 고정된 쿼리 수로 조회한다.")
+	@Test
+	void getPostsByCursor_shouldNotLoadAssociationsPerPost() {
+		// given
+		PostListSearchRequest request = PostListSearchRequest.builder()
+			.size(PAGE_SIZE)
+			.build();
+
+		// when
+		PostSliceResponse slice = postService.getPostsByCursor(request);
+
+		// then
+		// 슬라이스 조회, 연관 엔티티 IN 조회
+		assertAll(
+			() -> assertThat(slice.getContent()).hasSize(PAGE_SIZE),
+			() -> assertThat(slice.isHasNext()).isTrue(),
+			() -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2)
+		);
+	}
+}
@@ -0,0 +1,149 @@
+package api.store.diglog.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class PostViewBufferTest extends IntegrationTestSupport {
+
+	private static final String COUNT_PREFIX = "post:view:count:";
+
+	@Autowired
+	private PostViewBuffer postViewBuffer;
+
+	@Autowired
+	private PostViewDirtyShards postViewDirtyShards;
+
+	private Post post;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		post = postRepository.save(Post.builder()
+			.member(member)
+			.title("Diglog Redis 적용기")
+			.content("Diglog 프로젝트의 Redis 적용과정")
+			.viewCount(100L)
+			.folder(folder)
+			.build());
+
+		ReflectionTestUtils.setField(postViewBuffer, "enabled", true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(postViewBuffer, "enabled", false);
+		ReflectionTestUtils.setField(postViewBuffer, "maxSize", 100_000L);
+		postViewBuffer.flush();
+
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("버퍼에 적재된 조회는 반영 전까지 Redis에 기록되지 않고, 반영 시 한 번에 증가한다.")
+	@Test
+	void flush() {
+		// given
+		UUID postId = post.getId();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "100");
+
+		postViewBuffer.offer(postId, "10.0.0.1");
+		postViewBuffer.offer(postId, "10.0.0.2");
+		postViewBuffer.offer(postId, "10.0.0.3");
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("100");
+
+		// when
+		postViewBuffer.flush();
+
+		// then
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("103");
+		assertThat(redisTemplate.opsForSet().isMember(postViewDirtyShards.dirtySetKey(postId), postId.toString())).isTrue();
+	}
+
+	@DisplayName("같은 ip의 조회는 버퍼 안에서도, Redis에 이미 기록된 경우에도 한 번만 반영된다.")
+	@Test
+	void flush_shouldDeduplicateSameIpAddress() {
+		// given
+		UUID postId = post.getId();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "100");
+		redisTemplate.opsForValue().set("post:view:" + postId + ":10.0.0.9", "true");
+
+		postViewBuffer.offer(postId, "10.0.0.1");
+		postViewBuffer.offer(postId, "10.0.0.1");
+		postViewBuffer.offer(postId, "10.0.0.9");
+
+		// when
+		postViewBuffer.flush();
+
+		// then
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("101");
+	}
+
+	@DisplayName("레디스에 조회수가 없다면 DB에서 적재한 뒤 버퍼의 조회를 반영한다.")
+	@Test
+	void flush_shouldLoadViewCount_whenNotExistInRedis() {
+		// given
+		UUID postId = post.getId();
+		postViewBuffer.offer(postId, "10.0.0.1");
+
+		// when
+		postViewBuffer.flush();
+
+		// then
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("101");
+	}
+
+	@DisplayName("버퍼가 가득 차면 조회를 적재하지 않는다.")
+	@Test
+	void offer_shouldReturnFalse_whenBufferIsFull() {
+		// given
+		ReflectionTestUtils.setField(postViewBuffer, "maxSize", 1L);
+		postViewBuffer.offer(post.getId(), "10.0.0.1");
+
+		// when
+		boolean offered = postViewBuffer.offer(post.getId(), "10.0.0.2");
+
+		// then
+		assertThat(offered).isFalse();
+	}
+}
@@ -0,0 +1,176 @@
+package api.store.diglog.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class PostViewShardSyncerTest extends IntegrationTestSupport {
+
+	private static final String DELTA_PREFIX = "post:view:delta:";
+
+	@Autowired
+	private PostViewShardSyncer postViewShardSyncer;
+
+	@Autowired
+	private PostViewDirtyShards postViewDirtyShards;
+
+	@Autowired
+	private RedissonClient redissonClient;
+
+	private List<Post> posts;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		posts = postRepository.saveAll(IntStream.range(0, 5)
+			.mapToObj(i -> Post.builder()
+				.member(member)
+				.title("title" + i)
+				.content("content" + i)
+				.viewCount(10L)
+				.folder(folder)
+				.build())
+			.toList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("모든 샤드와 샤딩 이전 dirtySet의 증가분을 DB에 반영한다.")
+	@Test
+	void syncAll() {
+		// given
+		UUID legacyPostId = posts.getFirst().getId();
+		redisTemplate.opsForValue().set(DELTA_PREFIX + legacyPostId, "5");
+		redisTemplate.opsForSet().add(PostViewKeys.DIRTY_SET, legacyPostId.toString());
+
+		List<Post> shardedPosts = posts.subList(1, posts.size());
+		shardedPosts.forEach(post -> markDirty(post.getId(), postViewDirtyShards.dirtySetKey(post.getId())));
+
+		// when
+		postViewShardSyncer.syncAll();
+
+		// then
+		await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertAll(
+			() -> assertThat(postRepository.findById(legacyPostId).orElseThrow().getViewCount()).isEqualTo(15),
+			() -> assertThat(postRepository.findAllById(shardedPosts.stream().map(Post::getId).toList()))
+				.allMatch(post -> post.getViewCount() == 15),
+			() -> assertThat(redisTemplate.keys(DELTA_PREFIX + "*")).isEmpty()
+		));
+	}
+
+	@DisplayName("다른 노드가 임대 중인 샤드는 동기화하지 않는다.")
+	@Test
+	void syncAll_shouldSkipShardLeasedByOtherNode() {
+		// given
+		UUID leasedPostId = posts.getFirst().getId();
+		String leasedDirtySetKey = postViewDirtyShards.dirtySetKey(leasedPostId);
+		List<UUID> otherPostIds = posts.stream()
+			.map(Post::getId)
+			.filter(postId -> !postViewDirtyShards.dirtySetKey(postId).equals(leasedDirtySetKey))
+			.toList();
+
+		markDirty(leasedPostId, leasedDirtySetKey);
+		otherPostIds.forEach(postId -> markDirty(postId, postViewDirtyShards.dirtySetKey(postId)));
+
+		RLock lease = redissonClient.getLock(leasedDirtySetKey + ":lease");
+		CompletableFuture.runAsync(() -> lease.lock(30, TimeUnit.SECONDS)).join();
+
+		try {
+			// when
+			postViewShardSyncer.syncAll();
+
+			// then
+			await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(postRepository.findAllById(otherPostIds))
+				.allMatch(post -> post.getViewCount() == 15));
+			assertAll(
+				() -> assertThat(postRepository.findById(leasedPostId).orElseThrow().getViewCount()).isEqualTo(10),
+				() -> assertThat(redisTemplate.opsForSet().isMember(leasedDirtySetKey, leasedPostId.toString())).isTrue()
+			);
+		} finally {
+			lease.forceUnlock();
+		}
+	}
+
+	@DisplayName("동기화 주기는 디스패치한 모든 배치의 DB 반영이 끝난 뒤에 반환한다.")
+	@Test
+	void syncAll_shouldReturnAfterAllBatchesCompleted() {
+		// given
+		Post post = posts.getFirst();
+		List<Post> manyPosts = postRepository.saveAll(IntStream.range(0, 450)
+			.mapToObj(i -> Post.builder()
+				.member(post.getMember())
+				.title("title" + i)
+				.content("content" + i)
+				.viewCount(10L)
+				.folder(post.getFolder())
+				.build())
+			.toList());
+		manyPosts.forEach(manyPost -> markDirty(manyPost.getId(), PostViewKeys.DIRTY_SET));
+
+		// when
+		postViewShardSyncer.syncAll();
+
+		// then
+		assertAll(
+			() -> assertThat(postRepository.findAllById(manyPosts.stream().map(Post::getId).toList()))
+				.allMatch(manyPost -> manyPost.getViewCount() == 15),
+			() -> assertThat(redisTemplate.opsForSet().size(PostViewKeys.DIRTY_SET)).isZero()
+		);
+	}
+
+	private void markDirty(UUID postId, String dirtySetKey) {
+		redisTemplate.opsForValue().set(DELTA_PREFIX + postId, "5");
+		redisTemplate.opsForSet().add(dirtySetKey, postId.toString());
+	}
+}
@@ -0,0 +1,165 @@
+package api.store.diglog.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.common.exception.CustomException;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class RedisPostViewIncrementerTest extends IntegrationTestSupport {
+
+	private static final String COUNT_PREFIX = "post:view:count:";
+
+	@Autowired
+	private RedisPostViewIncrementer redisPostViewIncrementer;
+
+	@Autowired
+	private PostViewDirtyShards postViewDirtyShards;
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", PostViewDedupMode.EXACT);
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("첫 조회라면 조회수를 증가시키고 TTL 갱신 및 dirtySet 등록을 한 번에 수행한다.")
+	@Test
+	void increment() {
+		// given
+		UUID postId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "10");
+
+		// when
+		PostViewIncrementResult result = redisPostViewIncrementer.increment(postId, "10.0.0.1");
+
+		// then
+		assertThat(result).isEqualTo(PostViewIncrementResult.INCREASED);
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("11");
+		assertThat(redisTemplate.opsForValue().get("post:view:delta:" + postId)).isEqualTo("1");
+		assertThat(redisTemplate.getExpire(COUNT_PREFIX + postId, TimeUnit.SECONDS)).isGreaterThan(0L);
+		assertThat(redisTemplate.opsForSet().isMember(postViewDirtyShards.dirtySetKey(postId), postId.toString())).isTrue();
+	}
+
+	@DisplayName("같은 ip의 중복 조회라면 조회수를 증가시키지 않는다.")
+	@Test
+	void increment_shouldNotIncrease_whenDuplicated() {
+		// given
+		UUID postId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "10");
+		redisPostViewIncrementer.increment(postId, "10.0.0.1");
+
+		// when
+		PostViewIncrementResult result = redisPostViewIncrementer.increment(postId, "10.0.0.1");
+
+		// then
+		assertThat(result).isEqualTo(PostViewIncrementResult.DUPLICATED);
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("11");
+	}
+
+	@DisplayName("조회수가 적재되어 있지 않고 게시글도 없다면 중복 판별 키를 남기지 않고 예외가 발생한다.")
+	@Test
+	void increment_shouldThrowException_whenCountNotLoadedAndPostNotExist() {
+		// given
+		UUID postId = UUID.randomUUID();
+
+		// when & then
+		assertThatThrownBy(() -> redisPostViewIncrementer.increment(postId, "10.0.0.1"))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("해당 게시글이 없습니다.");
+		assertThat(redisTemplate.hasKey("post:view:" + postId + ":10.0.0.1")).isFalse();
+		assertThat(redisTemplate.opsForSet().isMember(postViewDirtyShards.dirtySetKey(postId), postId.toString())).isFalse();
+	}
+
+	@DisplayName("조회수가 숫자가 아니거나 기본값보다 작다면 INVALID를 반환한다.")
+	@Test
+	void increment_shouldReturnInvalid_whenCountIsInvalid() {
+		// given
+		UUID wrongTypePostId = UUID.randomUUID();
+		UUID lessThanDefaultPostId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + wrongTypePostId, "diglog");
+		redisTemplate.opsForValue().set(COUNT_PREFIX + lessThanDefaultPostId, "0");
+
+		// when
+		PostViewIncrementResult wrongTypeResult = redisPostViewIncrementer.increment(wrongTypePostId, "10.0.0.1");
+		PostViewIncrementResult lessThanDefaultResult =
+			redisPostViewIncrementer.increment(lessThanDefaultPostId, "10.0.0.1");
+
+		// then
+		assertThat(wrongTypeResult).isEqualTo(PostViewIncrementResult.INVALID);
+		assertThat(lessThanDefaultResult).isEqualTo(PostViewIncrementResult.INVALID);
+	}
+
+	@DisplayName("HyperLogLog 방식은 (게시글, ip) 키를 만들지 않고 추정 카디널리티의 증가분만큼 조회수를 증가시킨다.")
+	@Test
+	void increment_withHyperLogLog() {
+		// given
+		ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", PostViewDedupMode.HYPER_LOG_LOG);
+		UUID postId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "10");
+
+		// when
+		redisPostViewIncrementer.increment(postId, List.of("10.0.0.1", "10.0.0.2", "10.0.0.3"));
+		PostViewIncrementResult duplicatedResult = redisPostViewIncrementer.increment(postId, "10.0.0.1");
+
+		// then
+		assertThat(duplicatedResult).isEqualTo(PostViewIncrementResult.DUPLICATED);
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("13");
+		assertThat(redisTemplate.hasKey("post:view:" + postId + ":10.0.0.1")).isFalse();
+		assertThat(redisTemplate.keys("post:view:hll:" + postId + ":*")).hasSize(1);
+	}
+
+	@DisplayName("Bloom filter 방식은 (게시글, ip) 키를 만들지 않고 처음 조회한 ip만큼 조회수를 증가시킨다.")
+	@Test
+	void increment_withBloomFilter() {
+		// given
+		ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", PostViewDedupMode.BLOOM_FILTER);
+		UUID postId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "10");
+
+		// when
+		redisPostViewIncrementer.increment(postId, List.of("10.0.0.1", "10.0.0.2"));
+		PostViewIncrementResult duplicatedResult = redisPostViewIncrementer.increment(postId, "10.0.0.2");
+
+		// then
+		assertThat(duplicatedResult).isEqualTo(PostViewIncrementResult.DUPLICATED);
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("12");
+		assertThat(redisTemplate.hasKey("post:view:" + postId + ":10.0.0.1")).isFalse();
+	}
+
+	@DisplayName("Bloom filter 방식은 조회수가 증가한 뒤에 기록하므로 증가에 실패한 조회는 다음 요청에서 다시 센다.")
+	@Test
+	void increment_withBloomFilter_shouldRecountFailedViews() {
+		// given
+		ReflectionTestUtils.setField(redisPostViewIncrementer, "dedupMode", PostViewDedupMode.BLOOM_FILTER);
+		UUID postId = UUID.randomUUID();
+		UUID otherPostId = UUID.randomUUID();
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "diglog");
+		redisTemplate.opsForValue().set(COUNT_PREFIX + otherPostId, "10");
+		PostViewIncrementResult invalidResult = redisPostViewIncrementer.increment(postId, "10.0.0.1");
+		redisTemplate.opsForValue().set(COUNT_PREFIX + postId, "10");
+
+		// when
+		PostViewIncrementResult result = redisPostViewIncrementer.increment(postId, "10.0.0.1");
+		PostViewIncrementResult otherPostResult = redisPostViewIncrementer.increment(otherPostId, "10.0.0.1");
+
+		// then
+		assertThat(invalidResult).isEqualTo(PostViewIncrementResult.INVALID);
+		assertThat(result).isEqualTo(PostViewIncrementResult.INCREASED);
+		assertThat(otherPostResult).isEqualTo(PostViewIncrementResult.INCREASED);
+		assertThat(redisTemplate.opsForValue().get(COUNT_PREFIX + postId)).isEqualTo("11");
+		assertThat(redisTemplate.keys("post:view:bloom:*")).hasSize(1);
+	}
+}
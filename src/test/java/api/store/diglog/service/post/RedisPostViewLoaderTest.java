@@ -1,16 +1,24 @@
 package api.store.diglog.service.post;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import api.store.diglog.model.constant.Platform;
 import api.store.diglog.model.constant.Role;
@@ -18,9 +26,13 @@ import api.store.diglog.model.entity.Folder;
 import api.store.diglog.model.entity.Member;
 import api.store.diglog.model.entity.Post;
 import api.store.diglog.supporter.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
 
 class RedisPostViewLoaderTest extends IntegrationTestSupport {
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	private Member member;
 
 	private Folder folder;
@@ -51,6 +63,7 @@ class RedisPostViewLoaderTest extends IntegrationTestSupport {
 
 	@AfterEach
 	void tearDown() {
+		ReflectionTestUtils.setField(redisPostViewLoader, "warmUpSize", 1000);
 		postRepository.deleteAllInBatch();
 		folderRepository.deleteAllInBatch();
 		memberRepository.deleteAllInBatch();
@@ -102,4 +115,88 @@ class RedisPostViewLoaderTest extends IntegrationTestSupport {
 		// then
 		assertThat(redisTemplate.opsForValue().get(redisKey)).isEqualTo("9999");
 	}
-}
\ No newline at end of file
+
+	@DisplayName("적재되지 않은 게시글에 동시에 적재 요청이 몰려도 락 없이 DB 값이 한 번만 적재된다.")
+	@Test
+	void loadPostViewIntoRedis_withConcurrentRequests() {
+		// given
+		Post post = savePost(1000L);
+		String redisKey = "post:view:count:" + post.getId();
+		double contendedBefore = meterRegistry.counter("post.view.cache.load.contended").count();
+		double missedBefore = meterRegistry.counter("post.view.cache.lookup", "result", "miss").count();
+
+		// when
+		CompletableFuture.allOf(IntStream.range(0, 20)
+				.mapToObj(i -> CompletableFuture.runAsync(() -> redisPostViewLoader.load(redisKey, post.getId())))
+				.toArray(CompletableFuture[]::new))
+			.join();
+
+		// then
+		double contended = meterRegistry.counter("post.view.cache.load.contended").count() - contendedBefore;
+		double missed = meterRegistry.counter("post.view.cache.lookup", "result", "miss").count() - missedBefore;
+		assertAll(
+			() -> assertThat(redisTemplate.opsForValue().get(redisKey)).isEqualTo("1000"),
+			() -> assertThat(contended).isEqualTo(missed - 1)
+		);
+	}
+
+	@DisplayName("남은 TTL이 갱신 임계값보다 작을 때만 조회수의 만료 시간을 갱신한다.")
+	@Test
+	void loadPostViewIntoRedis_shouldRefreshTtlOnlyBelowThreshold() {
+		// given
+		Post expiringPost = savePost(10L);
+		Post freshPost = savePost(20L);
+		String expiringKey = "post:view:count:" + expiringPost.getId();
+		String freshKey = "post:view:count:" + freshPost.getId();
+		redisTemplate.opsForValue().set(expiringKey, "10", Duration.ofMinutes(1));
+		redisTemplate.opsForValue().set(freshKey, "20", Duration.ofHours(20));
+
+		// when
+		redisPostViewLoader.load(expiringKey, expiringPost.getId());
+		redisPostViewLoader.load(freshKey, freshPost.getId());
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.getExpire(expiringKey, TimeUnit.SECONDS))
+				.isGreaterThan(Duration.ofHours(23).toSeconds()),
+			() -> assertThat(redisTemplate.getExpire(freshKey, TimeUnit.SECONDS))
+				.isLessThanOrEqualTo(Duration.ofHours(20).toSeconds())
+		);
+	}
+
+	@DisplayName("조회수 상위 게시글을 미리 적재하고, 이미 적재된 조회수는 덮어쓰지 않는다.")
+	@Test
+	void warmUp() {
+		// given
+		List<Post> posts = IntStream.range(1, 4)
+			.mapToObj(i -> savePost(i * 100L))
+			.toList();
+		String topKey = "post:view:count:" + posts.get(2).getId();
+		String secondKey = "post:view:count:" + posts.get(1).getId();
+		redisTemplate.opsForValue().set(secondKey, "9999");
+		redisTemplate.opsForValue().set("post:view:delta:" + posts.get(2).getId(), "5");
+		ReflectionTestUtils.setField(redisPostViewLoader, "warmUpSize", 2);
+
+		// when
+		int loaded = redisPostViewLoader.warmUp();
+
+		// then
+		assertAll(
+			() -> assertThat(loaded).isEqualTo(1),
+			() -> assertThat(redisTemplate.opsForValue().get(topKey)).isEqualTo("305"),
+			() -> assertThat(redisTemplate.getExpire(topKey, TimeUnit.SECONDS)).isGreaterThan(0L),
+			() -> assertThat(redisTemplate.opsForValue().get(secondKey)).isEqualTo("9999"),
+			() -> assertThat(redisTemplate.hasKey("post:view:count:" + posts.get(0).getId())).isFalse()
+		);
+	}
+
+	private Post savePost(long viewCount) {
+		return postRepository.save(Post.builder()
+			.member(member)
+			.title("Diglog Redis 적용기")
+			.content("Diglog 프로젝트의 Redis 적용과정")
+			.viewCount(viewCount)
+			.folder(folder)
+			.build());
+	}
+}
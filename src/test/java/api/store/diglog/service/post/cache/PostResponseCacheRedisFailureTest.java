@@ -0,0 +1,95 @@
+package api.store.diglog.service.post.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import api.store.diglog.model.dto.post.PostResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PostResponseCacheRedisFailureTest {
+
+	private static final UUID POST_ID = UUID.randomUUID();
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private PostResponseCache postResponseCache;
+
+	@BeforeEach
+	void setUp() {
+		postResponseCache = new PostResponseCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(postResponseCache, "localMaxSize", 100L);
+		ReflectionTestUtils.setField(postResponseCache, "localTtlSeconds", 60L);
+		ReflectionTestUtils.setField(postResponseCache, "redisTtlSeconds", 600L);
+		postResponseCache.init();
+	}
+
+	@DisplayName("Redis를 읽지 못하면 DB에서 읽어 응답하고 로컬 캐시에 담는다.")
+	@Test
+	void get_shouldFallBackToLoader() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("Redis 장애"));
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		PostResponse postResponse = postResponseCache.get(POST_ID, () -> load(loads));
+		PostResponse cachedPostResponse = postResponseCache.get(POST_ID, () -> load(loads));
+
+		// then
+		assertAll(
+			() -> assertThat(postResponse.getId()).isEqualTo(POST_ID),
+			() -> assertThat(cachedPostResponse.getId()).isEqualTo(POST_ID),
+			() -> assertThat(loads.get()).isEqualTo(1)
+		);
+	}
+
+	@DisplayName("Redis 무효화에 실패해도 로컬 캐시는 비운다.")
+	@Test
+	void evict_shouldInvalidateLocal_whenRedisFailed() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("Redis 장애"));
+		when(redisTemplate.execute(any(), anyList(), any())).thenThrow(new RedisConnectionFailureException("Redis 장애"));
+		AtomicInteger loads = new AtomicInteger();
+		postResponseCache.get(POST_ID, () -> load(loads));
+
+		// when
+		postResponseCache.evict(List.of(POST_ID));
+		postResponseCache.get(POST_ID, () -> load(loads));
+
+		// then
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private PostResponse load(AtomicInteger loads) {
+		loads.incrementAndGet();
+		return PostResponse.builder()
+			.id(POST_ID)
+			.title("title")
+			.build();
+	}
+}
@@ -0,0 +1,185 @@
+package api.store.diglog.service.post.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.supporter.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+
+class PostResponseCacheTest extends IntegrationTestSupport {
+
+	private static final String RESPONSE_PREFIX = "post:response:";
+
+	@Autowired
+	private PostResponseCache postResponseCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Post post;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		post = postRepository.save(Post.builder()
+			.member(member)
+			.title("Diglog Redis 적용기")
+			.content("Diglog 프로젝트의 Redis 적용과정")
+			.folder(folder)
+			.tags(List.of())
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postResponseCache.clearLocal();
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("한 번 조회한 게시글은 DB를 거치지 않고 캐시에서 반환한다.")
+	@Test
+	void getPost_shouldReadFromCache() {
+		// given
+		UUID postId = post.getId();
+		double localHitsBefore = lookupCount("local");
+		postService.getPost(postId);
+
+		// when
+		PostResponse postResponse = postService.getPost(postId);
+
+		// then
+		assertAll(
+			() -> assertThat(postResponse.getTitle()).isEqualTo("Diglog Redis 적용기"),
+			() -> assertThat(postResponse.getUsername()).isEqualTo("Frod"),
+			() -> assertThat(redisTemplate.hasKey(RESPONSE_PREFIX + postId)).isTrue(),
+			() -> assertThat(lookupCount("local") - localHitsBefore).isEqualTo(1),
+			() -> verify(spyPostRepository, times(1)).findByIdAndIsDeletedFalse(postId)
+		);
+	}
+
+	@DisplayName("로컬 캐시에 없으면 Redis 캐시의 응답을 역직렬화해 반환한다.")
+	@Test
+	void getPost_shouldFallBackToRedis() {
+		// given
+		UUID postId = post.getId();
+		PostResponse cached = postService.getPost(postId);
+		postResponseCache.clearLocal();
+		double redisHitsBefore = lookupCount("redis");
+
+		// when
+		PostResponse postResponse = postService.getPost(postId);
+
+		// then
+		assertAll(
+			() -> assertThat(postResponse.getId()).isEqualTo(cached.getId()),
+			() -> assertThat(postResponse.getCreatedAt()).isEqualTo(cached.getCreatedAt()),
+			() -> assertThat(postResponse.getFolder().getTitle()).isEqualTo("diglog"),
+			() -> assertThat(lookupCount("redis") - redisHitsBefore).isEqualTo(1),
+			() -> verify(spyPostRepository, times(1)).findByIdAndIsDeletedFalse(postId)
+		);
+	}
+
+	@DisplayName("게시글 변경 이벤트가 커밋되면 Redis와 로컬 캐시를 모두 비운다.")
+	@Test
+	void evict() {
+		// given
+		UUID postId = post.getId();
+		postService.getPost(postId);
+
+		// when
+		postResponseCache.onPostChanged(PostCacheEvictEvent.of(postId));
+		postService.getPost(postId);
+
+		// then
+		verify(spyPostRepository, times(2)).findByIdAndIsDeletedFalse(postId);
+	}
+
+	@DisplayName("읽는 도중 커밋되어 무효화된 게시글은 읽어 둔 응답으로 다시 채우지 않는다.")
+	@Test
+	void get_shouldNotRefillAfterConcurrentEvict() {
+		// given
+		UUID postId = post.getId();
+		postResponseCache.get(postId, () -> {
+			// DB에서 읽은 직후 다른 요청의 수정이 커밋된 상황
+			postResponseCache.onPostChanged(PostCacheEvictEvent.of(postId));
+			return PostResponse.builder().id(postId).title("stale title").build();
+		});
+
+		// when
+		PostResponse postResponse = postResponseCache.get(postId,
+			() -> PostResponse.builder().id(postId).title("fresh title").build());
+
+		// then
+		assertAll(
+			() -> assertThat(postResponse.getTitle()).isEqualTo("fresh title"),
+			() -> assertThat(postResponseCache.get(postId, () -> null).getTitle()).isEqualTo("fresh title")
+		);
+	}
+
+	@DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시에서 제거한다.")
+	@Test
+	void evictLocal_byInvalidationMessage() {
+		// given
+		UUID postId = post.getId();
+		postService.getPost(postId);
+		redisTemplate.delete(RESPONSE_PREFIX + postId);
+
+		// when
+		redisTemplate.convertAndSend(PostResponseCache.INVALIDATION_CHANNEL, postId.toString());
+
+		// then
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+			postService.getPost(postId);
+			verify(spyPostRepository, atLeast(2)).findByIdAndIsDeletedFalse(postId);
+		});
+	}
+
+	private double lookupCount(String result) {
+		return meterRegistry.counter("post.response.cache.lookup", "result", result).count();
+	}
+}
@@ -0,0 +1,261 @@
+package api.store.diglog.service.post.feed;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.dto.post.PostListSearchRequest;
+import api.store.diglog.model.dto.post.PostResponse;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.service.post.cache.PostResponseCache;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class PostHomeFeedTest extends IntegrationTestSupport {
+
+	private static final String FEED_KEY = "post:feed:home";
+	private static final String COUNT_KEY = "post:feed:home:count";
+
+	@Autowired
+	private PostHomeFeed postHomeFeed;
+
+	@Autowired
+	private PostResponseCache postResponseCache;
+
+	private Member member;
+
+	private Folder folder;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+
+		IntStream.range(0, 7).forEach(i -> postRepository.save(Post.builder()
+			.member(member)
+			.title("feed " + i)
+			.content("content " + i)
+			.folder(folder)
+			.tags(List.of())
+			.build()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(postHomeFeed, "feedSize", 500);
+		postResponseCache.clearLocal();
+		postRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("최신순 목록의 첫 페이지는 DB 목록 쿼리 없이 홈 피드에서 반환한다.")
+	@Test
+	void getPosts_shouldReadFromFeed() {
+		// given
+		postHomeFeed.rebuild();
+		List<UUID> expectedIds = postRepository.findAll(Sort.by("createdAt", "id").descending()).stream()
+			.map(Post::getId)
+			.limit(3)
+			.toList();
+
+		// when
+		Page<PostResponse> posts = postService.getPosts(homeRequest(0, 3));
+
+		// then
+		assertAll(
+			() -> assertThat(posts.getContent()).extracting(PostResponse::getId).containsExactlyElementsOf(expectedIds),
+			() -> assertThat(posts.getTotalElements()).isEqualTo(7),
+			() -> verify(spyPostRepository, never()).findAllByIsDeletedFalse(any(Pageable.class))
+		);
+	}
+
+	@DisplayName("피드 용량을 넘는 깊은 페이지는 DB에서 조회한다.")
+	@Test
+	void getPosts_shouldFallBackToDbForDeepPage() {
+		// given
+		ReflectionTestUtils.setField(postHomeFeed, "feedSize", 4);
+		postHomeFeed.rebuild();
+
+		// when
+		Page<PostResponse> posts = postService.getPosts(homeRequest(1, 3));
+
+		// then
+		assertAll(
+			() -> assertThat(posts.getContent()).hasSize(3),
+			() -> assertThat(posts.getTotalElements()).isEqualTo(7),
+			() -> verify(spyPostRepository, times(1)).findAllByIsDeletedFalse(any(Pageable.class))
+		);
+	}
+
+	@DisplayName("게시글이 추가, 삭제되면 피드와 전체 개수를 증분 반영하고 용량을 넘는 게시글은 잘라낸다.")
+	@Test
+	void onPostChanged() {
+		// given
+		ReflectionTestUtils.setField(postHomeFeed, "feedSize", 7);
+		postHomeFeed.rebuild();
+		Post newPost = postRepository.save(Post.builder()
+			.member(member)
+			.title("new feed")
+			.content("new content")
+			.folder(folder)
+			.tags(List.of())
+			.build());
+		UUID oldestPostId = postRepository.findAll(Sort.by("createdAt", "id").ascending()).getFirst().getId();
+		UUID removedPostId = postRepository.findAll(Sort.by("createdAt", "id").ascending()).get(1).getId();
+
+		// when
+		postHomeFeed.onPostChanged(PostFeedEvent.added(newPost.getId(), newPost.getCreatedAt()));
+		postHomeFeed.onPostChanged(PostFeedEvent.removed(removedPostId));
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.opsForZSet().score(FEED_KEY, newPost.getId().toString())).isNotNull(),
+			() -> assertThat(redisTemplate.opsForZSet().score(FEED_KEY, oldestPostId.toString())).isNull(),
+			() -> assertThat(redisTemplate.opsForZSet().score(FEED_KEY, removedPostId.toString())).isNull(),
+			() -> assertThat(redisTemplate.opsForZSet().size(FEED_KEY)).isEqualTo(6),
+			() -> assertThat(redisTemplate.opsForValue().get(COUNT_KEY)).isEqualTo("7")
+		);
+	}
+
+	@DisplayName("수정된 게시글은 피드에 다시 넣되 전체 개수는 바꾸지 않는다.")
+	@Test
+	void onPostChanged_refresh() {
+		// given
+		postHomeFeed.rebuild();
+		Post post = postRepository.findAll().getFirst();
+		redisTemplate.opsForZSet().remove(FEED_KEY, post.getId().toString());
+
+		// when
+		postHomeFeed.onPostChanged(PostFeedEvent.refreshed(post.getId(), post.getCreatedAt()));
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.opsForZSet().score(FEED_KEY, post.getId().toString())).isNotNull(),
+			() -> assertThat(redisTemplate.opsForZSet().size(FEED_KEY)).isEqualTo(7),
+			() -> assertThat(redisTemplate.opsForValue().get(COUNT_KEY)).isEqualTo("7")
+		);
+	}
+
+	@DisplayName("재구성은 매번 다른 임시 키를 쓰고 교체 후 임시 키를 남기지 않는다.")
+	@Test
+	void rebuild_shouldNotLeaveTemporaryKey() {
+		// given
+		ReflectionTestUtils.setField(postHomeFeed, "feedSize", 4);
+		postHomeFeed.rebuild();
+
+		// when
+		postHomeFeed.rebuild();
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.keys(FEED_KEY + ":rebuild*")).isEmpty(),
+			() -> assertThat(redisTemplate.opsForZSet().size(FEED_KEY)).isEqualTo(4),
+			() -> assertThat(redisTemplate.getExpire(FEED_KEY)).isEqualTo(-1),
+			() -> assertThat(redisTemplate.opsForValue().get(COUNT_KEY)).isEqualTo("7")
+		);
+	}
+
+	@DisplayName("재구성 중에 반영된 변경은 덮어쓰지 않고 다시 재구성한다.")
+	@Test
+	void rebuild_shouldNotOverwriteConcurrentChange() {
+		// given
+		postHomeFeed.rebuild();
+		List<Post> newPosts = new ArrayList<>();
+		doAnswer(invocation -> {
+			Object snapshot = invocation.callRealMethod();
+			Post newPost = postRepository.save(Post.builder()
+				.member(member)
+				.title("new feed")
+				.content("new content")
+				.folder(folder)
+				.tags(List.of())
+				.build());
+			newPosts.add(newPost);
+			postHomeFeed.onPostChanged(PostFeedEvent.added(newPost.getId(), newPost.getCreatedAt()));
+			return snapshot;
+		}).doCallRealMethod().when(spyPostRepository).findSummariesByIsDeletedFalse(any(Pageable.class));
+
+		// when
+		int rebuilt = postHomeFeed.rebuild();
+
+		// then
+		assertAll(
+			() -> assertThat(rebuilt).isEqualTo(8),
+			() -> assertThat(redisTemplate.opsForZSet().score(FEED_KEY, newPosts.getFirst().getId().toString()))
+				.isNotNull(),
+			() -> assertThat(redisTemplate.opsForValue().get(COUNT_KEY)).isEqualTo("8"),
+			() -> assertThat(redisTemplate.keys(FEED_KEY + ":rebuild*")).isEmpty(),
+			() -> verify(spyPostRepository, times(3)).findSummariesByIsDeletedFalse(any(Pageable.class))
+		);
+	}
+
+	@DisplayName("피드가 만들어지기 전의 변경은 무시하고 DB에서 조회한다.")
+	@Test
+	void getPosts_beforeRebuild() {
+		// given
+		Post post = postRepository.findAll().getFirst();
+		postHomeFeed.onPostChanged(PostFeedEvent.removed(post.getId()));
+
+		// when
+		Page<PostResponse> posts = postService.getPosts(homeRequest(0, 3));
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.hasKey(COUNT_KEY)).isFalse(),
+			() -> assertThat(posts.getTotalElements()).isEqualTo(7),
+			() -> verify(spyPostRepository, times(1)).findAllByIsDeletedFalse(any(Pageable.class))
+		);
+	}
+
+	private PostListSearchRequest homeRequest(int page, int size) {
+		return PostListSearchRequest.builder()
+			.sorts(List.of("createdAt"))
+			.page(page)
+			.size(size)
+			.isDescending(true)
+			.build();
+	}
+}
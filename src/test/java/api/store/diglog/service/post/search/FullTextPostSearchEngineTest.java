@@ -0,0 +1,157 @@
+package api.store.diglog.service.post.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class FullTextPostSearchEngineTest extends IntegrationTestSupport {
+
+	private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0");
+
+	static {
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.driver-class-name", mysqlContainer::getDriverClassName);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+		registry.add("diglog.post.search.engine", () -> "FULLTEXT");
+	}
+
+	@Autowired
+	private PostSearchEngineFactory postSearchEngineFactory;
+
+	private PostSearchEngine fullTextSearchEngine;
+
+	private Member member;
+
+	private Folder folder;
+
+	@BeforeEach
+	void setUp() {
+		fullTextSearchEngine = postSearchEngineFactory.getEngine(PostSearchEngineType.FULLTEXT);
+
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAll();
+		tagRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("제목, 본문, 태그에서 검색어를 찾고 제목에 일치한 게시글을 먼저 반환한다.")
+	@Test
+	void search_all() {
+		// given
+		Post contentMatched = savePost("트랜잭션 정리", "스프링의 트랜잭션 전파 속성", List.of());
+		Post titleMatched = savePost("스프링 부트 입문", "설정 없이 시작하기", List.of());
+		savePost("레디스 캐시", "조회수 캐싱", List.of());
+
+		// when
+		Page<Post> posts = fullTextSearchEngine.search("스프링", SearchOption.ALL, PageRequest.of(0, 10));
+
+		// then
+		assertThat(posts.getTotalElements()).isEqualTo(2);
+		assertThat(posts.getContent())
+			.extracting(Post::getId)
+			.containsExactly(titleMatched.getId(), contentMatched.getId());
+	}
+
+	@DisplayName("태그 검색 시 삭제된 게시글은 제외한다.")
+	@Test
+	void search_tag() {
+		// given
+		Tag tag = tagRepository.save(Tag.builder().name("레디스").build());
+		Post tagged = savePost("조회수 캐싱", "캐시 적용기", List.of(tag));
+		postRepository.save(Post.builder()
+			.member(member)
+			.folder(folder)
+			.title("삭제된 글")
+			.content("삭제")
+			.tags(List.of(tag))
+			.isDeleted(true)
+			.build());
+
+		// when
+		Page<Post> posts = fullTextSearchEngine.search("레디스", SearchOption.TAG, PageRequest.of(0, 10));
+
+		// then
+		assertThat(posts.getContent())
+			.extracting(Post::getId)
+			.containsExactly(tagged.getId());
+	}
+
+	@DisplayName("ngram 토큰보다 짧은 검색어는 부분 일치 검색으로 찾는다.")
+	@Test
+	void search_withShortKeyword() {
+		// given
+		Post post = savePost("봄 여행", "벚꽃", List.of());
+
+		// when
+		Page<Post> posts = fullTextSearchEngine.search("봄", SearchOption.TITLE,
+			PageRequest.of(0, 10, Sort.by("createdAt", "id").descending()));
+
+		// then
+		assertThat(posts.getContent())
+			.extracting(Post::getId)
+			.containsExactly(post.getId());
+	}
+
+	private Post savePost(String title, String content, List<Tag> tags) {
+		return postRepository.save(Post.builder()
+			.member(member)
+			.folder(folder)
+			.title(title)
+			.content(content)
+			.tags(tags)
+			.build());
+	}
+}
@@ -0,0 +1,234 @@
+package api.store.diglog.service.post.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class LucenePostSearchEngineTest extends IntegrationTestSupport {
+
+	@DynamicPropertySource
+	static void luceneProperties(DynamicPropertyRegistry registry) {
+		registry.add("diglog.post.search.engine", () -> "LUCENE");
+		registry.add("diglog.post.search.lucene.path", () -> createTempDirectory("lucene-post"));
+	}
+
+	private static String createTempDirectory(String prefix) {
+		try {
+			return Files.createTempDirectory(prefix).toString();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Autowired
+	private PostSearchEngineFactory postSearchEngineFactory;
+
+	@Autowired
+	private PostIndexingPipeline postIndexingPipeline;
+
+	@Autowired
+	private PostReindexer postReindexer;
+
+	@Autowired
+	private PostIndexSubscriber postIndexSubscriber;
+
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private PostSearchEngine luceneSearchEngine;
+
+	private Member member;
+
+	private Folder folder;
+
+	@BeforeEach
+	void setUp() {
+		luceneSearchEngine = postSearchEngineFactory.getEngine(PostSearchEngineType.LUCENE);
+
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+
+		folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		postRepository.deleteAll();
+		tagRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		postReindexer.reindexAll();
+	}
+
+	@DisplayName("게시글 변경 이벤트를 색인에 반영하고, 제목에 일치한 게시글을 먼저 반환한다.")
+	@Test
+	void search_afterIndexingEvents() {
+		// given
+		Post contentMatched = savePost("트랜잭션 정리", "스프링 트랜잭션 전파 속성", List.of());
+		Post titleMatched = savePost("스프링 부트 입문", "설정 없이 시작하기", List.of());
+		Post unrelated = savePost("레디스 캐시", "조회수 캐싱", List.of());
+		List.of(contentMatched, titleMatched, unrelated)
+			.forEach(post -> applicationEventPublisher.publishEvent(PostIndexEvent.upsert(post.getId())));
+
+		// when
+		postIndexingPipeline.flush();
+		Page<Post> posts = luceneSearchEngine.search("스프링", SearchOption.ALL, PageRequest.of(0, 10));
+
+		// then
+		assertThat(posts.getTotalElements()).isEqualTo(2);
+		assertThat(posts.getContent())
+			.extracting(Post::getId)
+			.containsExactly(titleMatched.getId(), contentMatched.getId());
+	}
+
+	@DisplayName("삭제 이벤트가 반영되면 검색 결과에서 제외된다.")
+	@Test
+	void search_afterDeleteEvent() {
+		// given
+		Tag tag = tagRepository.save(Tag.builder().name("레디스").build());
+		Post post = savePost("조회수 캐싱", "캐시 적용기", List.of(tag));
+		applicationEventPublisher.publishEvent(PostIndexEvent.upsert(post.getId()));
+		postIndexingPipeline.flush();
+		assertThat(luceneSearchEngine.search("레디스", SearchOption.TAG, PageRequest.of(0, 10)).getContent())
+			.extracting(Post::getId)
+			.containsExactly(post.getId());
+
+		// when
+		applicationEventPublisher.publishEvent(PostIndexEvent.delete(post.getId()));
+		postIndexingPipeline.flush();
+
+		// then
+		assertThat(luceneSearchEngine.search("레디스", SearchOption.TAG, PageRequest.of(0, 10)).getTotalElements())
+			.isZero();
+	}
+
+	@DisplayName("다른 노드에서 알린 게시글 변경은 색인하고, 이 노드가 보낸 알림은 다시 넣지 않는다.")
+	@Test
+	void search_afterRemoteEvent() {
+		// given
+		Post post = savePost("쿠버네티스 입문", "파드와 서비스", List.of());
+		String body = String.join(PostIndexingPipeline.DELIMITER, UUID.randomUUID().toString(),
+			PostIndexEvent.Operation.UPSERT.name(), post.getId().toString());
+
+		// when
+		postIndexSubscriber.onMessage(new DefaultMessage(PostIndexingPipeline.CHANNEL.getBytes(), body.getBytes()),
+			null);
+		postIndexingPipeline.flush();
+
+		// then
+		assertThat(luceneSearchEngine.search("쿠버네티스", SearchOption.TITLE, PageRequest.of(0, 10)).getContent())
+			.extracting(Post::getId)
+			.containsExactly(post.getId());
+	}
+
+	@DisplayName("알림 없이 바뀐 게시글은 마지막으로 따라잡은 시각 이후의 수정 시각으로 찾아 색인한다.")
+	@Test
+	void catchUp() {
+		// given
+		postReindexer.reindexAll();
+		Post post = savePost("카프카 파티션", "컨슈머 그룹", List.of());
+
+		// when
+		postIndexingPipeline.catchUp();
+
+		// then
+		assertThat(luceneSearchEngine.search("카프카", SearchOption.TITLE, PageRequest.of(0, 10)).getContent())
+			.extracting(Post::getId)
+			.containsExactly(post.getId());
+	}
+
+	@DisplayName("전체 재색인은 삭제되지 않은 게시글만 색인한다.")
+	@Test
+	void reindexAll() {
+		// given
+		List<Post> posts = IntStream.range(0, 5)
+			.mapToObj(i -> savePost("자바 " + i, "가비지 컬렉션", List.of()))
+			.toList();
+		postRepository.save(Post.builder()
+			.member(member)
+			.folder(folder)
+			.title("자바 삭제")
+			.content("삭제된 글")
+			.tags(List.of())
+			.isDeleted(true)
+			.build());
+
+		// when
+		int indexed = postReindexer.reindexAll();
+
+		// then
+		assertThat(indexed).isEqualTo(posts.size());
+		assertThat(luceneSearchEngine.search("자바", SearchOption.TITLE, PageRequest.of(0, 10)).getTotalElements())
+			.isEqualTo(posts.size());
+	}
+
+	@DisplayName("검색 결과는 현재 페이지의 게시글만 DB에서 조회한다.")
+	@Test
+	void search_shouldHydrateCurrentPageOnly() {
+		// given
+		IntStream.range(0, 5).forEach(i -> savePost("도커 " + i, "컨테이너", List.of()));
+		postReindexer.reindexAll();
+
+		// when
+		Page<Post> posts = luceneSearchEngine.search("도커", SearchOption.TITLE, PageRequest.of(1, 2));
+
+		// then
+		assertThat(posts.getTotalElements()).isEqualTo(5);
+		assertThat(posts.getContent()).hasSize(2);
+		verify(spyPostRepository).findAllById(argThat(ids -> ((List<?>)ids).size() == 2));
+	}
+
+	private Post savePost(String title, String content, List<Tag> tags) {
+		return postRepository.save(Post.builder()
+			.member(member)
+			.folder(folder)
+			.title(title)
+			.content(content)
+			.tags(tags)
+			.build());
+	}
+}
@@ -0,0 +1,116 @@
+package api.store.diglog.service.tag;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.MemberTagStatId;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.model.vo.tag.TagCountVO;
+import api.store.diglog.repository.MemberTagStatRepository;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class MemberTagStatsServiceTest extends IntegrationTestSupport {
+
+	@Autowired
+	private MemberTagStatsService memberTagStatsService;
+
+	@Autowired
+	private MemberTagStatRepository memberTagStatRepository;
+
+	private Member member;
+
+	private Tag java;
+
+	private Tag spring;
+
+	private Tag redis;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		java = tagRepository.save(Tag.builder().name("java").build());
+		spring = tagRepository.save(Tag.builder().name("spring").build());
+		redis = tagRepository.save(Tag.builder().name("redis").build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberTagStatRepository.deleteAllInBatch();
+		postRepository.deleteAll();
+		tagRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("게시글 태그가 바뀌면 빠진 태그는 줄이고 붙은 태그는 늘리며, 0이 된 태그는 집계에서 지운다.")
+	@Test
+	void update() {
+		// given
+		memberTagStatsService.update(member.getId(), List.of(), List.of(java.getId(), spring.getId()));
+		memberTagStatsService.update(member.getId(), List.of(), List.of(java.getId()));
+
+		// when
+		memberTagStatsService.update(member.getId(), List.of(java.getId(), spring.getId()),
+			List.of(java.getId(), redis.getId()));
+
+		// then
+		List<TagCountVO> tagCounts = memberTagStatRepository.findTagCountsByUsername("Frod");
+		assertAll(
+			() -> assertThat(tagCounts).extracting(TagCountVO::getTagName).containsExactly("java", "redis"),
+			() -> assertThat(tagCounts).extracting(TagCountVO::getPostCount).containsExactly(2L, 1L),
+			() -> assertThat(memberTagStatRepository.existsById(new MemberTagStatId(member.getId(), spring.getId())))
+				.isFalse()
+		);
+	}
+
+	@DisplayName("집계를 다시 만들면 삭제되지 않은 게시글의 태그만 센다.")
+	@Test
+	void rebuild() {
+		// given
+		savePost(List.of(java, spring), false);
+		savePost(List.of(java), false);
+		savePost(List.of(java, redis), true);
+
+		// when
+		int rows = memberTagStatsService.rebuild();
+
+		// then
+		List<TagCountVO> tagCounts = memberTagStatRepository.findTagCountsByUsername("Frod");
+		assertAll(
+			() -> assertThat(rows).isEqualTo(2),
+			() -> assertThat(tagCounts).extracting(TagCountVO::getTagName).containsExactly("java", "spring"),
+			() -> assertThat(tagCounts).extracting(TagCountVO::getPostCount).containsExactly(2L, 1L)
+		);
+	}
+
+	private void savePost(List<Tag> tags, boolean isDeleted) {
+		postRepository.save(Post.builder()
+			.member(member)
+			.title("title")
+			.content("content")
+			.tags(tags)
+			.isDeleted(isDeleted)
+			.build());
+	}
+}
@@ -0,0 +1,216 @@
+package api.store.diglog.service.tag;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+
+import api.store.diglog.model.constant.Platform;
+import api.store.diglog.model.constant.Role;
+import api.store.diglog.model.constant.SearchOption;
+import api.store.diglog.model.entity.Folder;
+import api.store.diglog.model.entity.Member;
+import api.store.diglog.model.entity.Post;
+import api.store.diglog.model.entity.Tag;
+import api.store.diglog.model.vo.tag.TagPostVO;
+import api.store.diglog.service.TagService;
+import api.store.diglog.service.post.search.LikePostSearchEngine;
+import api.store.diglog.supporter.IntegrationTestSupport;
+
+class TagDictionaryTest extends IntegrationTestSupport {
+
+	private static final String KEY = "tag:dictionary";
+
+	@Autowired
+	private TagDictionary tagDictionary;
+
+	@Autowired
+	private TagService tagService;
+
+	@Autowired
+	private LikePostSearchEngine likePostSearchEngine;
+
+	private Tag redisTag;
+
+	private Tag springTag;
+
+	@BeforeEach
+	void setUp() {
+		redisTag = tagRepository.save(Tag.builder().name("Redis").build());
+		springTag = tagRepository.save(Tag.builder().name("SpringBoot").build());
+		tagRepository.save(Tag.builder().name("레디스 캐시").build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		tagDictionary.clear();
+		postRepository.deleteAll();
+		tagRepository.deleteAllInBatch();
+		folderRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		redisTemplate.execute((RedisCallback<Void>)conn -> {
+			conn.serverCommands().flushDb();
+			return null;
+		});
+	}
+
+	@DisplayName("Redis 해시가 없으면 DB에서 사전을 만들고, 대소문자와 앞뒤 공백을 무시하고 태그 ID를 찾는다.")
+	@Test
+	void sync_shouldRebuildFromDb() {
+		// when
+		tagDictionary.sync();
+
+		// then
+		assertAll(
+			() -> assertThat(tagDictionary.findId(" REDIS ")).contains(redisTag.getId()),
+			() -> assertThat(tagDictionary.findId("springboot")).contains(springTag.getId()),
+			() -> assertThat(tagDictionary.findId("kafka")).isEmpty(),
+			() -> assertThat(redisTemplate.opsForHash().get(KEY, redisTag.getId().toString())).isEqualTo("Redis")
+		);
+	}
+
+	@DisplayName("재구성은 매번 다른 임시 해시를 쓰고 교체 후 임시 해시와 만료 시간을 남기지 않는다.")
+	@Test
+	void rebuild_shouldNotLeaveTemporaryKey() {
+		// given
+		tagDictionary.rebuild();
+
+		// when
+		tagDictionary.rebuild();
+
+		// then
+		assertAll(
+			() -> assertThat(redisTemplate.keys(KEY + ":rebuild*")).isEmpty(),
+			() -> assertThat(redisTemplate.opsForHash().size(KEY)).isEqualTo(3),
+			() -> assertThat(redisTemplate.getExpire(KEY)).isEqualTo(-1)
+		);
+	}
+
+	@DisplayName("이름에 검색어가 들어간 태그 ID를 trigram 색인과 짧은 검색어 모두에서 찾는다.")
+	@Test
+	void findIdsContaining() {
+		// given
+		tagDictionary.sync();
+
+		// then
+		assertAll(
+			() -> assertThat(tagDictionary.findIdsContaining("dIS")).contains(Set.of(redisTag.getId())),
+			() -> assertThat(tagDictionary.findIdsContaining("ringbo")).contains(Set.of(springTag.getId())),
+			() -> assertThat(tagDictionary.findIdsContaining("s"))
+				.hasValueSatisfying(tagIds -> assertThat(tagIds).hasSize(2)),
+			() -> assertThat(tagDictionary.findIdsContaining("레디스"))
+				.hasValueSatisfying(tagIds -> assertThat(tagIds).hasSize(1)),
+			() -> assertThat(tagDictionary.findIdsContaining("disk"))
+				.hasValueSatisfying(tagIds -> assertThat(tagIds).isEmpty())
+		);
+	}
+
+	@DisplayName("사전을 불러오기 전에는 검색 결과가 비어 있어 호출하는 쪽이 DB로 조회한다.")
+	@Test
+	void findIdsContaining_beforeSync() {
+		// when // then
+		assertAll(
+			() -> assertThat(tagDictionary.findIdsContaining("redis")).isEmpty(),
+			() -> assertThat(tagDictionary.findId("redis")).isEmpty()
+		);
+	}
+
+	@DisplayName("대소문자만 다른 태그는 새로 만들지 않고, 새 태그는 커밋 후 사전과 Redis 해시에 추가한다.")
+	@Test
+	void saveAll() {
+		// given
+		tagDictionary.sync();
+		long tagCount = tagRepository.count();
+
+		// when
+		List<Tag> tags = tagService.saveAll(TagPostVO.builder()
+			.tagNames(List.of("redis", "Kafka", "KAFKA"))
+			.build());
+
+		// then
+		UUID kafkaTagId = tags.get(1).getId();
+		assertAll(
+			() -> assertThat(tags).extracting(Tag::getId).containsExactly(redisTag.getId(), kafkaTagId),
+			() -> assertThat(tagRepository.count()).isEqualTo(tagCount + 1),
+			() -> assertThat(tagDictionary.findId("kafka")).contains(kafkaTagId),
+			() -> assertThat(redisTemplate.opsForHash().get(KEY, kafkaTagId.toString())).isEqualTo("Kafka")
+		);
+	}
+
+	@DisplayName("Redis 해시가 만들어지기 전에 저장된 태그는 해시에 넣지 않아 일부 태그만으로 사전이 만들어지지 않는다.")
+	@Test
+	void onTagsSaved_beforeRebuild() {
+		// given
+		Tag tag = tagRepository.save(Tag.builder().name("Kafka").build());
+
+		// when
+		tagDictionary.onTagsSaved(TagSavedEvent.of(List.of(tag)));
+
+		// then
+		assertThat(redisTemplate.hasKey(KEY)).isFalse();
+	}
+
+	@DisplayName("태그 검색은 사전에서 찾은 태그 ID로 조회하고, 일치하는 태그가 여러 개인 게시글도 한 번만 반환한다.")
+	@Test
+	void likeSearch_byTagIds() {
+		// given
+		Tag redisClusterTag = tagRepository.save(Tag.builder().name("RedisCluster").build());
+		Member member = memberRepository.save(Member.builder()
+			.email("Frod@gmail.com")
+			.username("Frod")
+			.password("FrodPassword")
+			.roles(Set.of(Role.ROLE_USER))
+			.platform(Platform.SERVER)
+			.createdAt(LocalDateTime.of(2022, 2, 22, 12, 0))
+			.updatedAt(LocalDateTime.of(2022, 3, 22, 12, 0))
+			.build());
+		Folder folder = folderRepository.save(Folder.builder()
+			.id(UUID.randomUUID())
+			.member(member)
+			.title("diglog")
+			.depth(0)
+			.orderIndex(0)
+			.parentFolder(null)
+			.build());
+		Post both = savePost(member, folder, "both", List.of(redisTag, redisClusterTag));
+		Post redisOnly = savePost(member, folder, "redis only", List.of(redisTag));
+		savePost(member, folder, "spring", List.of(springTag));
+		tagDictionary.sync();
+
+		// when
+		Page<Post> posts = likePostSearchEngine.search("redis", SearchOption.TAG,
+			PageRequest.of(0, 10, Sort.by("createdAt", "id").descending()));
+		List<Post> scrolled = likePostSearchEngine.scroll("REDIS", SearchOption.TAG, null, 10);
+
+		// then
+		assertAll(
+			() -> assertThat(posts.getTotalElements()).isEqualTo(2),
+			() -> assertThat(posts.getContent()).extracting(Post::getId)
+				.containsExactly(redisOnly.getId(), both.getId()),
+			() -> assertThat(scrolled).extracting(Post::getId).containsExactly(redisOnly.getId(), both.getId())
+		);
+	}
+
+	private Post savePost(Member member, Folder folder, String title, List<Tag> tags) {
+		return postRepository.save(Post.builder()
+			.member(member)
+			.title(title)
+			.content("content")
+			.folder(folder)
+			.tags(tags)
+			.build());
+	}
+}